@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.web3j.abi.datatypes.Type;
+
+/**
+ * Ethereum Contract Application Binary Interface (ABI) decoding operating directly on the binary
+ * encoding, as an alternative to the hex {@link String} based {@link TypeDecoder}.
+ *
+ * <p>The input is read in place, 32-byte word by word, so no intermediate hex strings or byte
+ * arrays are created while walking the head and tail sections of the encoding. This makes it
+ * well-suited to decoding large arrays, or large numbers of event logs.
+ *
+ * <p>Decoding is performed by the cached {@link DecoderPlan} for the requested types.
+ */
+public class BinaryTypeDecoder {
+
+    /**
+     * Decode ABI encoded values, such as the return values of a function call or the non-indexed
+     * parameters of an event.
+     *
+     * @param input ABI encoded input
+     * @param outputParameters list of expected types as {@link TypeReference}
+     * @return {@link List} of decoded values
+     */
+    public static List<Type> decode(byte[] input, List<TypeReference<Type>> outputParameters) {
+        return DecoderPlan.of(outputParameters).decode(input);
+    }
+
+    /**
+     * Decode ABI encoded values, such as the return values of a function call or the non-indexed
+     * parameters of an event. The encoding is read from the buffer's position up to its limit,
+     * neither of which are modified.
+     *
+     * @param input ABI encoded input
+     * @param outputParameters list of expected types as {@link TypeReference}
+     * @return {@link List} of decoded values
+     */
+    public static List<Type> decode(ByteBuffer input, List<TypeReference<Type>> outputParameters) {
+        return DecoderPlan.of(outputParameters).decode(input);
+    }
+}
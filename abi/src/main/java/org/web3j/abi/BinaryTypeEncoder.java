@@ -0,0 +1,265 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.BytesType;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.NumericType;
+import org.web3j.abi.datatypes.StaticArray;
+import org.web3j.abi.datatypes.StructType;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.primitive.PrimitiveType;
+
+import static org.web3j.abi.datatypes.Type.MAX_BYTE_LENGTH;
+
+/**
+ * Ethereum Contract Application Binary Interface (ABI) encoding into a single byte array, as an
+ * alternative to the hex {@link String} based {@link TypeEncoder}.
+ *
+ * <p>The total length of the encoding is computed up front, after which the head and tail of
+ * every value are written as 32-byte words directly into their final position. No intermediate
+ * strings or byte arrays are created per value, which keeps encoding linear in the size of the
+ * output for large arrays of structs.
+ */
+public class BinaryTypeEncoder {
+
+    /**
+     * Returns the length in bytes of the ABI encoding of the given parameters.
+     *
+     * @param parameters values to encode
+     * @return encoded length in bytes
+     */
+    public static int encodedLength(List<Type> parameters) {
+        return checkedLength(tupleLength(parameters));
+    }
+
+    /**
+     * ABI encode the given parameters, as for function arguments or constructor parameters.
+     *
+     * @param parameters values to encode
+     * @return the ABI encoding
+     */
+    public static byte[] encode(List<Type> parameters) {
+        byte[] result = new byte[encodedLength(parameters)];
+        writeTuple(parameters, result, 0);
+        return result;
+    }
+
+    /**
+     * ABI encode the given parameters into the buffer, starting at its position. The position is
+     * advanced past the encoding, allowing a single buffer to be reused across calls.
+     *
+     * @param parameters values to encode
+     * @param destination buffer to write the encoding to
+     * @throws BufferOverflowException if the buffer's remaining space is insufficient
+     */
+    public static void encode(List<Type> parameters, ByteBuffer destination) {
+        int length = encodedLength(parameters);
+        if (destination.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+
+        if (destination.hasArray()) {
+            int offset = destination.arrayOffset() + destination.position();
+            byte[] data = destination.array();
+            // The buffer may hold data from an earlier use, so padding is not implicitly zero
+            Arrays.fill(data, offset, offset + length, (byte) 0);
+            writeTuple(parameters, data, offset);
+            destination.position(destination.position() + length);
+        } else {
+            destination.put(encode(parameters));
+        }
+    }
+
+    /**
+     * ABI encode a single value as it appears in the tail of a tuple, without the offset that
+     * precedes a dynamic value in the head.
+     *
+     * @param value value to encode
+     * @return the ABI encoding
+     */
+    static byte[] encodeValue(Type value) {
+        byte[] result = new byte[checkedLength(encodedLength(value))];
+        write(value, result, 0);
+        return result;
+    }
+
+    private static int checkedLength(long length) {
+        if (length > Integer.MAX_VALUE) {
+            throw new UnsupportedOperationException("Encoded parameters exceed maximum length");
+        }
+        return (int) length;
+    }
+
+    static boolean isDynamic(Type parameter) {
+        if (parameter instanceof PrimitiveType) {
+            return isDynamic(((PrimitiveType<?>) parameter).toSolidityType());
+        } else if (parameter instanceof StaticArray && !(parameter instanceof StructType)) {
+            List<?> values = ((StaticArray<?>) parameter).getValue();
+            return !values.isEmpty() && isDynamic((Type) values.get(0));
+        }
+        return parameter instanceof DynamicBytes
+                || parameter instanceof Utf8String
+                || parameter instanceof DynamicArray;
+    }
+
+    private static long tupleLength(List<? extends Type> values) {
+        long length = 0;
+        for (Type value : values) {
+            long valueLength = encodedLength(value);
+            length += isDynamic(value) ? MAX_BYTE_LENGTH + valueLength : valueLength;
+        }
+        return length;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static long encodedLength(Type value) {
+        if (value instanceof PrimitiveType) {
+            return encodedLength(((PrimitiveType<?>) value).toSolidityType());
+        } else if (value instanceof StructType || value instanceof StaticArray) {
+            return tupleLength(((List<Type>) value.getValue()));
+        } else if (value instanceof DynamicArray) {
+            return MAX_BYTE_LENGTH + tupleLength(((DynamicArray<Type>) value).getValue());
+        } else if (value instanceof DynamicBytes) {
+            return MAX_BYTE_LENGTH + paddedLength(((DynamicBytes) value).getValue().length);
+        } else if (value instanceof Utf8String) {
+            return MAX_BYTE_LENGTH + paddedLength(utf8Length(((Utf8String) value).getValue()));
+        } else if (value instanceof BytesType) {
+            return paddedLength(((BytesType) value).getValue().length);
+        } else if (value instanceof NumericType
+                || value instanceof Address
+                || value instanceof Bool) {
+            return MAX_BYTE_LENGTH;
+        } else {
+            throw new UnsupportedOperationException("Type cannot be encoded: " + value.getClass());
+        }
+    }
+
+    /**
+     * Writes the values as a tuple, with the heads of all values followed by the tails of the
+     * dynamic ones. Offsets are relative to the start of the tuple.
+     *
+     * @return position following the tuple
+     */
+    private static int writeTuple(List<? extends Type> values, byte[] data, int start) {
+        int tailOffset = start;
+        for (Type value : values) {
+            tailOffset += isDynamic(value) ? MAX_BYTE_LENGTH : (int) encodedLength(value);
+        }
+
+        int headOffset = start;
+        for (Type value : values) {
+            if (isDynamic(value)) {
+                writeLength(tailOffset - start, data, headOffset);
+                headOffset += MAX_BYTE_LENGTH;
+                tailOffset = write(value, data, tailOffset);
+            } else {
+                headOffset = write(value, data, headOffset);
+            }
+        }
+        return tailOffset;
+    }
+
+    /** @return position following the encoded value */
+    @SuppressWarnings("unchecked")
+    private static int write(Type value, byte[] data, int offset) {
+        if (value instanceof PrimitiveType) {
+            return write(((PrimitiveType<?>) value).toSolidityType(), data, offset);
+        } else if (value instanceof StructType || value instanceof StaticArray) {
+            return writeTuple((List<Type>) value.getValue(), data, offset);
+        } else if (value instanceof DynamicArray) {
+            List<Type> values = ((DynamicArray<Type>) value).getValue();
+            writeLength(values.size(), data, offset);
+            return writeTuple(values, data, offset + MAX_BYTE_LENGTH);
+        } else if (value instanceof DynamicBytes) {
+            return writeDynamicBytes(((DynamicBytes) value).getValue(), data, offset);
+        } else if (value instanceof Utf8String) {
+            byte[] bytes = ((Utf8String) value).getValue().getBytes(StandardCharsets.UTF_8);
+            return writeDynamicBytes(bytes, data, offset);
+        } else if (value instanceof BytesType) {
+            byte[] bytes = ((BytesType) value).getValue();
+            System.arraycopy(bytes, 0, data, offset, bytes.length);
+            return offset + paddedLength(bytes.length);
+        } else if (value instanceof NumericType) {
+            return writeNumeric(((NumericType) value).getValue(), data, offset);
+        } else if (value instanceof Address) {
+            return writeNumeric(((Address) value).toUint().getValue(), data, offset);
+        } else if (value instanceof Bool) {
+            data[offset + MAX_BYTE_LENGTH - 1] = (byte) (((Bool) value).getValue() ? 1 : 0);
+            return offset + MAX_BYTE_LENGTH;
+        } else {
+            throw new UnsupportedOperationException("Type cannot be encoded: " + value.getClass());
+        }
+    }
+
+    private static int writeDynamicBytes(byte[] bytes, byte[] data, int offset) {
+        writeLength(bytes.length, data, offset);
+        System.arraycopy(bytes, 0, data, offset + MAX_BYTE_LENGTH, bytes.length);
+        return offset + MAX_BYTE_LENGTH + paddedLength(bytes.length);
+    }
+
+    private static int writeNumeric(BigInteger value, byte[] data, int offset) {
+        byte[] rawValue = value.toByteArray();
+        // Unsigned 256 bit values carry an additional sign byte which is dropped
+        int length = Math.min(rawValue.length, MAX_BYTE_LENGTH);
+        int end = offset + MAX_BYTE_LENGTH;
+        if (value.signum() < 0) {
+            Arrays.fill(data, offset, end - length, (byte) 0xff);
+        }
+        System.arraycopy(rawValue, rawValue.length - length, data, end - length, length);
+        return end;
+    }
+
+    private static void writeLength(long value, byte[] data, int offset) {
+        int end = offset + MAX_BYTE_LENGTH;
+        for (int i = 1; i <= Long.BYTES; i++) {
+            data[end - i] = (byte) (value >>> ((i - 1) << 3));
+        }
+    }
+
+    private static int paddedLength(int length) {
+        return (length + MAX_BYTE_LENGTH - 1) / MAX_BYTE_LENGTH * MAX_BYTE_LENGTH;
+    }
+
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                // unpaired surrogates are replaced by a single '?' by String.getBytes
+                length += Character.isSurrogate(c) ? 1 : 3;
+            }
+        }
+        return length;
+    }
+}
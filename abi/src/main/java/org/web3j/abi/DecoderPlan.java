@@ -0,0 +1,669 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.ParameterizedType;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.web3j.abi.datatypes.AbiTypes;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Array;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.Bytes;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.DynamicStruct;
+import org.web3j.abi.datatypes.Event;
+import org.web3j.abi.datatypes.NumericType;
+import org.web3j.abi.datatypes.StaticArray;
+import org.web3j.abi.datatypes.StaticStruct;
+import org.web3j.abi.datatypes.StructType;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Ufixed;
+import org.web3j.abi.datatypes.Uint;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.Uint160;
+
+import static org.web3j.abi.TypeDecoder.getTypeLengthInBytes;
+import static org.web3j.abi.Utils.findStructConstructor;
+import static org.web3j.abi.Utils.getSimpleTypeName;
+
+/**
+ * Precompiled plan for decoding a list of ABI encoded values.
+ *
+ * <p>The {@link TypeReference}s describing the values are resolved once, when the plan is
+ * compiled, into an immutable tree holding the static sizes of each value and the constructors
+ * used to instantiate them. Decoding with a plan therefore involves no reflection over the types
+ * being decoded.
+ *
+ * <p>The compiled form of each type is cached with its {@link Class}, so {@link #of(List)} may be
+ * called for every decoding operation. Classes of the same name loaded by different class loaders
+ * are compiled separately, and their compiled forms are released along with them.
+ */
+public final class DecoderPlan {
+
+    private static final int WORD_LENGTH = Type.MAX_BYTE_LENGTH;
+
+    private static final MethodHandle LIST_TO_ARRAY;
+
+    static {
+        try {
+            LIST_TO_ARRAY =
+                    MethodHandles.publicLookup()
+                            .findVirtual(
+                                    List.class, "toArray", MethodType.methodType(Object[].class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final MethodHandle DYNAMIC_STRUCT_CONSTRUCTOR =
+            constructor(DynamicStruct.class, List.class);
+    private static final MethodHandle STATIC_STRUCT_CONSTRUCTOR =
+            constructor(StaticStruct.class, List.class);
+
+    // Types which are not arrays, and structs whose fields are those of their constructor
+    private static final ClassValue<Codec> compiled =
+            new ClassValue<Codec>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                protected Codec computeValue(Class<?> type) {
+                    return compile((Class<Type>) type);
+                }
+            };
+
+    private final List<? extends TypeReference<?>> typeReferences;
+    private final Codec[] fields;
+
+    private DecoderPlan(List<? extends TypeReference<?>> typeReferences, Codec[] fields) {
+        this.typeReferences = typeReferences;
+        this.fields = fields;
+    }
+
+    /**
+     * Returns the plan decoding the given types, compiling those which are not already cached.
+     *
+     * @param typeReferences list of types to decode as {@link TypeReference}
+     * @return plan decoding the types
+     */
+    public static DecoderPlan of(List<? extends TypeReference<?>> typeReferences) {
+        return new DecoderPlan(typeReferences, codecs(typeReferences));
+    }
+
+    /**
+     * Returns the plan decoding the non-indexed parameters of the given event.
+     *
+     * @param event to decode
+     * @return plan decoding the data of the event's logs
+     */
+    public static DecoderPlan of(Event event) {
+        return of(event.getNonIndexedParameters());
+    }
+
+    /**
+     * Decode ABI encoded values.
+     *
+     * @param input ABI encoded input
+     * @return {@link List} of decoded values
+     */
+    public List<Type> decode(byte[] input) {
+        return decodeTuple(fields, new Input(input, input.length), 0);
+    }
+
+    /**
+     * Decode ABI encoded values, read from the buffer's position up to its limit, neither of
+     * which are modified.
+     *
+     * @param input ABI encoded input
+     * @return {@link List} of decoded values
+     */
+    public List<Type> decode(ByteBuffer input) {
+        if (input.hasArray()) {
+            int offset = input.arrayOffset();
+            return decodeTuple(
+                    fields,
+                    new Input(input.array(), offset + input.limit()),
+                    offset + input.position());
+        }
+
+        byte[] data = new byte[input.remaining()];
+        input.duplicate().get(data);
+        return decode(data);
+    }
+
+    /** @return signature of the types decoded by this plan */
+    public String getSignature() {
+        return getSignature(typeReferences);
+    }
+
+    private static List<Type> decodeTuple(Codec[] codecs, Input input, int start) {
+        List<Type> values = new ArrayList<>(codecs.length);
+        int headOffset = start;
+        for (Codec codec : codecs) {
+            values.add(codec.decodeElement(input, start, headOffset));
+            headOffset += codec.headLength;
+        }
+        return values;
+    }
+
+    private static List<Type> decodeArray(Codec element, Input input, int start, int length) {
+        input.checkBounds(start, (long) length * element.headLength);
+
+        List<Type> values = new ArrayList<>(length);
+        for (int i = 0, headOffset = start; i < length; i++) {
+            values.add(element.decodeElement(input, start, headOffset));
+            headOffset += element.headLength;
+        }
+        return values;
+    }
+
+    private static String getSignature(List<? extends TypeReference<?>> typeReferences) {
+        StringBuilder signature = new StringBuilder("(");
+        for (int i = 0; i < typeReferences.size(); i++) {
+            if (i > 0) {
+                signature.append(',');
+            }
+            appendSignature(signature, typeReferences.get(i));
+        }
+        return signature.append(')').toString();
+    }
+
+    private static void appendSignature(StringBuilder signature, TypeReference<?> typeReference) {
+        Class<?> type = rawClass(typeReference);
+        signature.append(type.getName());
+
+        if (StructType.class.isAssignableFrom(type)) {
+            if (typeReference.getInnerTypes() != null) {
+                signature.append(getSignature(typeReference.getInnerTypes()));
+            }
+        } else if (Array.class.isAssignableFrom(type)) {
+            if (typeReference instanceof TypeReference.StaticArrayTypeReference) {
+                int size = ((TypeReference.StaticArrayTypeReference<?>) typeReference).getSize();
+                signature.append('[').append(size).append(']');
+            }
+            signature.append('<');
+            appendSignature(signature, getElementTypeReference(typeReference));
+            signature.append('>');
+        }
+    }
+
+    private static Codec[] codecs(List<? extends TypeReference<?>> typeReferences) {
+        Codec[] codecs = new Codec[typeReferences.size()];
+        for (int i = 0; i < codecs.length; i++) {
+            codecs[i] = codec(typeReferences.get(i));
+        }
+        return codecs;
+    }
+
+    private static Codec codec(TypeReference<?> typeReference) {
+        Class<Type> type = classType(typeReference);
+
+        // Structs are checked first as they are also arrays
+        if (StructType.class.isAssignableFrom(type)) {
+            if (typeReference.getInnerTypes() == null) {
+                return compiled.get(type);
+            }
+            return compileStruct(type, codecs(typeReference.getInnerTypes()));
+        } else if (DynamicArray.class.isAssignableFrom(type)) {
+            TypeReference<?> elementTypeReference = getElementTypeReference(typeReference);
+            return codec(elementTypeReference)
+                    .dynamicArray(componentType(classType(elementTypeReference)));
+        } else if (StaticArray.class.isAssignableFrom(type)) {
+            int length = getStaticArrayLength(typeReference, type);
+            if (length == 0) {
+                throw new UnsupportedOperationException("Zero length fixed array is invalid type");
+            }
+            return codec(getElementTypeReference(typeReference)).staticArray(length);
+        } else {
+            return compiled.get(type);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Codec compile(Class<Type> type) {
+        if (StructType.class.isAssignableFrom(type)) {
+            return compileStruct(type, codecs(getFieldTypeReferences(type)));
+        } else if (NumericType.class.isAssignableFrom(type)) {
+            Class<NumericType> numericType = (Class<NumericType>) (Class<?>) type;
+            return new NumericCodec(
+                    constructor(type, BigInteger.class),
+                    getTypeLengthInBytes(numericType),
+                    Uint.class.isAssignableFrom(type) || Ufixed.class.isAssignableFrom(type));
+        } else if (Address.class.isAssignableFrom(type)) {
+            return new AddressCodec();
+        } else if (Bool.class.isAssignableFrom(type)) {
+            return new BoolCodec();
+        } else if (Bytes.class.isAssignableFrom(type)) {
+            int length =
+                    Integer.parseInt(
+                            type.getSimpleName().substring(Bytes.class.getSimpleName().length()));
+            return new BytesCodec(constructor(type, byte[].class), length);
+        } else if (DynamicBytes.class.isAssignableFrom(type)) {
+            return new DynamicBytesCodec();
+        } else if (Utf8String.class.isAssignableFrom(type)) {
+            return new Utf8StringCodec();
+        } else {
+            throw new UnsupportedOperationException("Type cannot be decoded: " + type.getName());
+        }
+    }
+
+    private static Codec compileStruct(Class<Type> type, Codec[] fields) {
+        if (fields.length == 0) {
+            throw new UnsupportedOperationException("Zero length fixed array is invalid type");
+        }
+        return new StructCodec(
+                fields, TypeDecoder.isDynamic(type), structConstructor(type, fields.length));
+    }
+
+    private static int getStaticArrayLength(TypeReference<?> typeReference, Class<Type> type) {
+        if (typeReference instanceof TypeReference.StaticArrayTypeReference) {
+            return ((TypeReference.StaticArrayTypeReference<?>) typeReference).getSize();
+        }
+        String length = type.getSimpleName().substring(StaticArray.class.getSimpleName().length());
+        if (length.isEmpty()) {
+            throw new UnsupportedOperationException(
+                    "Unable to determine the length of " + Utils.getTypeName(typeReference));
+        }
+        return Integer.parseInt(length);
+    }
+
+    private static TypeReference<?> getElementTypeReference(TypeReference<?> typeReference) {
+        if (typeReference.getSubTypeReference() != null) {
+            return typeReference.getSubTypeReference();
+        }
+
+        java.lang.reflect.Type type = typeReference.getType();
+        if (type instanceof ParameterizedType) {
+            return typeReference(((ParameterizedType) type).getActualTypeArguments()[0]);
+        }
+        throw new UnsupportedOperationException(
+                "Unable to determine the element type of " + Utils.getTypeName(typeReference));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<TypeReference<?>> getFieldTypeReferences(Class<Type> type) {
+        Constructor<?> constructor = findStructConstructor(type);
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        java.lang.reflect.Type[] genericParameterTypes = constructor.getGenericParameterTypes();
+        List<TypeReference<?>> fields = new ArrayList<>(parameterTypes.length);
+        for (int i = 0; i < parameterTypes.length; i++) {
+            Class<Type> parameter =
+                    Utils.extractParameterFromAnnotation(constructor.getParameterAnnotations()[i]);
+            if (parameter != null && DynamicArray.class.isAssignableFrom(parameterTypes[i])) {
+                fields.add(Utils.getDynamicArrayTypeReference(parameter));
+            } else if (genericParameterTypes.length == parameterTypes.length
+                    && genericParameterTypes[i] instanceof ParameterizedType) {
+                fields.add(typeReference(genericParameterTypes[i]));
+            } else {
+                fields.add(TypeReference.create((Class<Type>) parameterTypes[i]));
+            }
+        }
+        return fields;
+    }
+
+    /** Mirrors the component type {@link TypeDecoder} assigns to decoded dynamic arrays. */
+    private static Class<? extends Type> componentType(Class<Type> elementType) {
+        if (Array.class.isAssignableFrom(elementType)) {
+            return elementType;
+        }
+        return AbiTypes.getType(getSimpleTypeName(elementType));
+    }
+
+    /** Mirrors the struct instantiation of {@link TypeDecoder}. */
+    private static MethodHandle structConstructor(Class<Type> type, int fieldCount) {
+        if (type.isAssignableFrom(DynamicStruct.class)) {
+            return DYNAMIC_STRUCT_CONSTRUCTOR;
+        } else if (type.isAssignableFrom(StaticStruct.class)) {
+            return STATIC_STRUCT_CONSTRUCTOR;
+        }
+
+        Constructor<?> structConstructor = findStructConstructor(type);
+        if (structConstructor.getParameterCount() != fieldCount) {
+            throw new UnsupportedOperationException(
+                    "Constructor of "
+                            + type.getName()
+                            + " does not accept "
+                            + fieldCount
+                            + " fields");
+        }
+        structConstructor.setAccessible(true);
+        try {
+            // Spreads the list of decoded fields over the constructor's parameters
+            MethodHandle constructor =
+                    MethodHandles.lookup()
+                            .unreflectConstructor(structConstructor)
+                            .asSpreader(Object[].class, fieldCount);
+            return MethodHandles.filterArguments(constructor, 0, LIST_TO_ARRAY)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new UnsupportedOperationException(
+                    "Unable to access constructor of " + type.getName(), e);
+        }
+    }
+
+    private static MethodHandle staticArrayConstructor(int length) {
+        try {
+            return constructor(
+                    Class.forName("org.web3j.abi.datatypes.generated.StaticArray" + length),
+                    List.class);
+        } catch (ClassNotFoundException e) {
+            throw new UnsupportedOperationException(e);
+        }
+    }
+
+    private static MethodHandle constructor(Class<?> type, Class<?> parameterType) {
+        try {
+            return MethodHandles.publicLookup()
+                    .findConstructor(type, MethodType.methodType(void.class, parameterType))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new UnsupportedOperationException(
+                    "Unable to create instance of " + type.getName(), e);
+        }
+    }
+
+    private static TypeReference<Type> typeReference(java.lang.reflect.Type type) {
+        return new TypeReference<Type>() {
+            @Override
+            public java.lang.reflect.Type getType() {
+                return type;
+            }
+        };
+    }
+
+    private static Class<?> rawClass(TypeReference<?> typeReference) {
+        java.lang.reflect.Type type = typeReference.getType();
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        } else if (type instanceof ParameterizedType
+                && ((ParameterizedType) type).getRawType() instanceof Class) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        return classType(typeReference);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<Type> classType(TypeReference<?> typeReference) {
+        // Used as is rather than by name, which may resolve to a class of another class loader
+        if (typeReference.getType() instanceof Class) {
+            return (Class<Type>) typeReference.getType();
+        }
+        try {
+            return (Class<Type>) typeReference.getClassType();
+        } catch (ClassNotFoundException e) {
+            throw new UnsupportedOperationException("Invalid class reference provided", e);
+        }
+    }
+
+    private static Type invoke(MethodHandle constructor, Object argument) {
+        try {
+            return (Type) (Object) constructor.invokeExact(argument);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UnsupportedOperationException("Unable to create instance", e);
+        }
+    }
+
+    /** ABI encoded input, read in place. */
+    private static final class Input {
+        private final byte[] data;
+        private final int end;
+
+        Input(byte[] data, int end) {
+            this.data = data;
+            this.end = end;
+        }
+
+        /** Reads a word holding an offset or a length, which must fit in an {@code int}. */
+        int readLength(int offset) {
+            checkBounds(offset, WORD_LENGTH);
+            int valueOffset = offset + WORD_LENGTH - Integer.BYTES;
+            for (int i = offset; i < valueOffset; i++) {
+                if (data[i] != 0) {
+                    throw new IllegalArgumentException("Offset or length exceeds input length");
+                }
+            }
+
+            int value =
+                    (data[valueOffset] & 0xff) << 24
+                            | (data[valueOffset + 1] & 0xff) << 16
+                            | (data[valueOffset + 2] & 0xff) << 8
+                            | (data[valueOffset + 3] & 0xff);
+            if (value < 0) {
+                throw new IllegalArgumentException("Offset or length exceeds input length");
+            }
+            return value;
+        }
+
+        void checkBounds(long offset, long length) {
+            if (offset < 0 || offset + length > end) {
+                throw new IllegalArgumentException(
+                        "ABI encoded input is too short, "
+                                + length
+                                + " bytes expected at offset "
+                                + offset);
+            }
+        }
+    }
+
+    private abstract static class Codec {
+        final boolean dynamic;
+        final int headLength;
+
+        // Arrays of this type, by component type and by length
+        private final ConcurrentMap<Class<? extends Type>, Codec> dynamicArrays =
+                new ConcurrentHashMap<>();
+        private final ConcurrentMap<Integer, Codec> staticArrays = new ConcurrentHashMap<>();
+
+        Codec(boolean dynamic, int staticLength) {
+            this.dynamic = dynamic;
+            this.headLength = dynamic ? WORD_LENGTH : staticLength;
+        }
+
+        Codec dynamicArray(Class<? extends Type> componentType) {
+            return dynamicArrays.computeIfAbsent(
+                    componentType, key -> new DynamicArrayCodec(this, key));
+        }
+
+        Codec staticArray(int length) {
+            return staticArrays.computeIfAbsent(
+                    length, key -> new StaticArrayCodec(this, key, staticArrayConstructor(key)));
+        }
+
+        Type decodeElement(Input input, int start, int headOffset) {
+            if (dynamic) {
+                return decode(input, start + input.readLength(headOffset));
+            } else {
+                return decode(input, headOffset);
+            }
+        }
+
+        abstract Type decode(Input input, int offset);
+    }
+
+    private static final class NumericCodec extends Codec {
+        private final MethodHandle constructor;
+        private final int valueLength;
+        private final boolean unsigned;
+
+        NumericCodec(MethodHandle constructor, int valueLength, boolean unsigned) {
+            super(false, WORD_LENGTH);
+            this.constructor = constructor;
+            this.valueLength = valueLength;
+            this.unsigned = unsigned;
+        }
+
+        @Override
+        Type decode(Input input, int offset) {
+            input.checkBounds(offset, WORD_LENGTH);
+            int valueOffset = offset + WORD_LENGTH - valueLength;
+            BigInteger value =
+                    unsigned
+                            ? new BigInteger(1, input.data, valueOffset, valueLength)
+                            : new BigInteger(input.data, valueOffset, valueLength);
+            return invoke(constructor, value);
+        }
+    }
+
+    private static final class AddressCodec extends Codec {
+        private static final int VALUE_LENGTH = Address.DEFAULT_LENGTH >> 3;
+
+        AddressCodec() {
+            super(false, WORD_LENGTH);
+        }
+
+        @Override
+        Type decode(Input input, int offset) {
+            input.checkBounds(offset, WORD_LENGTH);
+            int valueOffset = offset + WORD_LENGTH - VALUE_LENGTH;
+            return new Address(
+                    new Uint160(new BigInteger(1, input.data, valueOffset, VALUE_LENGTH)));
+        }
+    }
+
+    private static final class BoolCodec extends Codec {
+        BoolCodec() {
+            super(false, WORD_LENGTH);
+        }
+
+        @Override
+        Type decode(Input input, int offset) {
+            input.checkBounds(offset, WORD_LENGTH);
+            boolean value = input.data[offset + WORD_LENGTH - 1] == 1;
+            for (int i = offset; value && i < offset + WORD_LENGTH - 1; i++) {
+                value = input.data[i] == 0;
+            }
+            return new Bool(value);
+        }
+    }
+
+    private static final class BytesCodec extends Codec {
+        private final MethodHandle constructor;
+        private final int length;
+
+        BytesCodec(MethodHandle constructor, int length) {
+            super(false, WORD_LENGTH);
+            this.constructor = constructor;
+            this.length = length;
+        }
+
+        @Override
+        Type decode(Input input, int offset) {
+            input.checkBounds(offset, length);
+            return invoke(constructor, Arrays.copyOfRange(input.data, offset, offset + length));
+        }
+    }
+
+    private static final class DynamicBytesCodec extends Codec {
+        DynamicBytesCodec() {
+            super(true, WORD_LENGTH);
+        }
+
+        @Override
+        Type decode(Input input, int offset) {
+            int length = input.readLength(offset);
+            int valueOffset = offset + WORD_LENGTH;
+            input.checkBounds(valueOffset, length);
+            return new DynamicBytes(
+                    Arrays.copyOfRange(input.data, valueOffset, valueOffset + length));
+        }
+    }
+
+    private static final class Utf8StringCodec extends Codec {
+        Utf8StringCodec() {
+            super(true, WORD_LENGTH);
+        }
+
+        @Override
+        Type decode(Input input, int offset) {
+            int length = input.readLength(offset);
+            int valueOffset = offset + WORD_LENGTH;
+            input.checkBounds(valueOffset, length);
+            return new Utf8String(
+                    new String(input.data, valueOffset, length, StandardCharsets.UTF_8));
+        }
+    }
+
+    private static final class DynamicArrayCodec extends Codec {
+        private final Codec element;
+        private final Class<? extends Type> componentType;
+
+        DynamicArrayCodec(Codec element, Class<? extends Type> componentType) {
+            super(true, WORD_LENGTH);
+            this.element = element;
+            this.componentType = componentType;
+        }
+
+        @Override
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        Type decode(Input input, int offset) {
+            int length = input.readLength(offset);
+            return new DynamicArray(
+                    componentType, decodeArray(element, input, offset + WORD_LENGTH, length));
+        }
+    }
+
+    private static final class StaticArrayCodec extends Codec {
+        private final Codec element;
+        private final int length;
+        private final MethodHandle constructor;
+
+        StaticArrayCodec(Codec element, int length, MethodHandle constructor) {
+            super(element.dynamic, element.headLength * length);
+            this.element = element;
+            this.length = length;
+            this.constructor = constructor;
+        }
+
+        @Override
+        Type decode(Input input, int offset) {
+            return invoke(constructor, decodeArray(element, input, offset, length));
+        }
+    }
+
+    private static final class StructCodec extends Codec {
+        private final Codec[] fields;
+        private final MethodHandle constructor;
+
+        StructCodec(Codec[] fields, boolean dynamic, MethodHandle constructor) {
+            super(dynamic, staticLength(fields));
+            this.fields = fields;
+            this.constructor = constructor;
+        }
+
+        @Override
+        Type decode(Input input, int offset) {
+            return invoke(constructor, decodeTuple(fields, input, offset));
+        }
+
+        private static int staticLength(Codec[] fields) {
+            int length = 0;
+            for (Codec field : fields) {
+                length += field.headLength;
+            }
+            return length;
+        }
+    }
+}
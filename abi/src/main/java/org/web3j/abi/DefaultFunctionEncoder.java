@@ -12,17 +12,11 @@
  */
 package org.web3j.abi;
 
-import java.math.BigInteger;
 import java.util.List;
 
-import org.web3j.abi.datatypes.DynamicStruct;
 import org.web3j.abi.datatypes.Function;
-import org.web3j.abi.datatypes.StaticArray;
-import org.web3j.abi.datatypes.StaticStruct;
 import org.web3j.abi.datatypes.Type;
-import org.web3j.abi.datatypes.Uint;
-
-import static org.web3j.abi.Utils.staticStructNestedPublicFieldsFlatList;
+import org.web3j.utils.Numeric;
 
 public class DefaultFunctionEncoder extends FunctionEncoder {
 
@@ -60,50 +54,7 @@ public class DefaultFunctionEncoder extends FunctionEncoder {
 
     private static String encodeParameters(
             final List<Type> parameters, final StringBuilder result) {
-
-        int dynamicDataOffset = getLength(parameters) * Type.MAX_BYTE_LENGTH;
-        final StringBuilder dynamicData = new StringBuilder();
-
-        for (Type parameter : parameters) {
-            final String encodedValue = TypeEncoder.encode(parameter);
-
-            if (TypeEncoder.isDynamic(parameter)) {
-                final String encodedDataOffset =
-                        TypeEncoder.encodeNumeric(new Uint(BigInteger.valueOf(dynamicDataOffset)));
-                result.append(encodedDataOffset);
-                dynamicData.append(encodedValue);
-                dynamicDataOffset += encodedValue.length() >> 1;
-            } else {
-                result.append(encodedValue);
-            }
-        }
-        result.append(dynamicData);
-
-        return result.toString();
-    }
-
-    @SuppressWarnings("unchecked")
-    private static int getLength(final List<Type> parameters) {
-        int count = 0;
-        for (final Type type : parameters) {
-            if (type instanceof StaticArray
-                    && StaticStruct.class.isAssignableFrom(
-                            ((StaticArray) type).getComponentType())) {
-                count +=
-                        staticStructNestedPublicFieldsFlatList(
-                                                ((StaticArray) type).getComponentType())
-                                        .size()
-                                * ((StaticArray) type).getValue().size();
-            } else if (type instanceof StaticArray
-                    && DynamicStruct.class.isAssignableFrom(
-                            ((StaticArray) type).getComponentType())) {
-                count++;
-            } else if (type instanceof StaticArray) {
-                count += getLength(((StaticArray) type).getValue());
-            } else {
-                count++;
-            }
-        }
-        return count;
+        return result.append(Numeric.toHexStringNoPrefix(BinaryTypeEncoder.encode(parameters)))
+                .toString();
     }
 }
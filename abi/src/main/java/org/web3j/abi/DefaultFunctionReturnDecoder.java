@@ -12,6 +12,7 @@
  */
 package org.web3j.abi;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -53,6 +54,16 @@ public class DefaultFunctionReturnDecoder extends FunctionReturnDecoder {
         }
     }
 
+    @Override
+    protected List<Type> decodeFunctionResult(
+            ByteBuffer rawInput, List<TypeReference<Type>> outputParameters) {
+        if (!rawInput.hasRemaining()) {
+            return Collections.emptyList();
+        } else {
+            return BinaryTypeDecoder.decode(rawInput, outputParameters);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     public <T extends Type> Type decodeEventParameter(
             String rawInput, TypeReference<T> typeReference) {
@@ -63,8 +74,7 @@ public class DefaultFunctionReturnDecoder extends FunctionReturnDecoder {
             Class<T> type = typeReference.getClassType();
 
             if (Bytes.class.isAssignableFrom(type)) {
-                Class<Bytes> bytesClass = (Class<Bytes>) Class.forName(type.getName());
-                return TypeDecoder.decodeBytes(input, bytesClass);
+                return TypeDecoder.decodeBytes(input, (Class<Bytes>) (Class<?>) type);
             } else if (Array.class.isAssignableFrom(type)
                     || BytesType.class.isAssignableFrom(type)
                     || Utf8String.class.isAssignableFrom(type)) {
@@ -12,6 +12,7 @@
  */
 package org.web3j.abi;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
@@ -22,6 +23,7 @@ import org.web3j.abi.datatypes.Address;
 import org.web3j.abi.datatypes.DynamicBytes;
 import org.web3j.abi.datatypes.Type;
 import org.web3j.abi.spi.FunctionReturnDecoderProvider;
+import org.web3j.utils.Numeric;
 
 /**
  * Decodes values returned by function or event calls.
@@ -57,6 +59,35 @@ public abstract class FunctionReturnDecoder {
         return decoder.decodeFunctionResult(rawInput, outputParameters);
     }
 
+    /**
+     * Decode ABI encoded return values from smart contract function call, operating directly on
+     * the binary encoding rather than a hex string.
+     *
+     * @param rawInput ABI encoded input
+     * @param outputParameters list of return types as {@link TypeReference}
+     * @return {@link List} of values returned by function, {@link Collections#emptyList()} if
+     *     invalid response
+     * @see BinaryTypeDecoder
+     */
+    public static List<Type> decode(byte[] rawInput, List<TypeReference<Type>> outputParameters) {
+        return decode(ByteBuffer.wrap(rawInput), outputParameters);
+    }
+
+    /**
+     * Decode ABI encoded return values from smart contract function call, read from the buffer's
+     * position up to its limit.
+     *
+     * @param rawInput ABI encoded input
+     * @param outputParameters list of return types as {@link TypeReference}
+     * @return {@link List} of values returned by function, {@link Collections#emptyList()} if
+     *     invalid response
+     * @see BinaryTypeDecoder
+     */
+    public static List<Type> decode(
+            ByteBuffer rawInput, List<TypeReference<Type>> outputParameters) {
+        return decoder.decodeFunctionResult(rawInput, outputParameters);
+    }
+
     /**
      * Decode ABI encoded return value DynamicBytes from smart contract function call.
      *
@@ -111,6 +142,21 @@ public abstract class FunctionReturnDecoder {
     protected abstract List<Type> decodeFunctionResult(
             String rawInput, List<TypeReference<Type>> outputParameters);
 
+    /**
+     * Decode ABI encoded return values held in a buffer. Providers that do not override this
+     * method decode the hex encoding of the buffer contents.
+     *
+     * @param rawInput ABI encoded input
+     * @param outputParameters list of return types as {@link TypeReference}
+     * @return {@link List} of values returned by function
+     */
+    protected List<Type> decodeFunctionResult(
+            ByteBuffer rawInput, List<TypeReference<Type>> outputParameters) {
+        byte[] input = new byte[rawInput.remaining()];
+        rawInput.duplicate().get(input);
+        return decodeFunctionResult(Numeric.toHexString(input), outputParameters);
+    }
+
     protected abstract <T extends Type> Type decodeEventParameter(
             String rawInput, TypeReference<T> typeReference);
 }
@@ -14,9 +14,6 @@ package org.web3j.abi;
 
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
 
 import org.web3j.abi.datatypes.Address;
 import org.web3j.abi.datatypes.Array;
@@ -50,45 +47,18 @@ public class TypeEncoder {
     private TypeEncoder() {}
 
     static boolean isDynamic(Type parameter) {
-        return parameter instanceof DynamicBytes
-                || parameter instanceof Utf8String
-                || parameter instanceof DynamicArray
-                || (parameter instanceof StaticArray
-                        && DynamicStruct.class.isAssignableFrom(
-                                ((StaticArray) parameter).getComponentType()));
+        return BinaryTypeEncoder.isDynamic(parameter);
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * ABI encode a single value, as encoded by {@link FunctionEncoder} in the tail of the
+     * parameters. A dynamic value is not preceded by its offset.
+     *
+     * @param parameter value to encode
+     * @return hex encoding without prefix
+     */
     public static String encode(Type parameter) {
-        if (parameter instanceof NumericType) {
-            return encodeNumeric(((NumericType) parameter));
-        } else if (parameter instanceof Address) {
-            return encodeAddress((Address) parameter);
-        } else if (parameter instanceof Bool) {
-            return encodeBool((Bool) parameter);
-        } else if (parameter instanceof Bytes) {
-            return encodeBytes((Bytes) parameter);
-        } else if (parameter instanceof DynamicBytes) {
-            return encodeDynamicBytes((DynamicBytes) parameter);
-        } else if (parameter instanceof Utf8String) {
-            return encodeString((Utf8String) parameter);
-        } else if (parameter instanceof StaticArray) {
-            if (DynamicStruct.class.isAssignableFrom(
-                    ((StaticArray) parameter).getComponentType())) {
-                return encodeStaticArrayWithDynamicStruct((StaticArray) parameter);
-            } else {
-                return encodeArrayValues((StaticArray) parameter);
-            }
-        } else if (parameter instanceof DynamicStruct) {
-            return encodeDynamicStruct((DynamicStruct) parameter);
-        } else if (parameter instanceof DynamicArray) {
-            return encodeDynamicArray((DynamicArray) parameter);
-        } else if (parameter instanceof PrimitiveType) {
-            return encode(((PrimitiveType) parameter).toSolidityType());
-        } else {
-            throw new UnsupportedOperationException(
-                    "Type cannot be encoded: " + parameter.getClass());
-        }
+        return Numeric.toHexStringNoPrefix(BinaryTypeEncoder.encodeValue(parameter));
     }
 
     /**
@@ -153,26 +123,6 @@ public class TypeEncoder {
         }
     }
 
-    /**
-     * Encodes a static array containing a dynamic struct type. In this case, the array items are
-     * decoded as dynamic values and have their offsets at the beginning of the encoding. Example:
-     * For the following static array containing three elements: <code>StaticArray3</code>
-     * enc([struct1, struct2, struct2]) = offset(enc(struct1)) offset(enc(struct2))
-     * offset(enc(struct3)) enc(struct1) enc(struct2) enc(struct3)
-     *
-     * @param
-     * @return
-     */
-    private static <T extends Type> String encodeStaticArrayWithDynamicStruct(Array<T> value) {
-        String valuesOffsets = encodeDynamicsTypesArraysOffsets(value);
-        String encodedValues = encodeArrayValues(value);
-
-        StringBuilder result = new StringBuilder();
-        result.append(valuesOffsets);
-        result.append(encodedValues);
-        return result.toString();
-    }
-
     static String encodeAddress(Address address) {
         return encodeNumeric(address.toUint());
     }
@@ -264,134 +214,11 @@ public class TypeEncoder {
     }
 
     static String encodeDynamicStruct(final DynamicStruct value) {
-        String encodedValues = encodeDynamicStructValues(value);
-
-        StringBuilder result = new StringBuilder();
-        result.append(encodedValues);
-        return result.toString();
-    }
-
-    private static String encodeDynamicStructValues(final DynamicStruct value) {
-        int staticSize = 0;
-        for (int i = 0; i < value.getValue().size(); ++i) {
-            final Type type = value.getValue().get(i);
-            if (isDynamic(type)) {
-                staticSize += 32;
-            } else {
-                staticSize += type.bytes32PaddedLength();
-            }
-        }
-        int dynamicOffset = staticSize;
-        final List<String> offsetsAndStaticValues = new ArrayList<>();
-        final List<String> dynamicValues = new ArrayList<>();
-        for (int i = 0; i < value.getValue().size(); ++i) {
-            final Type type = value.getValue().get(i);
-            if (isDynamic(type)) {
-                offsetsAndStaticValues.add(
-                        Numeric.toHexStringNoPrefix(
-                                Numeric.toBytesPadded(
-                                        new BigInteger(Long.toString(dynamicOffset)),
-                                        MAX_BYTE_LENGTH)));
-                String encodedValue = encode(type);
-                dynamicValues.add(encodedValue);
-                dynamicOffset += encodedValue.length() >> 1;
-            } else {
-                offsetsAndStaticValues.add(encode(value.getValue().get(i)));
-            }
-        }
-        final List<String> data = new ArrayList<>();
-        data.addAll(offsetsAndStaticValues);
-        data.addAll(dynamicValues);
-        return String.join("", data);
+        return encode(value);
     }
 
     static <T extends Type> String encodeDynamicArray(DynamicArray<T> value) {
-        int size = value.getValue().size();
-        String encodedLength = encode(new Uint(BigInteger.valueOf(size)));
-        String valuesOffsets = encodeArrayValuesOffsets(value);
-        String encodedValues = encodeArrayValues(value);
-
-        StringBuilder result = new StringBuilder();
-        result.append(encodedLength);
-        result.append(valuesOffsets);
-        result.append(encodedValues);
-        return result.toString();
-    }
-
-    /**
-     * Encodes the array values offsets of the to be encrypted dynamic array, which are in our case
-     * the heads of the encryption. Refer to
-     *
-     * @see <a
-     *     href="https://docs.soliditylang.org/en/v0.5.3/abi-spec.html#formal-specification-of-the-encoding">encoding
-     *     formal specification</a>
-     *     <h2>Dynamic structs array encryption</h2>
-     *     <p>An array of dynamic structs (ie, structs containing dynamic datatypes) is encoded in
-     *     the following way: Considering X = [struct1, struct2] for example enc(X) = head(struct1)
-     *     head(struct2) tail(struct1) tail(struct2) with: - tail(struct1) = enc(struct1) -
-     *     tail(struct2) = enc(struct2) - head(struct1) = enc(len( head(struct1) head(struct2))) =
-     *     enc(64), because the heads are 256bits - head(struct2) = enc(len( head(struct1)
-     *     head(struct2) tail(struct1)))
-     */
-    private static <T extends Type> String encodeArrayValuesOffsets(DynamicArray<T> value) {
-        StringBuilder result = new StringBuilder();
-        boolean arrayOfBytes =
-                !value.getValue().isEmpty() && value.getValue().get(0) instanceof DynamicBytes;
-        boolean arrayOfString =
-                !value.getValue().isEmpty() && value.getValue().get(0) instanceof Utf8String;
-        boolean arrayOfDynamicStructs =
-                !value.getValue().isEmpty() && value.getValue().get(0) instanceof DynamicStruct;
-        boolean arrayOfDynamicArrays =
-                !value.getValue().isEmpty() && value.getValue().get(0) instanceof DynamicArray;
-        if (arrayOfBytes || arrayOfString) {
-            long offset = 0;
-            for (int i = 0; i < value.getValue().size(); i++) {
-                if (i == 0) {
-                    offset = value.getValue().size() * MAX_BYTE_LENGTH;
-                } else {
-                    int bytesLength =
-                            arrayOfBytes
-                                    ? ((byte[]) value.getValue().get(i - 1).getValue()).length
-                                    : ((String) value.getValue().get(i - 1).getValue()).length();
-                    int numberOfWords = (bytesLength + MAX_BYTE_LENGTH - 1) / MAX_BYTE_LENGTH;
-                    int totalBytesLength = numberOfWords * MAX_BYTE_LENGTH;
-                    offset += totalBytesLength + MAX_BYTE_LENGTH;
-                }
-                result.append(
-                        Numeric.toHexStringNoPrefix(
-                                Numeric.toBytesPadded(
-                                        new BigInteger(Long.toString(offset)), MAX_BYTE_LENGTH)));
-            }
-        } else if (arrayOfDynamicArrays || arrayOfDynamicStructs) {
-            result.append(encodeDynamicsTypesArraysOffsets(value));
-        }
-        return result.toString();
-    }
-
-    /**
-     * Encodes arrays of structs or dynamic arrays elements offsets. To be used when encoding a
-     * dynamic arrays or a static array containing dynamic structs,
-     *
-     * @param value DynamicArray or StaticArray containing dynamic structs
-     * @return encoded array offset
-     */
-    private static <T extends Type> String encodeDynamicsTypesArraysOffsets(Array<T> value) {
-        StringBuilder result = new StringBuilder();
-        long offset = value.getValue().size();
-        List<String> tailsEncoding =
-                value.getValue().stream().map(TypeEncoder::encode).collect(Collectors.toList());
-        for (int i = 0; i < value.getValue().size(); i++) {
-            if (i == 0) {
-                offset = offset * MAX_BYTE_LENGTH;
-            } else {
-                offset += tailsEncoding.get(i - 1).length() / 2;
-            }
-            result.append(
-                    Numeric.toHexStringNoPrefix(
-                            Numeric.toBytesPadded(
-                                    new BigInteger(Long.toString(offset)), MAX_BYTE_LENGTH)));
-        }
-        return result.toString();
+        return encode(value);
     }
 
     /**
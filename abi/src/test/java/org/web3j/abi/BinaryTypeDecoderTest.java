@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.Bytes4;
+import org.web3j.abi.datatypes.generated.Int64;
+import org.web3j.abi.datatypes.generated.StaticArray2;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BinaryTypeDecoderTest {
+
+    @Test
+    public void testDecodeAtomicTypes() {
+        List<Type> values =
+                Arrays.asList(
+                        new Address("0xbe5422d15f39373eb0a97ff8c10fbd0e40e29338"),
+                        new Bool(true),
+                        new Int64(-42),
+                        new Bytes4(new byte[] {1, 2, 3, 4}),
+                        new Utf8String("Hello, world!"),
+                        new DynamicBytes(new byte[] {5, 6, 7}));
+        List<TypeReference<Type>> outputParameters =
+                Utils.convert(
+                        Arrays.asList(
+                                new TypeReference<Address>() {},
+                                new TypeReference<Bool>() {},
+                                new TypeReference<Int64>() {},
+                                new TypeReference<Bytes4>() {},
+                                new TypeReference<Utf8String>() {},
+                                new TypeReference<DynamicBytes>() {}));
+
+        String encoded = FunctionEncoder.encodeConstructor(values);
+
+        assertEquals(values, BinaryTypeDecoder.decode(toBytes(encoded), outputParameters));
+        assertEquals(
+                FunctionReturnDecoder.decode(encoded, outputParameters),
+                FunctionReturnDecoder.decode(toBytes(encoded), outputParameters));
+    }
+
+    @Test
+    public void testDecodeArrays() {
+        List<Uint256> elements = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            elements.add(new Uint256(BigInteger.valueOf(i)));
+        }
+        List<Type> values =
+                Arrays.asList(
+                        new DynamicArray<>(Uint256.class, elements),
+                        new StaticArray2<>(Uint256.class, new Uint256(1), new Uint256(2)),
+                        new DynamicArray<>(
+                                Utf8String.class, new Utf8String("c"), new Utf8String("d")));
+        List<TypeReference<Type>> outputParameters =
+                Utils.convert(
+                        Arrays.asList(
+                                new TypeReference<DynamicArray<Uint256>>() {},
+                                new TypeReference<StaticArray2<Uint256>>() {},
+                                new TypeReference<DynamicArray<Utf8String>>() {}));
+
+        String encoded = FunctionEncoder.encodeConstructor(values);
+
+        assertEquals(values, BinaryTypeDecoder.decode(toBytes(encoded), outputParameters));
+    }
+
+    @Test
+    public void testDecodeStructs() {
+        AbiV2TestFixture.Nazz nazz =
+                new AbiV2TestFixture.Nazz(
+                        Collections.singletonList(
+                                new AbiV2TestFixture.Nazzy(
+                                        Arrays.asList(
+                                                new AbiV2TestFixture.Foo("a", "b"),
+                                                new AbiV2TestFixture.Foo("c", "d")))),
+                        new BigInteger("100"));
+        AbiV2TestFixture.Bar bar = new AbiV2TestFixture.Bar(BigInteger.ONE, BigInteger.TEN);
+        List<TypeReference<Type>> outputParameters = new ArrayList<>();
+        outputParameters.addAll(AbiV2TestFixture.getNazzFunction.getOutputParameters());
+        outputParameters.addAll(AbiV2TestFixture.getBarFunction.getOutputParameters());
+
+        String encoded = FunctionEncoder.encodeConstructor(Arrays.asList(nazz, bar));
+
+        assertEquals(
+                Arrays.asList(nazz, bar),
+                BinaryTypeDecoder.decode(toBytes(encoded), outputParameters));
+    }
+
+    @Test
+    public void testDecodeByteBuffer() {
+        List<TypeReference<Type>> outputParameters =
+                Utils.convert(Collections.singletonList(new TypeReference<Utf8String>() {}));
+        byte[] encoded =
+                toBytes(
+                        FunctionEncoder.encodeConstructor(
+                                Collections.singletonList(new Utf8String("web3j"))));
+        List<Type> expected = Collections.singletonList(new Utf8String("web3j"));
+
+        // encoding surrounded by unrelated data
+        ByteBuffer heapBuffer = ByteBuffer.allocate(encoded.length + 8);
+        heapBuffer.position(4);
+        heapBuffer.put(encoded).flip().position(4);
+        assertEquals(expected, BinaryTypeDecoder.decode(heapBuffer.slice(), outputParameters));
+        assertEquals(expected, BinaryTypeDecoder.decode(heapBuffer, outputParameters));
+        assertEquals(4, heapBuffer.position());
+
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(encoded.length);
+        directBuffer.put(encoded).flip();
+        assertEquals(expected, FunctionReturnDecoder.decode(directBuffer, outputParameters));
+    }
+
+    @Test
+    public void testDecodeEmptyInput() {
+        assertEquals(
+                Collections.emptyList(),
+                FunctionReturnDecoder.decode(
+                        new byte[0],
+                        Utils.convert(
+                                Collections.singletonList(new TypeReference<Uint256>() {}))));
+    }
+
+    @Test
+    public void testDecodeTruncatedInput() {
+        byte[] encoded =
+                toBytes(
+                        FunctionEncoder.encodeConstructor(
+                                Collections.singletonList(new Utf8String("web3j"))));
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        BinaryTypeDecoder.decode(
+                                Arrays.copyOf(encoded, encoded.length - 32),
+                                Utils.convert(
+                                        Collections.singletonList(
+                                                new TypeReference<Utf8String>() {}))));
+    }
+
+    private static byte[] toBytes(String encoded) {
+        return Numeric.hexStringToByteArray(encoded);
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.Bytes4;
+import org.web3j.abi.datatypes.generated.Int64;
+import org.web3j.abi.datatypes.generated.StaticArray2;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BinaryTypeEncoderTest {
+
+    @Test
+    public void testEncodeAtomicTypes() {
+        List<Type> values =
+                Arrays.asList(
+                        new Address("0xbe5422d15f39373eb0a97ff8c10fbd0e40e29338"),
+                        new Bool(true),
+                        new Int64(-42),
+                        new Uint256(new BigInteger("ff".repeat(32), 16)),
+                        new Bytes4(new byte[] {1, 2, 3, 4}),
+                        new Utf8String("Grüße 😀"),
+                        new DynamicBytes(new byte[] {5, 6, 7}));
+
+        byte[] encoded = BinaryTypeEncoder.encode(values);
+
+        assertEquals(legacyEncode(values), Numeric.toHexStringNoPrefix(encoded));
+    }
+
+    @Test
+    public void testEncodeArraysAndStructs() {
+        List<Uint256> elements = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            elements.add(new Uint256(BigInteger.valueOf(i)));
+        }
+        List<Type> values =
+                Arrays.asList(
+                        new DynamicArray<>(Uint256.class, elements),
+                        new StaticArray2<>(Uint256.class, new Uint256(1), new Uint256(2)),
+                        new DynamicArray<>(
+                                Utf8String.class, new Utf8String("c"), new Utf8String("d")),
+                        new AbiV2TestFixture.Nazz(
+                                Collections.singletonList(
+                                        new AbiV2TestFixture.Nazzy(
+                                                Arrays.asList(
+                                                        new AbiV2TestFixture.Foo("a", "b"),
+                                                        new AbiV2TestFixture.Foo("c", "d")))),
+                                new BigInteger("100")),
+                        new AbiV2TestFixture.Bar(BigInteger.ONE, BigInteger.TEN));
+
+        byte[] encoded = BinaryTypeEncoder.encode(values);
+
+        assertEquals(legacyEncode(values), Numeric.toHexStringNoPrefix(encoded));
+        assertEquals(encoded.length, BinaryTypeEncoder.encodedLength(values));
+    }
+
+    @Test
+    public void testEncodeStaticArrayOfDynamicTypes() {
+        List<Type> values =
+                Arrays.asList(
+                        new StaticArray2<>(
+                                Utf8String.class, new Utf8String("a"), new Utf8String("b")),
+                        new Utf8String("c"));
+
+        byte[] encoded = BinaryTypeEncoder.encode(values);
+
+        assertEquals(
+                "0000000000000000000000000000000000000000000000000000000000000040"
+                        + "0000000000000000000000000000000000000000000000000000000000000100"
+                        + "0000000000000000000000000000000000000000000000000000000000000040"
+                        + "0000000000000000000000000000000000000000000000000000000000000080"
+                        + "0000000000000000000000000000000000000000000000000000000000000001"
+                        + "6100000000000000000000000000000000000000000000000000000000000000"
+                        + "0000000000000000000000000000000000000000000000000000000000000001"
+                        + "6200000000000000000000000000000000000000000000000000000000000000"
+                        + "0000000000000000000000000000000000000000000000000000000000000001"
+                        + "6300000000000000000000000000000000000000000000000000000000000000",
+                Numeric.toHexStringNoPrefix(encoded));
+        assertEquals(
+                values,
+                BinaryTypeDecoder.decode(
+                        encoded,
+                        Utils.convert(
+                                Arrays.asList(
+                                        new TypeReference<StaticArray2<Utf8String>>() {},
+                                        new TypeReference<Utf8String>() {}))));
+    }
+
+    @Test
+    public void testEncodeStringArrayOffsetsInBytes() {
+        List<Type> values =
+                Collections.singletonList(
+                        new DynamicArray<>(
+                                Utf8String.class,
+                                new Utf8String("ü".repeat(20)),
+                                new Utf8String("b")));
+
+        assertEquals(
+                "0000000000000000000000000000000000000000000000000000000000000020"
+                        + "0000000000000000000000000000000000000000000000000000000000000002"
+                        + "0000000000000000000000000000000000000000000000000000000000000040"
+                        + "00000000000000000000000000000000000000000000000000000000000000a0"
+                        + "0000000000000000000000000000000000000000000000000000000000000028"
+                        + "c3bcc3bcc3bcc3bcc3bcc3bcc3bcc3bcc3bcc3bcc3bcc3bcc3bcc3bcc3bcc3bc"
+                        + "c3bcc3bcc3bcc3bc000000000000000000000000000000000000000000000000"
+                        + "0000000000000000000000000000000000000000000000000000000000000001"
+                        + "6200000000000000000000000000000000000000000000000000000000000000",
+                Numeric.toHexStringNoPrefix(BinaryTypeEncoder.encode(values)));
+    }
+
+    @Test
+    public void testEncodeIntoByteBuffer() {
+        List<Type> values = Arrays.asList(new Utf8String("web3j"), new Uint256(42));
+        byte[] expected = BinaryTypeEncoder.encode(values);
+
+        // reused buffer with stale content ahead of the encoding
+        ByteBuffer heapBuffer = ByteBuffer.allocate(expected.length + 8);
+        Arrays.fill(heapBuffer.array(), (byte) 0x7f);
+        heapBuffer.position(4);
+        BinaryTypeEncoder.encode(values, heapBuffer);
+        assertEquals(expected.length + 4, heapBuffer.position());
+        assertArrayEquals(
+                expected, Arrays.copyOfRange(heapBuffer.array(), 4, expected.length + 4));
+
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(expected.length);
+        BinaryTypeEncoder.encode(values, directBuffer);
+        directBuffer.flip();
+        byte[] written = new byte[directBuffer.remaining()];
+        directBuffer.get(written);
+        assertArrayEquals(expected, written);
+
+        assertThrows(
+                BufferOverflowException.class,
+                () -> BinaryTypeEncoder.encode(values, ByteBuffer.allocate(expected.length - 1)));
+    }
+
+    private static String legacyEncode(List<Type> values) {
+        StringBuilder heads = new StringBuilder();
+        StringBuilder tails = new StringBuilder();
+        int offset = BinaryTypeEncoder.encodedLength(values);
+        for (Type value : values) {
+            if (TypeEncoder.isDynamic(value)) {
+                offset -= TypeEncoder.encode(value).length() >> 1;
+            }
+        }
+        for (Type value : values) {
+            String encoded = TypeEncoder.encode(value);
+            if (TypeEncoder.isDynamic(value)) {
+                heads.append(TypeEncoder.encode(new Uint256(offset)));
+                tails.append(encoded);
+                offset += encoded.length() >> 1;
+            } else {
+                heads.append(encoded);
+            }
+        }
+        return heads.append(tails).toString();
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.DynamicStruct;
+import org.web3j.abi.datatypes.Event;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DecoderPlanTest {
+
+    @Test
+    public void testPlanSignature() throws ClassNotFoundException {
+        DecoderPlan plan =
+                DecoderPlan.of(
+                        Arrays.asList(
+                                new TypeReference<Address>() {},
+                                new TypeReference<DynamicArray<Uint256>>() {}));
+
+        assertEquals(
+                plan.getSignature(),
+                DecoderPlan.of(
+                                Arrays.<TypeReference<?>>asList(
+                                        TypeReference.makeTypeReference("address"),
+                                        TypeReference.makeTypeReference("uint256[]")))
+                        .getSignature());
+        assertEquals(
+                "(org.web3j.abi.datatypes.Address,"
+                        + "org.web3j.abi.datatypes.DynamicArray"
+                        + "<org.web3j.abi.datatypes.generated.Uint256>)",
+                plan.getSignature());
+    }
+
+    @Test
+    public void testStructInnerTypesArePartOfSignature() throws ClassNotFoundException {
+        DecoderPlan stringsPlan =
+                DecoderPlan.of(
+                        Collections.singletonList(
+                                dynamicStruct(
+                                        TypeReference.makeTypeReference("string"),
+                                        TypeReference.makeTypeReference("string"))));
+        DecoderPlan mixedPlan =
+                DecoderPlan.of(
+                        Collections.singletonList(
+                                dynamicStruct(
+                                        TypeReference.makeTypeReference("string"),
+                                        TypeReference.makeTypeReference("uint256"))));
+
+        assertNotEquals(stringsPlan.getSignature(), mixedPlan.getSignature());
+
+        String encoded =
+                FunctionEncoder.encodeConstructor(
+                        Collections.singletonList(
+                                new DynamicStruct(new Utf8String("id"), new Uint256(7))));
+        assertEquals(
+                Collections.singletonList(
+                        new DynamicStruct(new Utf8String("id"), new Uint256(7))),
+                mixedPlan.decode(Numeric.hexStringToByteArray(encoded)));
+    }
+
+    @Test
+    public void testEventPlanDecodesNonIndexedParameters() {
+        Event event =
+                new Event(
+                        "Transfer",
+                        Arrays.asList(
+                                new TypeReference<Address>(true) {},
+                                new TypeReference<Address>(true) {},
+                                new TypeReference<Uint256>() {}));
+
+        byte[] data =
+                Numeric.hexStringToByteArray(
+                        "0x00000000000000000000000000000000000000000000000000000000000003e8");
+
+        List<Type> values = DecoderPlan.of(event).decode(data);
+
+        assertEquals(Collections.singletonList(new Uint256(BigInteger.valueOf(1000))), values);
+    }
+
+    @Test
+    public void testDecodeStructs() {
+        AbiV2TestFixture.Nazz nazz =
+                new AbiV2TestFixture.Nazz(
+                        Collections.singletonList(
+                                new AbiV2TestFixture.Nazzy(
+                                        Arrays.asList(
+                                                new AbiV2TestFixture.Foo("a", "b"),
+                                                new AbiV2TestFixture.Foo("c", "d")))),
+                        new BigInteger("100"));
+        DecoderPlan plan = DecoderPlan.of(AbiV2TestFixture.getNazzFunction.getOutputParameters());
+
+        byte[] encoded =
+                Numeric.hexStringToByteArray(
+                        FunctionEncoder.encodeConstructor(Collections.singletonList(nazz)));
+
+        assertEquals(Collections.singletonList(nazz), plan.decode(encoded));
+        assertEquals(Collections.singletonList(nazz), plan.decode(encoded));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testClassesOfTheSameNameAreCompiledSeparately() throws Exception {
+        Class<Type> bar = (Class<Type>) (Class<?>) AbiV2TestFixture.Bar.class;
+        Class<Type> otherBar = (Class<Type>) loadSeparately(bar);
+        byte[] encoded =
+                Numeric.hexStringToByteArray(
+                        FunctionEncoder.encodeConstructor(
+                                Collections.singletonList(
+                                        new AbiV2TestFixture.Bar(
+                                                BigInteger.ONE, BigInteger.TEN))));
+
+        Type decoded =
+                DecoderPlan.of(Collections.singletonList(TypeReference.create(bar)))
+                        .decode(encoded)
+                        .get(0);
+        Type otherDecoded =
+                DecoderPlan.of(Collections.singletonList(TypeReference.create(otherBar)))
+                        .decode(encoded)
+                        .get(0);
+
+        assertSame(bar, decoded.getClass());
+        assertSame(otherBar, otherDecoded.getClass());
+        assertEquals(decoded.getValue(), otherDecoded.getValue());
+    }
+
+    @Test
+    public void testUnsupportedTypeIsRejected() {
+        assertThrows(
+                UnsupportedOperationException.class,
+                () ->
+                        DecoderPlan.of(
+                                Collections.singletonList(
+                                        new TypeReference<
+                                                org.web3j.abi.datatypes.primitive.Long>() {})));
+    }
+
+    /** Defines a copy of the class in a class loader of its own. */
+    private static Class<?> loadSeparately(Class<?> type) throws IOException {
+        byte[] bytecode;
+        try (InputStream input =
+                type.getClassLoader()
+                        .getResourceAsStream(type.getName().replace('.', '/') + ".class")) {
+            bytecode = input.readAllBytes();
+        }
+        return new ClassLoader(type.getClassLoader()) {
+            Class<?> define() {
+                return defineClass(type.getName(), bytecode, 0, bytecode.length);
+            }
+        }.define();
+    }
+
+    private static TypeReference<DynamicStruct> dynamicStruct(TypeReference<?>... innerTypes) {
+        return new TypeReference<DynamicStruct>(false, Arrays.asList(innerTypes)) {};
+    }
+}
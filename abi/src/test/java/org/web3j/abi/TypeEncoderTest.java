@@ -14,6 +14,7 @@ package org.web3j.abi;
 
 import java.math.BigInteger;
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
@@ -105,6 +106,7 @@ import org.web3j.utils.Numeric;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.web3j.abi.TypeEncoder.encode;
 
 public class TypeEncoderTest {
@@ -1179,6 +1181,26 @@ public class TypeEncoderTest {
                         + "0000000000000000000000000000000880000000000000000000000000000000"));
     }
 
+    @Test
+    public void testStaticStringsArray() {
+        StaticArray2<Utf8String> array =
+                new StaticArray2<>(Utf8String.class, new Utf8String("a"), new Utf8String("b"));
+
+        assertTrue(TypeEncoder.isDynamic(array));
+        assertEquals(
+                ("0000000000000000000000000000000000000000000000000000000000000040"
+                        + "0000000000000000000000000000000000000000000000000000000000000080"
+                        + "0000000000000000000000000000000000000000000000000000000000000001"
+                        + "6100000000000000000000000000000000000000000000000000000000000000"
+                        + "0000000000000000000000000000000000000000000000000000000000000001"
+                        + "6200000000000000000000000000000000000000000000000000000000000000"),
+                TypeEncoder.encode(array));
+        assertEquals(
+                FunctionEncoder.encodeConstructor(Collections.singletonList(array)),
+                "0000000000000000000000000000000000000000000000000000000000000020"
+                        + TypeEncoder.encode(array));
+    }
+
     @Test
     public void testDynamicArray() {
         DynamicArray<Uint> array =
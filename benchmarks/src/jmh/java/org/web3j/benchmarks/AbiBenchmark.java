@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.benchmarks;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.web3j.abi.BinaryTypeEncoder;
+import org.web3j.abi.EventEncoder;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.FunctionReturnDecoder;
+import org.web3j.abi.TypeDecoder;
+import org.web3j.abi.TypeEncoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.Event;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.utils.Numeric;
+
+/** Encoding and decoding of contract calls, return values and events. */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AbiBenchmark {
+
+    @Param({"1", "100", "10000"})
+    public int arrayLength;
+
+    private Function transfer;
+    private Event transferEvent;
+    private DynamicArray<Uint256> array;
+    private TypeReference<DynamicArray<Uint256>> arrayType;
+    private List<Type> returnValues;
+    private List<TypeReference<Type>> returnTypes;
+    private String encodedArray;
+    private String encodedReturnValues;
+    private byte[] encodedReturnBytes;
+
+    @Setup
+    public void setup() {
+        Random random = Payloads.random();
+
+        transfer =
+                new Function(
+                        "transfer",
+                        Arrays.asList(
+                                new Address(Payloads.hex(random, 20)),
+                                new Uint256(new BigInteger(256, random))),
+                        Collections.emptyList());
+        transferEvent =
+                new Event(
+                        "Transfer",
+                        Arrays.asList(
+                                new TypeReference<Address>(true) {},
+                                new TypeReference<Address>(true) {},
+                                new TypeReference<Uint256>() {}));
+
+        List<Uint256> elements = new ArrayList<>(arrayLength);
+        for (int i = 0; i < arrayLength; i++) {
+            elements.add(new Uint256(new BigInteger(256, random)));
+        }
+        array = new DynamicArray<>(Uint256.class, elements);
+        arrayType = new TypeReference<DynamicArray<Uint256>>() {};
+        encodedArray = TypeEncoder.encode(array);
+
+        returnValues =
+                Arrays.asList(
+                        new Address(Payloads.hex(random, 20)),
+                        array,
+                        new Utf8String("web3j benchmark"));
+        returnTypes =
+                Arrays.asList(
+                        cast(new TypeReference<Address>() {}),
+                        cast(arrayType),
+                        cast(new TypeReference<Utf8String>() {}));
+        encodedReturnValues = FunctionEncoder.encodeConstructor(returnValues);
+        encodedReturnBytes = Numeric.hexStringToByteArray(encodedReturnValues);
+    }
+
+    @Benchmark
+    public String encodeFunction() {
+        return FunctionEncoder.encode(transfer);
+    }
+
+    @Benchmark
+    public String encodeEvent() {
+        return EventEncoder.encode(transferEvent);
+    }
+
+    @Benchmark
+    public String encodeArray() {
+        return TypeEncoder.encode(array);
+    }
+
+    @Benchmark
+    public String encodeParameters() {
+        return FunctionEncoder.encodeConstructor(returnValues);
+    }
+
+    @Benchmark
+    public byte[] encodeParametersBinary() {
+        return BinaryTypeEncoder.encode(returnValues);
+    }
+
+    @Benchmark
+    public DynamicArray<Uint256> decodeArray() {
+        return TypeDecoder.decodeDynamicArray(encodedArray, 0, arrayType);
+    }
+
+    @Benchmark
+    public List<Type> decodeReturnValues() {
+        return FunctionReturnDecoder.decode(encodedReturnValues, returnTypes);
+    }
+
+    @Benchmark
+    public List<Type> decodeReturnValuesBinary() {
+        return FunctionReturnDecoder.decode(encodedReturnBytes, returnTypes);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TypeReference<Type> cast(TypeReference<?> typeReference) {
+        return (TypeReference<Type>) typeReference;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.benchmarks;
+
+import java.math.BigInteger;
+import java.security.SignatureException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.web3j.crypto.Hash;
+import org.web3j.crypto.Keys;
+import org.web3j.crypto.RawTransaction;
+import org.web3j.crypto.Sign;
+import org.web3j.crypto.TransactionEncoder;
+
+/** Transaction signing, public key recovery, hashing and address checksums. */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CryptoBenchmark {
+
+    private RawTransaction rawTransaction;
+    private byte[] message;
+    private Sign.SignatureData signature;
+    private String address;
+
+    @Setup
+    public void setup() {
+        rawTransaction = Payloads.rawTransaction(Payloads.random());
+        message = TransactionEncoder.encode(rawTransaction);
+        signature = Sign.signMessage(message, Payloads.CREDENTIALS.getEcKeyPair());
+        address = Payloads.CREDENTIALS.getAddress();
+    }
+
+    @Benchmark
+    public byte[] signTransaction() {
+        return TransactionEncoder.signMessage(rawTransaction, Payloads.CREDENTIALS);
+    }
+
+    @Benchmark
+    public BigInteger recoverPublicKey() throws SignatureException {
+        return Sign.signedMessageToKey(message, signature);
+    }
+
+    @Benchmark
+    public byte[] sha3() {
+        return Hash.sha3(message);
+    }
+
+    @Benchmark
+    public String toChecksumAddress() {
+        return Keys.toChecksumAddress(address);
+    }
+}
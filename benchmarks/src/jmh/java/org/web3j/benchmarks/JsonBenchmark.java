@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthLog;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/** Jackson deserialization of full block and {@code eth_getLogs} JSON-RPC responses. */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonBenchmark {
+
+    @Param({"1000", "10000"})
+    public int logCount;
+
+    private ObjectReader blockReader;
+    private ObjectReader logReader;
+    private byte[] block;
+    private byte[] logs;
+
+    @Setup
+    public void setup() {
+        ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+        blockReader = objectMapper.readerFor(EthBlock.class);
+        logReader = objectMapper.readerFor(EthLog.class);
+        block = Payloads.blockJson(Payloads.MAINNET_BLOCK_TRANSACTIONS).getBytes(UTF_8);
+        logs = Payloads.logsJson(logCount).getBytes(UTF_8);
+    }
+
+    @Benchmark
+    public EthBlock deserializeBlock() throws IOException {
+        return blockReader.readValue(block);
+    }
+
+    @Benchmark
+    public EthLog deserializeLogs() throws IOException {
+        return logReader.readValue(logs);
+    }
+}
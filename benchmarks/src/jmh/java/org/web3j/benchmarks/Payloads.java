@@ -0,0 +1,160 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.benchmarks;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.web3j.crypto.Credentials;
+import org.web3j.crypto.RawTransaction;
+import org.web3j.utils.Numeric;
+
+/**
+ * Deterministic generators for realistically sized benchmark payloads, such as full mainnet
+ * blocks and large {@code eth_getLogs} responses.
+ */
+final class Payloads {
+
+    /** Transactions in a full mainnet block with a 30M gas limit. */
+    static final int MAINNET_BLOCK_TRANSACTIONS = 250;
+
+    static final Credentials CREDENTIALS =
+            Credentials.create(
+                    "0xa392604efc2fad9c0b3da43b5f698a2e3f270f170d859912be0d54742275c5f6");
+
+    static final String TRANSFER_TOPIC =
+            "0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef";
+
+    private Payloads() {}
+
+    static Random random() {
+        return new Random(42);
+    }
+
+    static String hex(Random random, int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return Numeric.toHexString(bytes);
+    }
+
+    static String quantity(long value) {
+        return Numeric.encodeQuantity(BigInteger.valueOf(value));
+    }
+
+    static RawTransaction rawTransaction(Random random) {
+        return RawTransaction.createTransaction(
+                1L,
+                BigInteger.valueOf(random.nextInt(1_000_000)),
+                BigInteger.valueOf(100_000),
+                hex(random, 20),
+                BigInteger.valueOf(random.nextInt() & Integer.MAX_VALUE),
+                hex(random, 196),
+                BigInteger.valueOf(1_000_000_000L),
+                BigInteger.valueOf(30_000_000_000L));
+    }
+
+    /**
+     * Returns an {@code eth_getBlockByNumber} response containing full transaction objects.
+     *
+     * @param transactionCount number of transactions in the block
+     * @return JSON-RPC response
+     */
+    static String blockJson(int transactionCount) {
+        Random random = random();
+        String blockHash = hex(random, 32);
+        long blockNumber = 19_000_000L;
+
+        StringBuilder json = new StringBuilder(transactionCount * 1_200 + 2_048);
+        json.append("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{")
+                .append("\"number\":\"").append(quantity(blockNumber)).append("\",")
+                .append("\"hash\":\"").append(blockHash).append("\",")
+                .append("\"parentHash\":\"").append(hex(random, 32)).append("\",")
+                .append("\"nonce\":\"0x0000000000000000\",")
+                .append("\"sha3Uncles\":\"").append(hex(random, 32)).append("\",")
+                .append("\"logsBloom\":\"").append(hex(random, 256)).append("\",")
+                .append("\"transactionsRoot\":\"").append(hex(random, 32)).append("\",")
+                .append("\"stateRoot\":\"").append(hex(random, 32)).append("\",")
+                .append("\"receiptsRoot\":\"").append(hex(random, 32)).append("\",")
+                .append("\"miner\":\"").append(hex(random, 20)).append("\",")
+                .append("\"mixHash\":\"").append(hex(random, 32)).append("\",")
+                .append("\"difficulty\":\"0x0\",")
+                .append("\"totalDifficulty\":\"0xc70d815d562d3cfa955\",")
+                .append("\"extraData\":\"").append(hex(random, 32)).append("\",")
+                .append("\"size\":\"").append(quantity(transactionCount * 600L)).append("\",")
+                .append("\"gasLimit\":\"0x1c9c380\",")
+                .append("\"gasUsed\":\"0x1c9a6d4\",")
+                .append("\"timestamp\":\"0x65a4d2c3\",")
+                .append("\"baseFeePerGas\":\"0x6fc23ac00\",")
+                .append("\"uncles\":[],")
+                .append("\"transactions\":[");
+        for (int i = 0; i < transactionCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"blockHash\":\"").append(blockHash).append("\",")
+                    .append("\"blockNumber\":\"").append(quantity(blockNumber)).append("\",")
+                    .append("\"hash\":\"").append(hex(random, 32)).append("\",")
+                    .append("\"from\":\"").append(hex(random, 20)).append("\",")
+                    .append("\"to\":\"").append(hex(random, 20)).append("\",")
+                    .append("\"gas\":\"0x186a0\",")
+                    .append("\"gasPrice\":\"0x7a7b6ac00\",")
+                    .append("\"maxFeePerGas\":\"0x6fc23ac000\",")
+                    .append("\"maxPriorityFeePerGas\":\"0x3b9aca00\",")
+                    .append("\"input\":\"").append(hex(random, 196)).append("\",")
+                    .append("\"nonce\":\"").append(quantity(random.nextInt(100_000))).append("\",")
+                    .append("\"transactionIndex\":\"").append(quantity(i)).append("\",")
+                    .append("\"value\":\"").append(quantity(random.nextInt(1 << 30))).append("\",")
+                    .append("\"type\":\"0x2\",")
+                    .append("\"accessList\":[],")
+                    .append("\"chainId\":\"0x1\",")
+                    .append("\"v\":\"0x1\",")
+                    .append("\"r\":\"").append(hex(random, 32)).append("\",")
+                    .append("\"s\":\"").append(hex(random, 32)).append("\"}");
+        }
+        return json.append("]}}").toString();
+    }
+
+    /**
+     * Returns an {@code eth_getLogs} response of ERC-20 transfer events.
+     *
+     * @param logCount number of logs in the response
+     * @return JSON-RPC response
+     */
+    static String logsJson(int logCount) {
+        Random random = random();
+        StringBuilder json = new StringBuilder(logCount * 700 + 64);
+        json.append("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":[");
+        for (int i = 0; i < logCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"removed\":false,")
+                    .append("\"logIndex\":\"").append(quantity(i % 500)).append("\",")
+                    .append("\"transactionIndex\":\"").append(quantity(i % 250)).append("\",")
+                    .append("\"transactionHash\":\"").append(hex(random, 32)).append("\",")
+                    .append("\"blockHash\":\"").append(hex(random, 32)).append("\",")
+                    .append("\"blockNumber\":\"").append(quantity(19_000_000L + i / 500))
+                    .append("\",")
+                    .append("\"address\":\"").append(hex(random, 20)).append("\",")
+                    .append("\"data\":\"").append(hex(random, 32)).append("\",")
+                    .append("\"topics\":[\"").append(TRANSFER_TOPIC).append("\",\"")
+                    .append(Numeric.toHexStringWithPrefixZeroPadded(
+                            Numeric.toBigInt(hex(random, 20)), 64))
+                    .append("\",\"")
+                    .append(Numeric.toHexStringWithPrefixZeroPadded(
+                            Numeric.toBigInt(hex(random, 20)), 64))
+                    .append("\"]}");
+        }
+        return json.append("]}").toString();
+    }
+}
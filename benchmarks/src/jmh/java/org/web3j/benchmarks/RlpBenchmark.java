@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.web3j.crypto.TransactionEncoder;
+import org.web3j.rlp.RlpDecoder;
+import org.web3j.rlp.RlpEncoder;
+import org.web3j.rlp.RlpList;
+import org.web3j.rlp.RlpReader;
+import org.web3j.rlp.RlpString;
+import org.web3j.rlp.RlpType;
+import org.web3j.rlp.RlpWriter;
+
+/** RLP encoding and decoding of a block body sized list of signed transactions. */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RlpBenchmark {
+
+    @Param({"1", "250"})
+    public int transactionCount;
+
+    private RlpList transactions;
+    private byte[] encoded;
+
+    @Setup
+    public void setup() {
+        Random random = Payloads.random();
+        List<RlpType> values = new ArrayList<>(transactionCount);
+        for (int i = 0; i < transactionCount; i++) {
+            values.add(
+                    RlpString.create(
+                            TransactionEncoder.signMessage(
+                                    Payloads.rawTransaction(random), Payloads.CREDENTIALS)));
+        }
+        transactions = new RlpList(values);
+        encoded = RlpEncoder.encode(transactions);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return RlpEncoder.encode(transactions);
+    }
+
+    @Benchmark
+    public byte[] write() {
+        RlpWriter writer = new RlpWriter(encoded.length).startList();
+        for (RlpType transaction : transactions.getValues()) {
+            writer.writeBytes(((RlpString) transaction).getBytes());
+        }
+        return writer.endList().toByteArray();
+    }
+
+    @Benchmark
+    public RlpList decode() {
+        return RlpDecoder.decode(encoded);
+    }
+
+    @Benchmark
+    public int read() {
+        RlpReader items = RlpReader.of(encoded).readList();
+        int length = 0;
+        while (items.hasNext()) {
+            length += items.readSlice().remaining();
+        }
+        return length;
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Flowable;
+
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.websocket.events.Notification;
+
+/**
+ * {@link Web3jService} decorator that coalesces individual requests into JSON-RPC batches.
+ *
+ * <p>Requests sent through {@link #send(Request, Class)} or {@link #sendAsync(Request, Class)} are
+ * held for at most the configured batch window, or until the maximum batch size is reached, and
+ * are then sent to the underlying service as a single {@link BatchRequest}. Each caller receives
+ * the response matching its own request. Explicit batches, subscriptions and requests whose
+ * response type differs from the type declared by the request are passed straight through.
+ *
+ * <p>Any service supporting batches may be decorated, such as {@link
+ * org.web3j.protocol.http.HttpService}, {@link org.web3j.protocol.websocket.WebSocketService} or
+ * {@link org.web3j.protocol.ipc.PersistentUnixIpcService}.
+ */
+public class BatchingWeb3jService implements Web3jService {
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    public static final long DEFAULT_BATCH_WINDOW_MILLIS = 5;
+
+    private final Web3jService web3jService;
+    private final int maxBatchSize;
+    private final long batchWindowMillis;
+    private final ScheduledExecutorService executor;
+
+    private final Object lock = new Object();
+    private List<PendingRequest<?>> pendingRequests = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    public BatchingWeb3jService(Web3jService web3jService) {
+        this(web3jService, DEFAULT_MAX_BATCH_SIZE, DEFAULT_BATCH_WINDOW_MILLIS);
+    }
+
+    public BatchingWeb3jService(
+            Web3jService web3jService, int maxBatchSize, long batchWindowMillis) {
+        this(
+                web3jService,
+                maxBatchSize,
+                batchWindowMillis,
+                Executors.newSingleThreadScheduledExecutor());
+    }
+
+    public BatchingWeb3jService(
+            Web3jService web3jService,
+            int maxBatchSize,
+            long batchWindowMillis,
+            ScheduledExecutorService executor) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Maximum batch size must be at least 1");
+        }
+        this.web3jService = web3jService;
+        this.maxBatchSize = maxBatchSize;
+        this.batchWindowMillis = batchWindowMillis;
+        this.executor = executor;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        try {
+            return sendAsync(request, responseType).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted batched request", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+
+            throw new RuntimeException("Unexpected exception", e.getCause());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        // Batch responses are deserialized using the request's own response type
+        if (request.getResponseType() != responseType) {
+            return web3jService.sendAsync(request, responseType);
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        List<PendingRequest<?>> batch = null;
+
+        synchronized (lock) {
+            pendingRequests.add(new PendingRequest<>(request, result));
+            if (pendingRequests.size() >= maxBatchSize) {
+                batch = drainPendingRequests();
+            } else if (pendingRequests.size() == 1) {
+                scheduledFlush =
+                        executor.schedule(this::flush, batchWindowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (batch != null) {
+            dispatch(batch);
+        }
+        return result;
+    }
+
+    /** Send all requests currently waiting for their batch window to elapse. */
+    public void flush() {
+        List<PendingRequest<?>> batch;
+        synchronized (lock) {
+            batch = drainPendingRequests();
+        }
+        dispatch(batch);
+    }
+
+    private List<PendingRequest<?>> drainPendingRequests() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        List<PendingRequest<?>> batch = pendingRequests;
+        pendingRequests = new ArrayList<>();
+        return batch;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void dispatch(List<PendingRequest<?>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        if (batch.size() == 1) {
+            PendingRequest<?> single = batch.get(0);
+            Request request = single.getRequest();
+            CompletableFuture<Object> response =
+                    web3jService.sendAsync(request, request.getResponseType());
+            response.whenComplete(single::complete);
+            return;
+        }
+
+        BatchRequest batchRequest = new BatchRequest(web3jService);
+        batch.forEach(pending -> batchRequest.add(pending.getRequest()));
+
+        CompletableFuture<BatchResponse> response;
+        try {
+            response = web3jService.sendBatchAsync(batchRequest);
+        } catch (RuntimeException e) {
+            response = new CompletableFuture<>();
+            response.completeExceptionally(e);
+        }
+
+        response.whenComplete(
+                (batchResponse, throwable) -> {
+                    if (throwable != null) {
+                        batch.forEach(pending -> pending.complete(null, throwable));
+                    } else {
+                        completeRequests(batch, batchResponse);
+                    }
+                });
+    }
+
+    private void completeRequests(List<PendingRequest<?>> batch, BatchResponse batchResponse) {
+        List<? extends Response<?>> responses =
+                batchResponse == null ? new ArrayList<>() : batchResponse.getResponses();
+
+        // Responses are normally returned in request order, but are matched by id if they are not
+        Map<Long, Response<?>> responseForId = null;
+        for (int i = 0; i < batch.size(); i++) {
+            PendingRequest<?> pending = batch.get(i);
+            long requestId = pending.getRequest().getId();
+
+            Response<?> response = i < responses.size() ? responses.get(i) : null;
+            if (response == null || response.getId() != requestId) {
+                if (responseForId == null) {
+                    responseForId = new HashMap<>();
+                    for (Response<?> candidate : responses) {
+                        if (candidate != null) {
+                            responseForId.putIfAbsent(candidate.getId(), candidate);
+                        }
+                    }
+                }
+                response = responseForId.getOrDefault(requestId, response);
+            }
+
+            if (response != null) {
+                pending.complete(response, null);
+            } else {
+                pending.complete(
+                        null,
+                        new IOException(
+                                String.format(
+                                        "No response received in batch for request id %d",
+                                        requestId)));
+            }
+        }
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return web3jService.sendBatch(batchRequest);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return web3jService.sendBatchAsync(batchRequest);
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+        return web3jService.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        executor.shutdown();
+        web3jService.close();
+    }
+
+    private static class PendingRequest<T> {
+        private final Request<?, ? extends Response<?>> request;
+        private final CompletableFuture<T> onReply;
+
+        PendingRequest(Request<?, ? extends Response<?>> request, CompletableFuture<T> onReply) {
+            this.request = request;
+            this.onReply = onReply;
+        }
+
+        Request<?, ? extends Response<?>> getRequest() {
+            return request;
+        }
+
+        @SuppressWarnings("unchecked")
+        void complete(Object response, Throwable throwable) {
+            if (throwable != null) {
+                onReply.completeExceptionally(
+                        throwable instanceof CompletionException
+                                        && throwable.getCause() != null
+                                ? throwable.getCause()
+                                : throwable);
+            } else {
+                onReply.complete((T) response);
+            }
+        }
+    }
+}
@@ -17,8 +17,12 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import io.reactivex.Flowable;
@@ -35,10 +39,31 @@ public abstract class Service implements Web3jService {
 
     protected final ObjectMapper objectMapper;
 
+    private Executor asyncExecutor;
+
     public Service(boolean includeRawResponses) {
         objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
     }
 
+    /**
+     * Sets the executor asynchronous requests of this service are run on, instead of the shared
+     * unbounded thread pool used by {@link Async#run(Callable)}.
+     *
+     * <p>See {@link Async#virtualThreadExecutorService()} and {@link
+     * Async#boundedExecutorService(int, int, org.web3j.utils.BoundedExecutor.RejectionPolicy)}.
+     * <strong>You are responsible for terminating this executor</strong>.
+     *
+     * @param asyncExecutor executor to run asynchronous requests on, or null to use the shared
+     *     thread pool
+     */
+    public void setAsyncExecutor(Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    public Executor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
     protected abstract InputStream performIO(String payload) throws IOException;
 
     @Override
@@ -57,7 +82,7 @@ public abstract class Service implements Web3jService {
     @Override
     public <T extends Response> CompletableFuture<T> sendAsync(
             Request jsonRpc20Request, Class<T> responseType) {
-        return Async.run(() -> send(jsonRpc20Request, responseType));
+        return runAsync(() -> send(jsonRpc20Request, responseType));
     }
 
     @Override
@@ -70,26 +95,80 @@ public abstract class Service implements Web3jService {
 
         try (InputStream result = performIO(payload)) {
             if (result != null) {
-                ArrayNode nodes = (ArrayNode) objectMapper.readTree(result);
-                List<Response<?>> responses = new ArrayList<>(nodes.size());
-
-                for (int i = 0; i < nodes.size(); i++) {
-                    Request<?, ? extends Response<?>> request = batchRequest.getRequests().get(i);
-                    Response<?> response =
-                            objectMapper.treeToValue(nodes.get(i), request.getResponseType());
-                    responses.add(response);
-                }
-
-                return new BatchResponse(batchRequest.getRequests(), responses);
+                return parseBatchResponse(result, batchRequest);
             } else {
                 return null;
             }
         }
     }
 
+    /**
+     * Parses a batch response into a tree and converts each element to the response type of the
+     * request at the same position.
+     *
+     * @param result stream containing the JSON-RPC batch response
+     * @param batchRequest the batch the response belongs to
+     * @return the batch response
+     * @throws IOException if the stream could not be read or parsed
+     */
+    protected BatchResponse parseBatchResponse(InputStream result, BatchRequest batchRequest)
+            throws IOException {
+        ArrayNode nodes = (ArrayNode) objectMapper.readTree(result);
+        List<Response<?>> responses = new ArrayList<>(nodes.size());
+
+        for (int i = 0; i < nodes.size(); i++) {
+            Request<?, ? extends Response<?>> request = batchRequest.getRequests().get(i);
+            Response<?> response =
+                    objectMapper.treeToValue(nodes.get(i), request.getResponseType());
+            responses.add(response);
+        }
+
+        return new BatchResponse(batchRequest.getRequests(), responses);
+    }
+
+    /**
+     * Reads a batch response by binding each element of the top level JSON array directly to the
+     * response type of the matching request, without building an intermediate tree.
+     *
+     * @param result stream containing the JSON-RPC batch response
+     * @param batchRequest the batch the response belongs to
+     * @return the batch response
+     * @throws IOException if the stream could not be read or is not a valid batch response
+     */
+    protected BatchResponse readBatchResponse(InputStream result, BatchRequest batchRequest)
+            throws IOException {
+        List<Request<?, ? extends Response<?>>> requests = batchRequest.getRequests();
+        List<Response<?>> responses = new ArrayList<>(requests.size());
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(result)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Batch response is not a JSON array");
+            }
+
+            for (Request<?, ? extends Response<?>> request : requests) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    throw new IOException(
+                            "Batch response contains fewer entries than the "
+                                    + requests.size()
+                                    + " requested");
+                }
+                responses.add(objectMapper.readValue(parser, request.getResponseType()));
+            }
+        }
+
+        return new BatchResponse(requests, responses);
+    }
+
     @Override
     public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
-        return Async.run(() -> sendBatch(batchRequest));
+        return runAsync(() -> sendBatch(batchRequest));
+    }
+
+    protected <T> CompletableFuture<T> runAsync(Callable<T> callable) {
+        if (asyncExecutor == null) {
+            return Async.run(callable);
+        }
+        return Async.run(callable, asyncExecutor);
     }
 
     @Override
@@ -855,6 +855,18 @@ public class JsonRpc2_0Web3j implements Web3j {
                 startBlock, endBlock, fullTransactionObjects, ascending);
     }
 
+    @Override
+    public Flowable<EthBlock> replayPastBlocksFlowable(
+            DefaultBlockParameter startBlock,
+            DefaultBlockParameter endBlock,
+            boolean fullTransactionObjects,
+            boolean ascending,
+            int batchSize,
+            int parallelism) {
+        return web3jRx.replayBlocksFlowable(
+                startBlock, endBlock, fullTransactionObjects, ascending, batchSize, parallelism);
+    }
+
     @Override
     public Flowable<EthBlock> replayPastBlocksFlowable(
             DefaultBlockParameter startBlock,
@@ -14,6 +14,7 @@ package org.web3j.protocol.core;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import io.reactivex.Flowable;
 
@@ -27,9 +28,21 @@ import org.web3j.utils.Async;
 public class RemoteCall<T> {
 
     private Callable<T> callable;
+    private final Supplier<CompletableFuture<T>> asyncCallable;
 
     public RemoteCall(Callable<T> callable) {
+        this(callable, null);
+    }
+
+    /**
+     * @param callable function performing the request synchronously
+     * @param asyncCallable function performing the request without blocking the calling thread,
+     *     used by {@link #sendAsync()} instead of running the callable on the {@link Async}
+     *     executor
+     */
+    public RemoteCall(Callable<T> callable, Supplier<CompletableFuture<T>> asyncCallable) {
         this.callable = callable;
+        this.asyncCallable = asyncCallable;
     }
 
     /**
@@ -48,6 +61,9 @@ public class RemoteCall<T> {
      * @return a future containing our function
      */
     public CompletableFuture<T> sendAsync() {
+        if (asyncCallable != null) {
+            return asyncCallable.get();
+        }
         return Async.run(this::send);
     }
 
@@ -12,13 +12,17 @@
  */
 package org.web3j.protocol.core;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import org.web3j.abi.FunctionEncoder;
 import org.web3j.abi.FunctionReturnDecoder;
 import org.web3j.abi.datatypes.Function;
 import org.web3j.abi.datatypes.Type;
+import org.web3j.utils.Numeric;
 
 /**
  * A wrapper for a callable function. Can also return the raw encoded function
@@ -34,6 +38,14 @@ public class RemoteFunctionCall<T> extends RemoteCall<T> {
         this.function = function;
     }
 
+    public RemoteFunctionCall(
+            Function function,
+            Callable<T> callable,
+            Supplier<CompletableFuture<T>> asyncCallable) {
+        super(callable, asyncCallable);
+        this.function = function;
+    }
+
     /**
      * return an encoded function, so it can be manually signed and transmitted
      *
@@ -50,6 +62,10 @@ public class RemoteFunctionCall<T> extends RemoteCall<T> {
      * @return list of abi types
      */
     public List<Type> decodeFunctionResponse(String response) {
-        return FunctionReturnDecoder.decode(response, function.getOutputParameters());
+        if (response == null) {
+            return Collections.emptyList();
+        }
+        return FunctionReturnDecoder.decode(
+                Numeric.hexStringToByteArray(response), function.getOutputParameters());
     }
 }
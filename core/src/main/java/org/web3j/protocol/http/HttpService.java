@@ -16,10 +16,17 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.CipherSuite;
 import okhttp3.ConnectionSpec;
 import okhttp3.Headers;
@@ -28,10 +35,15 @@ import okhttp3.OkHttpClient;
 import okhttp3.RequestBody;
 import okhttp3.ResponseBody;
 import okhttp3.logging.HttpLoggingInterceptor;
+import okio.BufferedSink;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.web3j.protocol.Service;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
 import org.web3j.protocol.exceptions.ClientConnectionException;
 
 import static okhttp3.ConnectionSpec.CLEARTEXT;
@@ -92,12 +104,23 @@ public class HttpService extends Service {
 
     private final String url;
 
+    private final boolean includeRawResponses;
+
+    private final ObjectWriter streamingWriter;
+
+    private boolean streaming = false;
+
+    private boolean nonBlockingAsync = false;
+
     private HashMap<String, String> headers = new HashMap<>();
 
     public HttpService(String url, OkHttpClient httpClient, boolean includeRawResponses) {
         super(includeRawResponses);
         this.url = url;
         this.httpClient = httpClient;
+        this.includeRawResponses = includeRawResponses;
+        this.streamingWriter =
+                objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
 
     public HttpService(OkHttpClient httpClient, boolean includeRawResponses) {
@@ -148,33 +171,188 @@ public class HttpService extends Service {
     }
 
     @Override
-    protected InputStream performIO(String request) throws IOException {
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        if (!isStreamingActive()) {
+            return super.send(request, responseType);
+        }
+
+        return execute(
+                buildStreamingRequestBody(request),
+                responseBody -> objectMapper.readValue(responseBody.byteStream(), responseType));
+    }
 
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        if (!isStreamingActive() || batchRequest.getRequests().isEmpty()) {
+            return super.sendBatch(batchRequest);
+        }
+
+        return execute(
+                buildStreamingRequestBody(batchRequest.getRequests()),
+                responseBody -> readBatchResponse(responseBody.byteStream(), batchRequest));
+    }
+
+    @Override
+    protected InputStream performIO(String request) throws IOException {
         RequestBody requestBody = RequestBody.create(request, JSON_MEDIA_TYPE);
-        Headers headers = buildHeaders();
+        return execute(requestBody, this::buildInputStream);
+    }
 
-        okhttp3.Request httpRequest =
-                new okhttp3.Request.Builder().url(url).headers(headers).post(requestBody).build();
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        if (!nonBlockingAsync) {
+            return super.sendAsync(request, responseType);
+        }
+
+        if (isStreamingActive()) {
+            return enqueue(
+                    buildStreamingRequestBody(request),
+                    responseBody ->
+                            objectMapper.readValue(responseBody.byteStream(), responseType));
+        }
+        return enqueueJson(
+                request,
+                responseBody ->
+                        objectMapper.readValue(buildInputStream(responseBody), responseType));
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        if (!nonBlockingAsync) {
+            return super.sendBatchAsync(batchRequest);
+        }
+
+        if (batchRequest.getRequests().isEmpty()) {
+            return CompletableFuture.completedFuture(
+                    new BatchResponse(Collections.emptyList(), Collections.emptyList()));
+        }
+
+        if (isStreamingActive()) {
+            return enqueue(
+                    buildStreamingRequestBody(batchRequest.getRequests()),
+                    responseBody -> readBatchResponse(responseBody.byteStream(), batchRequest));
+        }
+        return enqueueJson(
+                batchRequest.getRequests(),
+                responseBody -> parseBatchResponse(buildInputStream(responseBody), batchRequest));
+    }
+
+    private <T> T execute(RequestBody requestBody, ResponseBodyReader<T> reader)
+            throws IOException {
+        okhttp3.Request httpRequest = buildHttpRequest(requestBody);
 
         try (okhttp3.Response response = httpClient.newCall(httpRequest).execute()) {
-            processHeaders(response.headers());
-            ResponseBody responseBody = response.body();
-            if (response.isSuccessful()) {
-                if (responseBody != null) {
-                    return buildInputStream(responseBody);
-                } else {
-                    return null;
-                }
-            } else {
-                int code = response.code();
-                String text = responseBody == null ? "N/A" : responseBody.string();
+            return readResponse(response, reader);
+        }
+    }
 
-                throw new ClientConnectionException(
-                        "Invalid response received: " + code + "; " + text);
+    private <T> CompletableFuture<T> enqueueJson(Object payload, ResponseBodyReader<T> reader) {
+        RequestBody requestBody;
+        try {
+            requestBody =
+                    RequestBody.create(objectMapper.writeValueAsString(payload), JSON_MEDIA_TYPE);
+        } catch (IOException e) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            result.completeExceptionally(e);
+            return result;
+        }
+        return enqueue(requestBody, reader);
+    }
+
+    /**
+     * Sends the request using {@link Call#enqueue(Callback)}, so no thread is blocked while
+     * waiting for the node. The response is parsed on the executor used for asynchronous
+     * requests, keeping OkHttp's dispatcher threads free to complete other calls.
+     */
+    private <T> CompletableFuture<T> enqueue(
+            RequestBody requestBody, ResponseBodyReader<T> reader) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Call call = httpClient.newCall(buildHttpRequest(requestBody));
+
+        call.enqueue(
+                new Callback() {
+                    @Override
+                    public void onFailure(Call call, IOException e) {
+                        result.completeExceptionally(e);
+                    }
+
+                    @Override
+                    public void onResponse(Call call, okhttp3.Response response) {
+                        runAsync(
+                                        () -> {
+                                            try (okhttp3.Response closeable = response) {
+                                                return readResponse(closeable, reader);
+                                            }
+                                        })
+                                .whenComplete(
+                                        (value, throwable) -> {
+                                            if (throwable instanceof RejectedExecutionException) {
+                                                // the task did not run to close the response
+                                                response.close();
+                                            }
+                                            if (throwable != null) {
+                                                result.completeExceptionally(throwable);
+                                            } else {
+                                                result.complete(value);
+                                            }
+                                        });
+                    }
+                });
+
+        result.whenComplete(
+                (value, throwable) -> {
+                    if (result.isCancelled()) {
+                        call.cancel();
+                    }
+                });
+        return result;
+    }
+
+    private okhttp3.Request buildHttpRequest(RequestBody requestBody) {
+        Headers headers = buildHeaders();
+
+        return new okhttp3.Request.Builder().url(url).headers(headers).post(requestBody).build();
+    }
+
+    private <T> T readResponse(okhttp3.Response response, ResponseBodyReader<T> reader)
+            throws IOException {
+        processHeaders(response.headers());
+        ResponseBody responseBody = response.body();
+        if (response.isSuccessful()) {
+            if (responseBody != null) {
+                return reader.read(responseBody);
+            } else {
+                return null;
             }
+        } else {
+            int code = response.code();
+            String text = responseBody == null ? "N/A" : responseBody.string();
+
+            throw new ClientConnectionException(
+                    "Invalid response received: " + code + "; " + text);
         }
     }
 
+    /**
+     * Creates a request body that serializes the payload straight into the connection sink, so
+     * no intermediate JSON string is built. The body has no known length and is therefore sent
+     * using chunked transfer encoding.
+     */
+    private RequestBody buildStreamingRequestBody(Object payload) {
+        return new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return JSON_MEDIA_TYPE;
+            }
+
+            @Override
+            public void writeTo(BufferedSink sink) throws IOException {
+                streamingWriter.writeValue(sink.outputStream(), payload);
+            }
+        };
+    }
+
     protected void processHeaders(Headers headers) {
         // Default implementation is empty
     }
@@ -183,6 +361,10 @@ public class HttpService extends Service {
         return new ByteArrayInputStream(responseBody.bytes());
     }
 
+    private boolean isStreamingActive() {
+        return streaming && !includeRawResponses;
+    }
+
     private Headers buildHeaders() {
         return Headers.of(headers);
     }
@@ -203,6 +385,69 @@ public class HttpService extends Service {
         return url;
     }
 
+    /**
+     * Enables or disables streaming mode. In streaming mode requests are serialized directly into
+     * the HTTP request body and responses are parsed directly from the HTTP response body, instead
+     * of being buffered in full as a {@link String} or byte array first. This keeps memory usage
+     * flat when decoding large payloads such as full blocks or log queries.
+     *
+     * <p>Streaming is ignored when raw responses are included, as capturing the raw response
+     * requires the complete body to be buffered.
+     *
+     * @param streaming true to enable streaming mode
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Enables or disables non-blocking asynchronous requests. When enabled, {@link
+     * #sendAsync(Request, Class)} and {@link #sendBatchAsync(BatchRequest)} hand requests to
+     * OkHttp's {@link okhttp3.Dispatcher} instead of blocking a thread for the whole round-trip.
+     * Calls exceeding the dispatcher's limits wait in its queue without holding a thread, see
+     * {@link #setMaxRequests(int)} and {@link #setMaxRequestsPerHost(int)}.
+     *
+     * @param nonBlockingAsync true to enable non-blocking asynchronous requests
+     */
+    public void setNonBlockingAsync(boolean nonBlockingAsync) {
+        this.nonBlockingAsync = nonBlockingAsync;
+    }
+
+    public boolean isNonBlockingAsync() {
+        return nonBlockingAsync;
+    }
+
+    /**
+     * Sets the maximum number of non-blocking asynchronous requests executing concurrently. This
+     * updates the dispatcher of the underlying {@link OkHttpClient}, which is shared with any
+     * client created from it.
+     *
+     * @param maxRequests maximum number of concurrent requests
+     */
+    public void setMaxRequests(int maxRequests) {
+        httpClient.dispatcher().setMaxRequests(maxRequests);
+    }
+
+    /**
+     * Sets the maximum number of non-blocking asynchronous requests executing concurrently for
+     * each host. OkHttp defaults to 5. This updates the dispatcher of the underlying {@link
+     * OkHttpClient}, which is shared with any client created from it.
+     *
+     * @param maxRequestsPerHost maximum number of concurrent requests per host
+     */
+    public void setMaxRequestsPerHost(int maxRequestsPerHost) {
+        httpClient.dispatcher().setMaxRequestsPerHost(maxRequestsPerHost);
+    }
+
     @Override
     public void close() throws IOException {}
+
+    @FunctionalInterface
+    private interface ResponseBodyReader<T> {
+        T read(ResponseBody responseBody) throws IOException;
+    }
 }
@@ -0,0 +1,626 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.ipc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.subjects.BehaviorSubject;
+import jnr.unixsocket.UnixSocketAddress;
+import jnr.unixsocket.UnixSocketChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthSubscribe;
+import org.web3j.protocol.core.methods.response.EthUnsubscribe;
+import org.web3j.protocol.websocket.events.Notification;
+
+/**
+ * Unix domain socket service that keeps a single connection open for its whole lifetime.
+ *
+ * <p>Unlike {@link UnixIpcService}, which opens a new socket for every request, requests are
+ * written to one long-lived connection without waiting for earlier replies. A dedicated reader
+ * thread matches replies to their requests by id as they arrive, in the same way as {@link
+ * org.web3j.protocol.websocket.WebSocketService}. This also allows subscribing to notifications
+ * via {@link #subscribe(Request, String, Class)}.
+ *
+ * <p>{@link #connect()} must be called before sending any requests.
+ */
+public class PersistentUnixIpcService implements Web3jService {
+
+    private static final Logger log = LoggerFactory.getLogger(PersistentUnixIpcService.class);
+
+    // Timeout for JSON-RPC requests
+    static final long REQUEST_TIMEOUT = 60;
+
+    private final String ipcSocketPath;
+    // Executor to schedule request timeouts
+    private final ScheduledExecutorService executor;
+    private final ObjectMapper objectMapper;
+
+    private final Object writeLock = new Object();
+
+    private UnixSocketChannel channel;
+    private InputStream input;
+    private OutputStream output;
+    private volatile boolean closed;
+
+    // Map of a sent request id to objects necessary to process this request. Every request of a
+    // batch is registered with the same pending batch.
+    private final Map<Long, PendingRequest<?>> requestForId = new ConcurrentHashMap<>();
+    // Map of a sent subscription request id to the subscription awaiting its id
+    private final Map<Long, IpcSubscription<?>> subscriptionRequestForId =
+            new ConcurrentHashMap<>();
+    // Map of a subscription id to objects necessary to process incoming events
+    private final Map<String, IpcSubscription<?>> subscriptionForId = new ConcurrentHashMap<>();
+
+    public PersistentUnixIpcService(String ipcSocketPath) {
+        this(ipcSocketPath, false);
+    }
+
+    public PersistentUnixIpcService(String ipcSocketPath, boolean includeRawResponses) {
+        this(ipcSocketPath, createExecutor(), includeRawResponses);
+    }
+
+    private PersistentUnixIpcService(
+            String ipcSocketPath,
+            ScheduledExecutorService executor,
+            boolean includeRawResponses) {
+        this.ipcSocketPath = ipcSocketPath;
+        this.executor = executor;
+        this.objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
+    }
+
+    PersistentUnixIpcService(
+            InputStream input,
+            OutputStream output,
+            ScheduledExecutorService executor,
+            boolean includeRawResponses) {
+        this(null, executor, includeRawResponses);
+        this.input = input;
+        this.output = output;
+    }
+
+    private static ScheduledExecutorService createExecutor() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    /**
+     * Open the connection to the IPC socket and start reading replies from it.
+     *
+     * @throws ConnectException thrown if the IPC socket cannot be opened
+     */
+    public void connect() throws ConnectException {
+        if (ipcSocketPath != null) {
+            try {
+                channel = UnixSocketChannel.open(new UnixSocketAddress(ipcSocketPath));
+            } catch (IOException e) {
+                ConnectException exception =
+                        new ConnectException("Failed to connect to IPC socket: " + ipcSocketPath);
+                exception.initCause(e);
+                throw exception;
+            }
+            input = new ChannelInputStream(channel);
+            output = new ChannelOutputStream(channel);
+        }
+
+        Thread reader = new Thread(this::readMessages, "web3j-ipc-reader");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        try {
+            return sendAsync(request, responseType).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted IPC request", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+
+            throw new RuntimeException("Unexpected exception", e.getCause());
+        }
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        long requestId = request.getId();
+        PendingRequest<T> pending = new PendingRequest<>(result, responseType);
+        requestForId.put(requestId, pending);
+
+        try {
+            write(objectMapper.writeValueAsBytes(request));
+            setRequestTimeout(requestId, pending);
+        } catch (IOException e) {
+            closeRequest(requestId, e);
+        }
+
+        return result;
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        try {
+            return sendBatchAsync(batchRequest).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted IPC batch requests", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+
+            throw new RuntimeException("Unexpected exception", e.getCause());
+        }
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        List<Request<?, ? extends Response<?>>> requests = batchRequest.getRequests();
+        if (requests.isEmpty()) {
+            return CompletableFuture.completedFuture(
+                    new BatchResponse(Collections.emptyList(), Collections.emptyList()));
+        }
+
+        CompletableFuture<BatchResponse> result = new CompletableFuture<>();
+        PendingBatch pending = new PendingBatch(result, requests);
+        for (Request<?, ? extends Response<?>> request : requests) {
+            requestForId.put(request.getId(), pending);
+        }
+
+        long requestId = requests.get(0).getId();
+        try {
+            write(objectMapper.writeValueAsBytes(requests));
+            setRequestTimeout(requestId, pending);
+        } catch (IOException e) {
+            closeRequest(requestId, e);
+        }
+
+        return result;
+    }
+
+    private void write(byte[] payload) throws IOException {
+        if (closed || output == null) {
+            throw new IOException("IPC connection is not open");
+        }
+
+        synchronized (writeLock) {
+            output.write(payload);
+            output.write('\n');
+            output.flush();
+        }
+    }
+
+    private void setRequestTimeout(long requestId, PendingRequest<?> pending) {
+        ScheduledFuture<?> timeout =
+                executor.schedule(
+                        () ->
+                                closeRequest(
+                                        requestId,
+                                        new IOException(
+                                                String.format(
+                                                        "Request with id %d timed out",
+                                                        requestId))),
+                        REQUEST_TIMEOUT,
+                        TimeUnit.SECONDS);
+        if (timeout != null) {
+            pending.getOnReply().whenComplete((reply, throwable) -> timeout.cancel(false));
+        }
+    }
+
+    void closeRequest(long requestId, Exception e) {
+        PendingRequest<?> pending = requestForId.get(requestId);
+        if (pending != null) {
+            removeRequest(requestId, pending);
+            pending.getOnReply().completeExceptionally(e);
+        }
+    }
+
+    private void removeRequest(long requestId, PendingRequest<?> pending) {
+        if (pending instanceof PendingBatch) {
+            for (Request<?, ? extends Response<?>> request :
+                    ((PendingBatch) pending).getRequests()) {
+                requestForId.remove(request.getId(), pending);
+            }
+        } else {
+            requestForId.remove(requestId, pending);
+        }
+    }
+
+    private void readMessages() {
+        // Messages are read as a sequence of root level JSON values, so no delimiter between
+        // them is required and a message may span any number of reads
+        try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            while (parser.nextToken() != null) {
+                JsonNode message = objectMapper.readTree(parser);
+                try {
+                    onMessage(message);
+                } catch (Exception e) {
+                    log.error("Failed to process IPC message '{}'", message, e);
+                }
+            }
+        } catch (Exception e) {
+            if (!closed) {
+                log.error("IPC connection to {} failed", ipcSocketPath, e);
+            }
+        } finally {
+            onConnectionClosed();
+        }
+    }
+
+    void onMessage(JsonNode message) throws IOException {
+        log.debug("<< {}", message);
+
+        if (message.isArray()) {
+            processBatchReply(message);
+        } else if (message.has("id")) {
+            processReply(message);
+        } else if (message.has("method")) {
+            processSubscriptionEvent(message);
+        } else {
+            throw new IOException("Unknown message type");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void processReply(JsonNode replyJson) {
+        long replyId = replyJson.get("id").asLong();
+        PendingRequest<Object> pending = (PendingRequest<Object>) requestForId.get(replyId);
+        if (pending == null) {
+            log.warn("Received reply for unexpected request id: {}", replyId);
+            return;
+        }
+        removeRequest(replyId, pending);
+
+        try {
+            Object reply = objectMapper.convertValue(replyJson, pending.getResponseType());
+            // Subscriptions are established on the reader thread, so that no event can be read
+            // before its subscription is known.
+            if (reply instanceof EthSubscribe) {
+                processSubscriptionResponse(replyId, (EthSubscribe) reply);
+            }
+
+            pending.getOnReply().complete(reply);
+        } catch (Exception e) {
+            pending.getOnReply()
+                    .completeExceptionally(
+                            new IOException(
+                                    String.format(
+                                            "Failed to parse '%s' as type %s",
+                                            replyJson, pending.getResponseType()),
+                                    e));
+        }
+    }
+
+    private void processBatchReply(JsonNode replyJson) {
+        if (replyJson.size() == 0) {
+            log.warn("Received empty batch reply");
+            return;
+        }
+
+        long replyId = replyJson.get(0).path("id").asLong();
+        PendingRequest<?> pending = requestForId.get(replyId);
+        if (!(pending instanceof PendingBatch)) {
+            log.warn("Received batch reply for unexpected request id: {}", replyId);
+            return;
+        }
+        PendingBatch batch = (PendingBatch) pending;
+        removeRequest(replyId, batch);
+
+        try {
+            // Replies to a batch may arrive in any order, so they are matched by id
+            List<Request<?, ? extends Response<?>>> requests = batch.getRequests();
+            Map<Long, Integer> indexForId = new HashMap<>();
+            for (int i = 0; i < requests.size(); i++) {
+                indexForId.put(requests.get(i).getId(), i);
+            }
+
+            Response<?>[] responses = new Response<?>[requests.size()];
+            for (JsonNode element : replyJson) {
+                Integer index = indexForId.get(element.path("id").asLong());
+                if (index != null) {
+                    responses[index] =
+                            objectMapper.convertValue(
+                                    element, requests.get(index).getResponseType());
+                }
+            }
+
+            batch.getOnReply().complete(new BatchResponse(requests, Arrays.asList(responses)));
+        } catch (Exception e) {
+            batch.getOnReply()
+                    .completeExceptionally(
+                            new IOException(
+                                    String.format("Failed to parse batch reply '%s'", replyJson),
+                                    e));
+        }
+    }
+
+    private void processSubscriptionResponse(long replyId, EthSubscribe reply) {
+        IpcSubscription<?> subscription = subscriptionRequestForId.remove(replyId);
+        if (subscription == null) {
+            return;
+        }
+
+        if (!reply.hasError()) {
+            log.debug("Subscribed to RPC events with id {}", reply.getSubscriptionId());
+            subscriptionForId.put(reply.getSubscriptionId(), subscription);
+        } else {
+            Response.Error error = reply.getError();
+            log.error("Subscription request returned error: {}", error.getMessage());
+            subscription
+                    .getSubject()
+                    .onError(
+                            new IOException(
+                                    String.format(
+                                            "Subscription request failed with error: %s",
+                                            error.getMessage())));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void processSubscriptionEvent(JsonNode eventJson) {
+        String subscriptionId = eventJson.path("params").path("subscription").asText();
+        IpcSubscription<Object> subscription =
+                (IpcSubscription<Object>) subscriptionForId.get(subscriptionId);
+
+        if (subscription != null) {
+            Object event = objectMapper.convertValue(eventJson, subscription.getResponseType());
+            subscription.getSubject().onNext(event);
+        } else {
+            log.warn("No subscriber for IPC event with subscription id {}", subscriptionId);
+        }
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+        // A BehaviorSubject preserves an error raised before a client has subscribed
+        BehaviorSubject<T> subject = BehaviorSubject.create();
+        IpcSubscription<T> subscription = new IpcSubscription<>(subject, responseType);
+
+        // Subscribe synchronously, so that a client cannot dispose the subscription before its
+        // id is known
+        subscriptionRequestForId.put(request.getId(), subscription);
+        try {
+            send(request, EthSubscribe.class);
+        } catch (IOException e) {
+            log.error("Failed to subscribe to RPC events with request id {}", request.getId());
+            subscriptionRequestForId.remove(request.getId());
+            subject.onError(e);
+        }
+
+        return subject.doOnDispose(() -> closeSubscription(subscription, unsubscribeMethod))
+                .toFlowable(BackpressureStrategy.BUFFER);
+    }
+
+    private void closeSubscription(IpcSubscription<?> subscription, String unsubscribeMethod) {
+        String subscriptionId =
+                subscriptionForId.entrySet().stream()
+                        .filter(entry -> entry.getValue() == subscription)
+                        .map(Map.Entry::getKey)
+                        .findFirst()
+                        .orElse(null);
+
+        if (subscriptionId == null) {
+            log.warn("Trying to unsubscribe from a non-existing subscription. Race condition?");
+            return;
+        }
+
+        subscriptionForId.remove(subscriptionId);
+        Request<String, EthUnsubscribe> unsubscribeRequest =
+                new Request<>(
+                        unsubscribeMethod,
+                        Collections.singletonList(subscriptionId),
+                        this,
+                        EthUnsubscribe.class);
+        sendAsync(unsubscribeRequest, EthUnsubscribe.class)
+                .thenAccept(
+                        ethUnsubscribe ->
+                                log.debug(
+                                        "Successfully unsubscribed from subscription with id {}",
+                                        subscriptionId))
+                .exceptionally(
+                        throwable -> {
+                            log.error(
+                                    "Failed to unsubscribe from subscription with id {}",
+                                    subscriptionId);
+                            return null;
+                        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        try {
+            if (channel != null) {
+                channel.close();
+            } else if (input != null) {
+                input.close();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    void onConnectionClosed() {
+        List<PendingRequest<?>> pending = new ArrayList<>(requestForId.values());
+        requestForId.clear();
+        pending.forEach(
+                request ->
+                        request.getOnReply()
+                                .completeExceptionally(new IOException("Connection was closed")));
+
+        subscriptionRequestForId.clear();
+        List<IpcSubscription<?>> subscriptions = new ArrayList<>(subscriptionForId.values());
+        subscriptionForId.clear();
+        subscriptions.forEach(
+                subscription ->
+                        subscription
+                                .getSubject()
+                                .onError(new IOException("Connection was closed")));
+    }
+
+    // Method visible for unit-tests
+    boolean isWaitingForReply(long requestId) {
+        return requestForId.containsKey(requestId);
+    }
+
+    private static class PendingRequest<T> {
+        private final CompletableFuture<T> onReply;
+        private final Class<T> responseType;
+
+        PendingRequest(CompletableFuture<T> onReply, Class<T> responseType) {
+            this.onReply = onReply;
+            this.responseType = responseType;
+        }
+
+        CompletableFuture<T> getOnReply() {
+            return onReply;
+        }
+
+        Class<T> getResponseType() {
+            return responseType;
+        }
+    }
+
+    private static class PendingBatch extends PendingRequest<BatchResponse> {
+        private final List<Request<?, ? extends Response<?>>> requests;
+
+        PendingBatch(
+                CompletableFuture<BatchResponse> onReply,
+                List<Request<?, ? extends Response<?>>> requests) {
+            super(onReply, BatchResponse.class);
+            this.requests = requests;
+        }
+
+        List<Request<?, ? extends Response<?>>> getRequests() {
+            return requests;
+        }
+    }
+
+    private static class IpcSubscription<T> {
+        private final BehaviorSubject<T> subject;
+        private final Class<T> responseType;
+
+        IpcSubscription(BehaviorSubject<T> subject, Class<T> responseType) {
+            this.subject = subject;
+            this.responseType = responseType;
+        }
+
+        BehaviorSubject<T> getSubject() {
+            return subject;
+        }
+
+        Class<T> getResponseType() {
+            return responseType;
+        }
+    }
+
+    /**
+     * Reads directly from the channel. {@link java.nio.channels.Channels#newInputStream} holds the
+     * channel's blocking lock while reading, which would block concurrent writes.
+     */
+    private static class ChannelInputStream extends InputStream {
+        private final UnixSocketChannel channel;
+
+        ChannelInputStream(UnixSocketChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+            int read;
+            do {
+                read = channel.read(buffer);
+            } while (read == 0);
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /** Writes directly to the channel, see {@link ChannelInputStream}. */
+    private static class ChannelOutputStream extends OutputStream {
+        private final UnixSocketChannel channel;
+
+        ChannelOutputStream(UnixSocketChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
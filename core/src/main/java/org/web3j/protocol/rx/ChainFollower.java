@@ -0,0 +1,290 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import io.reactivex.Flowable;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+
+/**
+ * Follows the head of the canonical chain, detecting reorganisations from block parent hashes.
+ *
+ * <p>The most recent blocks are kept in memory. When a new head does not extend the known chain,
+ * its ancestors are retrieved until one is found in memory, the blocks above that ancestor are
+ * rolled back, and the blocks of the new branch are added. Each change is emitted as an {@link
+ * Event}, with the logs of the block matching an optional filter. Logs of rolled back blocks are
+ * emitted again with {@link Log#isRemoved()} set.
+ *
+ * <p>A block is confirmed once the given number of blocks have been added on top of it. A
+ * confirmed block is never rolled back; a reorganisation replacing one fails the {@link Flowable}.
+ */
+public class ChainFollower {
+
+    private final Web3j web3j;
+    private final EthFilter logFilter;
+    private final int confirmations;
+    private LogsBloomFilter logsBloomFilter;
+
+    /**
+     * Creates a follower of blocks only.
+     *
+     * @param web3j client to retrieve blocks with
+     * @param confirmations number of blocks added on top of a block before it is confirmed
+     */
+    public ChainFollower(Web3j web3j, int confirmations) {
+        this(web3j, null, confirmations);
+    }
+
+    /**
+     * Creates a follower of blocks and the logs within them matching a filter. The block range of
+     * the filter is ignored.
+     *
+     * @param web3j client to retrieve blocks and logs with
+     * @param logFilter addresses and topics of the logs to emit, or null for none
+     * @param confirmations number of blocks added on top of a block before it is confirmed
+     */
+    public ChainFollower(Web3j web3j, EthFilter logFilter, int confirmations) {
+        if (confirmations < 0) {
+            throw new IllegalArgumentException("Confirmations must not be negative");
+        }
+        this.web3j = web3j;
+        this.logFilter = logFilter;
+        this.confirmations = confirmations;
+    }
+
+    /**
+     * Skips retrieving logs of blocks whose logs bloom shows that they contain no log matching the
+     * filter. Disabled by default, as some nodes and chains return empty blooms for blocks with
+     * logs.
+     *
+     * @param useLogsBloom whether to screen blocks with their logs bloom
+     * @return this follower
+     */
+    public ChainFollower useLogsBloom(boolean useLogsBloom) {
+        this.logsBloomFilter =
+                useLogsBloom && logFilter != null ? new LogsBloomFilter(logFilter) : null;
+        return this;
+    }
+
+    /**
+     * Follows the chain using the client's block Flowable.
+     *
+     * @return a {@link Flowable} instance emitting chain events
+     */
+    public Flowable<Event> flowable() {
+        return follow(web3j.blockFlowable(false).map(EthBlock::getBlock));
+    }
+
+    /**
+     * Follows the chain from the given head blocks. Heads may skip blocks or belong to different
+     * branches. They are processed one at a time, retrieving blocks and logs synchronously.
+     *
+     * @param heads new head blocks
+     * @return a {@link Flowable} instance emitting chain events
+     */
+    public Flowable<Event> follow(Flowable<EthBlock.Block> heads) {
+        return Flowable.defer(
+                () -> {
+                    Chain chain = new Chain();
+                    return heads.concatMapIterable(chain::onHead);
+                });
+    }
+
+    private EthBlock.Block getBlock(String hash) throws IOException {
+        EthBlock.Block block = web3j.ethGetBlockByHash(hash, false).send().getBlock();
+        if (block == null) {
+            throw new IOException("Block not found: " + hash);
+        }
+        return block;
+    }
+
+    private List<Log> getLogs(EthBlock.Block block) throws IOException {
+        if (logFilter == null
+                || (logsBloomFilter != null && !logsBloomFilter.mightMatch(block))) {
+            return Collections.emptyList();
+        }
+        EthFilter blockFilter = new EthFilter(block.getHash(), logFilter.getAddress());
+        blockFilter.getTopics().addAll(logFilter.getTopics());
+
+        EthLog ethLog = web3j.ethGetLogs(blockFilter).send();
+        if (ethLog.hasError()) {
+            throw new IOException(
+                    "Failed to retrieve logs of block "
+                            + block.getHash()
+                            + ": "
+                            + ethLog.getError().getMessage());
+        }
+        List<Log> logs = new ArrayList<>(ethLog.getLogs().size());
+        for (EthLog.LogResult<?> result : ethLog.getLogs()) {
+            logs.add((Log) result.get());
+        }
+        return logs;
+    }
+
+    private static Log removed(Log log) {
+        return new Log(
+                true,
+                log.getLogIndexRaw(),
+                log.getTransactionIndexRaw(),
+                log.getTransactionHash(),
+                log.getBlockHash(),
+                log.getBlockNumberRaw(),
+                log.getAddress(),
+                log.getData(),
+                log.getType(),
+                log.getTopics());
+    }
+
+    /** Recent blocks of one subscription, from the newest confirmed block to the head. */
+    private class Chain {
+        private final Deque<Entry> entries = new ArrayDeque<>();
+        private final Set<String> hashes = new HashSet<>();
+
+        private List<Event> onHead(EthBlock.Block head) throws IOException {
+            if (hashes.contains(head.getHash())) {
+                return Collections.emptyList();
+            }
+
+            // walk back from the head until a block connects to the known chain
+            Deque<EthBlock.Block> branch = new ArrayDeque<>();
+            EthBlock.Block cursor = head;
+            while (true) {
+                branch.addFirst(cursor);
+                if (entries.isEmpty() || hashes.contains(cursor.getParentHash())) {
+                    break;
+                } else if (cursor.getNumber().compareTo(entries.getFirst().getNumber()) <= 0) {
+                    if (entries.getFirst().confirmed) {
+                        throw new IllegalStateException(
+                                "Chain reorganisation at block "
+                                        + cursor.getNumber()
+                                        + " replaces a confirmed block");
+                    }
+                    // no known block is confirmed yet, so the branch replaces all of them
+                    break;
+                }
+                cursor = getBlock(cursor.getParentHash());
+            }
+
+            List<Event> events = new ArrayList<>();
+            String ancestor = branch.getFirst().getParentHash();
+            while (!entries.isEmpty() && !entries.getLast().block.getHash().equals(ancestor)) {
+                Entry rolledBack = entries.removeLast();
+                if (rolledBack.confirmed) {
+                    throw new IllegalStateException(
+                            "Chain reorganisation replaces confirmed block "
+                                    + rolledBack.getNumber());
+                }
+                hashes.remove(rolledBack.block.getHash());
+
+                List<Log> removedLogs = new ArrayList<>(rolledBack.logs.size());
+                for (Log log : rolledBack.logs) {
+                    removedLogs.add(removed(log));
+                }
+                events.add(new Event(Event.Type.REMOVED, rolledBack.block, removedLogs));
+            }
+
+            for (EthBlock.Block block : branch) {
+                Entry entry = new Entry(block, getLogs(block));
+                entries.addLast(entry);
+                hashes.add(block.getHash());
+                events.add(new Event(Event.Type.ADDED, block, entry.logs));
+            }
+
+            BigInteger confirmedNumber =
+                    entries.getLast().getNumber().subtract(BigInteger.valueOf(confirmations));
+            for (Entry entry : entries) {
+                if (entry.getNumber().compareTo(confirmedNumber) > 0) {
+                    break;
+                } else if (!entry.confirmed) {
+                    entry.confirmed = true;
+                    events.add(new Event(Event.Type.CONFIRMED, entry.block, entry.logs));
+                }
+            }
+
+            // only the newest confirmed block is needed to connect further blocks
+            while (entries.size() > 1) {
+                Entry oldest = entries.removeFirst();
+                if (!entries.getFirst().confirmed) {
+                    entries.addFirst(oldest);
+                    break;
+                }
+                hashes.remove(oldest.block.getHash());
+            }
+            return events;
+        }
+    }
+
+    private static class Entry {
+        private final EthBlock.Block block;
+        private final List<Log> logs;
+        private boolean confirmed;
+
+        private Entry(EthBlock.Block block, List<Log> logs) {
+            this.block = block;
+            this.logs = logs;
+        }
+
+        private BigInteger getNumber() {
+            return block.getNumber();
+        }
+    }
+
+    /** Change to the canonical chain. */
+    public static class Event {
+
+        public enum Type {
+            /** Block added to the canonical chain. */
+            ADDED,
+            /** Block rolled back from the canonical chain, with its logs marked as removed. */
+            REMOVED,
+            /** Block with the configured number of confirmations, which is never rolled back. */
+            CONFIRMED
+        }
+
+        private final Type type;
+        private final EthBlock.Block block;
+        private final List<Log> logs;
+
+        Event(Type type, EthBlock.Block block, List<Log> logs) {
+            this.type = type;
+            this.block = block;
+            this.logs = Collections.unmodifiableList(logs);
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        public EthBlock.Block getBlock() {
+            return block;
+        }
+
+        public List<Log> getLogs() {
+            return logs;
+        }
+    }
+}
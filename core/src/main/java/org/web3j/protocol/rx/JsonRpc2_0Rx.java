@@ -14,7 +14,12 @@ package org.web3j.protocol.rx;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 
@@ -25,10 +30,13 @@ import io.reactivex.Scheduler;
 import io.reactivex.schedulers.Schedulers;
 
 import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
 import org.web3j.protocol.core.DefaultBlockParameter;
 import org.web3j.protocol.core.DefaultBlockParameterName;
 import org.web3j.protocol.core.DefaultBlockParameterNumber;
 import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
 import org.web3j.protocol.core.filters.BlockFilter;
 import org.web3j.protocol.core.filters.LogFilter;
 import org.web3j.protocol.core.filters.PendingTransactionFilter;
@@ -40,6 +48,8 @@ import org.web3j.utils.Flowables;
 /** web3j reactive API implementation. */
 public class JsonRpc2_0Rx {
 
+    static final int REPLAY_RETRIES = 3;
+
     private final Web3j web3j;
     private final ScheduledExecutorService scheduledExecutorService;
     private final Scheduler scheduler;
@@ -156,6 +166,153 @@ public class JsonRpc2_0Rx {
                 .flatMap(Request::flowable);
     }
 
+    public Flowable<EthBlock> replayBlocksFlowable(
+            DefaultBlockParameter startBlock,
+            DefaultBlockParameter endBlock,
+            boolean fullTransactionObjects,
+            boolean ascending,
+            int batchSize,
+            int parallelism) {
+        if (batchSize < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("Batch size and parallelism must be positive");
+        }
+        return replayBlocksFlowableSync(
+                        startBlock,
+                        endBlock,
+                        fullTransactionObjects,
+                        ascending,
+                        batchSize,
+                        parallelism)
+                .subscribeOn(scheduler);
+    }
+
+    private Flowable<EthBlock> replayBlocksFlowableSync(
+            DefaultBlockParameter startBlock,
+            DefaultBlockParameter endBlock,
+            boolean containsFullTransactionObjects,
+            boolean isAscending,
+            int batchSize,
+            int parallelism) {
+        BigInteger startBlockNumber;
+        BigInteger endBlockNumber;
+        try {
+            startBlockNumber = getBlockNumber(startBlock);
+            endBlockNumber = getBlockNumber(endBlock);
+        } catch (IOException e) {
+            return Flowable.error(e);
+        }
+
+        // Chunks are requested concurrently, but concatMapEager emits them in block order and
+        // only requests further chunks as the subscriber consumes blocks. The requests block, so
+        // they run on the io scheduler rather than the polling executor.
+        return blockNumberChunks(startBlockNumber, endBlockNumber, isAscending, batchSize)
+                .concatMapEager(
+                        blockNumbers ->
+                                Flowable.fromCallable(
+                                                () ->
+                                                        getBlocks(
+                                                                blockNumbers,
+                                                                containsFullTransactionObjects))
+                                        .retry(REPLAY_RETRIES)
+                                        .subscribeOn(Schedulers.io()),
+                        parallelism,
+                        1)
+                .concatMapIterable(ethBlocks -> ethBlocks);
+    }
+
+    /**
+     * Generates the block numbers of the range in chunks of the batch size. Chunks are only
+     * generated as they are requested, so at most the requested chunks are held in memory.
+     */
+    private static Flowable<List<BigInteger>> blockNumberChunks(
+            BigInteger startBlockNumber,
+            BigInteger endBlockNumber,
+            boolean ascending,
+            int batchSize) {
+        if (startBlockNumber.signum() < 0) {
+            throw new IllegalArgumentException("Negative start index cannot be used");
+        } else if (startBlockNumber.compareTo(endBlockNumber) > 0) {
+            throw new IllegalArgumentException(
+                    "Negative start index cannot be greater then end index");
+        }
+
+        BigInteger step = ascending ? BigInteger.ONE : BigInteger.ONE.negate();
+        BigInteger last = ascending ? endBlockNumber : startBlockNumber;
+        return Flowable.generate(
+                () -> ascending ? startBlockNumber : endBlockNumber,
+                (next, emitter) -> {
+                    List<BigInteger> chunk = new ArrayList<>(batchSize);
+                    BigInteger blockNumber = next;
+                    while (chunk.size() < batchSize
+                            && (ascending
+                                    ? blockNumber.compareTo(last) <= 0
+                                    : blockNumber.compareTo(last) >= 0)) {
+                        chunk.add(blockNumber);
+                        blockNumber = blockNumber.add(step);
+                    }
+                    if (chunk.isEmpty()) {
+                        emitter.onComplete();
+                    } else {
+                        emitter.onNext(chunk);
+                    }
+                    return blockNumber;
+                });
+    }
+
+    private List<EthBlock> getBlocks(List<BigInteger> blockNumbers, boolean fullTransactionObjects)
+            throws IOException {
+        EthBlock[] ethBlocks = new EthBlock[blockNumbers.size()];
+        if (ethBlocks.length == 1) {
+            ethBlocks[0] =
+                    web3j.ethGetBlockByNumber(
+                                    new DefaultBlockParameterNumber(blockNumbers.get(0)),
+                                    fullTransactionObjects)
+                            .send();
+        } else {
+            BatchRequest batchRequest = web3j.newBatch();
+            Map<Long, Integer> positions = new HashMap<>();
+            for (int i = 0; i < ethBlocks.length; i++) {
+                Request<?, EthBlock> request =
+                        web3j.ethGetBlockByNumber(
+                                new DefaultBlockParameterNumber(blockNumbers.get(i)),
+                                fullTransactionObjects);
+                positions.put(request.getId(), i);
+                batchRequest.add(request);
+            }
+
+            BatchResponse batchResponse = batchRequest.send();
+            if (batchResponse == null) {
+                throw new IOException("No response received for blocks " + range(blockNumbers));
+            }
+
+            // responses to a batch may be returned in any order
+            for (Response<?> response : batchResponse.getResponses()) {
+                Integer position = positions.get(response.getId());
+                if (position != null) {
+                    ethBlocks[position] = (EthBlock) response;
+                }
+            }
+        }
+
+        // failing the whole chunk lets it be retried as one request
+        for (EthBlock ethBlock : ethBlocks) {
+            if (ethBlock == null) {
+                throw new IOException("Missing response for blocks " + range(blockNumbers));
+            } else if (ethBlock.hasError()) {
+                throw new IOException(
+                        "Failed to retrieve blocks "
+                                + range(blockNumbers)
+                                + ": "
+                                + ethBlock.getError().getMessage());
+            }
+        }
+        return Arrays.asList(ethBlocks);
+    }
+
+    private static String range(List<BigInteger> blockNumbers) {
+        return blockNumbers.get(0) + " to " + blockNumbers.get(blockNumbers.size() - 1);
+    }
+
     public Flowable<Transaction> replayTransactionsFlowable(
             DefaultBlockParameter startBlock, DefaultBlockParameter endBlock) {
         return replayBlocksFlowable(startBlock, endBlock, true)
@@ -0,0 +1,370 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.schedulers.Schedulers;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.protocol.exceptions.JsonRpcError;
+
+/**
+ * Retrieves the logs matching a filter over a large block range with eth_getLogs.
+ *
+ * <p>Providers limit the number of results or the block range of a single eth_getLogs request.
+ * The range is therefore requested in sub-ranges, several at a time. A sub-range rejected for
+ * exceeding a result count or block range limit is bisected, and the sub-range size grows again
+ * while results are sparse. A sub-range rejected by a rate limit is requested again after a
+ * backoff. Logs are emitted in block order.
+ *
+ * <p>With a {@link Checkpoint}, the last block whose logs have all been emitted is recorded, and
+ * a later backfill with the same checkpoint resumes from the following block.
+ */
+public class LogBackfill {
+
+    static final int SPARSE_RESULTS = 1000;
+    static final int RETRIES = 3;
+    static final int RATE_LIMIT_RETRIES = 5;
+
+    // Errors for too many results or too large a block range, which a smaller range avoids
+    private static final List<String> LIMIT_ERRORS =
+            Arrays.asList("more than", "too large", "too wide", "range", "response size");
+    // Errors for too many requests, which bisecting would only make worse
+    private static final List<String> RATE_LIMIT_ERRORS =
+            Arrays.asList(
+                    "rate limit",
+                    "rate exceeded",
+                    "request rate",
+                    "too many requests",
+                    "per second",
+                    "capacity",
+                    "compute units",
+                    "throughput");
+
+    private final Web3j web3j;
+    private final EthFilter filter;
+
+    private long initialBlockRange = 2_000;
+    private long maxBlockRange = 100_000;
+    private int concurrency = 4;
+    private long rateLimitBackoffMillis = 1_000;
+    private Checkpoint checkpoint;
+
+    /**
+     * Creates a backfill of the logs matching the filter, which must specify a start block.
+     *
+     * @param web3j client to request logs with
+     * @param filter addresses, topics and block range of the logs
+     */
+    public LogBackfill(Web3j web3j, EthFilter filter) {
+        if (filter.getFromBlock() == null) {
+            throw new IllegalArgumentException("Filter must specify a start block");
+        }
+        this.web3j = web3j;
+        this.filter = filter;
+    }
+
+    /**
+     * Sets the number of blocks first requested at once and the limit the number may grow to.
+     *
+     * @param initial initial number of blocks per request
+     * @param max maximum number of blocks per request
+     * @return this backfill
+     */
+    public LogBackfill blockRange(long initial, long max) {
+        if (initial < 1 || max < initial) {
+            throw new IllegalArgumentException("Invalid block range: " + initial + ", " + max);
+        }
+        this.initialBlockRange = initial;
+        this.maxBlockRange = max;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of eth_getLogs requests in flight.
+     *
+     * @param concurrency maximum number of concurrent requests
+     * @return this backfill
+     */
+    public LogBackfill concurrency(int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be positive");
+        }
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * Sets the time to wait before requesting a rate limited sub-range again. The time doubles
+     * with each further attempt, and a random jitter of up to half of it is added.
+     *
+     * @param initial time to wait before the first retry
+     * @param unit unit of the time
+     * @return this backfill
+     */
+    public LogBackfill rateLimitBackoff(long initial, TimeUnit unit) {
+        if (initial < 0) {
+            throw new IllegalArgumentException("Backoff must not be negative");
+        }
+        this.rateLimitBackoffMillis = unit.toMillis(initial);
+        return this;
+    }
+
+    /**
+     * Sets the checkpoint to resume from and to record progress to.
+     *
+     * @param checkpoint checkpoint of the backfill
+     * @return this backfill
+     */
+    public LogBackfill checkpoint(Checkpoint checkpoint) {
+        this.checkpoint = checkpoint;
+        return this;
+    }
+
+    /**
+     * Creates a {@link Flowable} emitting the logs in block order. The block range is resolved on
+     * subscription.
+     *
+     * @return a {@link Flowable} instance to emit the logs
+     */
+    public Flowable<Log> flowable() {
+        return Flowable.defer(
+                () -> {
+                    long from = getBlockNumber(filter.getFromBlock());
+                    long to =
+                            getBlockNumber(
+                                    filter.getToBlock() == null
+                                            ? DefaultBlockParameterName.LATEST
+                                            : filter.getToBlock());
+                    if (checkpoint != null) {
+                        Optional<BigInteger> completed = checkpoint.load();
+                        if (completed.isPresent()) {
+                            from = Math.max(from, completed.get().longValueExact() + 1);
+                        }
+                    }
+                    return backfill(from, to);
+                });
+    }
+
+    private Flowable<Log> backfill(long from, long to) {
+        AtomicLong blockRange = new AtomicLong(initialBlockRange);
+
+        // Ranges are only generated as requests complete, so each uses the latest block range
+        Flowable<long[]> ranges =
+                Flowable.generate(
+                        () -> from,
+                        (start, emitter) -> {
+                            if (start > to) {
+                                emitter.onComplete();
+                                return start;
+                            }
+                            long end = Math.min(to, start + blockRange.get() - 1);
+                            emitter.onNext(new long[] {start, end});
+                            return end + 1;
+                        });
+
+        return ranges.concatMapEager(
+                        range ->
+                                getLogs(range[0], range[1], blockRange, 0)
+                                        .subscribeOn(Schedulers.io()),
+                        concurrency,
+                        1)
+                .concatMap(
+                        result -> {
+                            Flowable<Log> logs = Flowable.fromIterable(result.logs);
+                            if (checkpoint == null) {
+                                return logs;
+                            }
+                            return logs.concatWith(
+                                    Completable.fromAction(
+                                            () -> checkpoint.save(BigInteger.valueOf(result.end))));
+                        });
+    }
+
+    private Flowable<LogRange> getLogs(long from, long to, AtomicLong blockRange, int attempt) {
+        return Flowable.fromCallable(() -> web3j.ethGetLogs(createFilter(from, to)).send())
+                .retry(RETRIES)
+                .concatMap(
+                        ethLog -> {
+                            long size = to - from + 1;
+                            if (!ethLog.hasError()) {
+                                List<Log> logs = toLogs(ethLog);
+                                if (logs.size() < SPARSE_RESULTS) {
+                                    blockRange.compareAndSet(
+                                            size, Math.min(maxBlockRange, size * 2));
+                                }
+                                return Flowable.just(new LogRange(to, logs));
+                            } else if (isRateLimitError(ethLog.getError())) {
+                                if (attempt >= RATE_LIMIT_RETRIES) {
+                                    return Flowable.error(new JsonRpcError(ethLog.getError()));
+                                }
+                                return getLogs(from, to, blockRange, attempt + 1)
+                                        .delaySubscription(
+                                                rateLimitBackoff(attempt),
+                                                TimeUnit.MILLISECONDS,
+                                                Schedulers.io());
+                            } else if (size > 1 && isLimitError(ethLog.getError())) {
+                                long half = size / 2;
+                                blockRange.accumulateAndGet(half, Math::min);
+                                return getLogs(from, from + half - 1, blockRange, 0)
+                                        .concatWith(getLogs(from + half, to, blockRange, 0));
+                            } else {
+                                return Flowable.error(new JsonRpcError(ethLog.getError()));
+                            }
+                        });
+    }
+
+    private EthFilter createFilter(long from, long to) {
+        EthFilter rangeFilter =
+                new EthFilter(
+                        new DefaultBlockParameterNumber(from),
+                        new DefaultBlockParameterNumber(to),
+                        filter.getAddress());
+        rangeFilter.getTopics().addAll(filter.getTopics());
+        return rangeFilter;
+    }
+
+    private long getBlockNumber(DefaultBlockParameter defaultBlockParameter) throws IOException {
+        if (defaultBlockParameter instanceof DefaultBlockParameterNumber) {
+            return ((DefaultBlockParameterNumber) defaultBlockParameter)
+                    .getBlockNumber()
+                    .longValueExact();
+        } else if (defaultBlockParameter == DefaultBlockParameterName.EARLIEST) {
+            return 0;
+        } else {
+            return web3j.ethGetBlockByNumber(defaultBlockParameter, false)
+                    .send()
+                    .getBlock()
+                    .getNumber()
+                    .longValueExact();
+        }
+    }
+
+    private long rateLimitBackoff(int attempt) {
+        long backoff = rateLimitBackoffMillis << Math.min(attempt, 16);
+        return backoff + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    /** @return whether the request exceeded a result count or block range limit */
+    static boolean isLimitError(Response.Error error) {
+        if (isRateLimitError(error)) {
+            return false;
+        } else if (contains(error, LIMIT_ERRORS)) {
+            return true;
+        }
+        // -32005 is also returned for limits described in other terms
+        return error.getCode() == -32005;
+    }
+
+    /** @return whether the request was rejected for exceeding the provider's request rate */
+    static boolean isRateLimitError(Response.Error error) {
+        return error.getCode() == 429 || contains(error, RATE_LIMIT_ERRORS);
+    }
+
+    private static boolean contains(Response.Error error, List<String> messages) {
+        if (error.getMessage() == null) {
+            return false;
+        }
+        String lowerCase = error.getMessage().toLowerCase(Locale.ROOT);
+        return messages.stream().anyMatch(lowerCase::contains);
+    }
+
+    private static List<Log> toLogs(EthLog ethLog) {
+        List<EthLog.LogResult> results = ethLog.getLogs();
+        List<Log> logs = new ArrayList<>(results.size());
+        for (EthLog.LogResult result : results) {
+            logs.add((Log) result.get());
+        }
+        return logs;
+    }
+
+    /**
+     * Creates a checkpoint storing the last completed block number in a file.
+     *
+     * @param path file to store the block number in
+     * @return the checkpoint
+     */
+    public static Checkpoint fileCheckpoint(Path path) {
+        return new Checkpoint() {
+            @Override
+            public Optional<BigInteger> load() throws IOException {
+                if (!Files.exists(path)) {
+                    return Optional.empty();
+                }
+                String value = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+                return Optional.of(new BigInteger(value.trim()));
+            }
+
+            @Override
+            public void save(BigInteger blockNumber) throws IOException {
+                // written to a temporary file first so that a crash never leaves a partial value
+                Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+                Files.write(temporary, blockNumber.toString().getBytes(StandardCharsets.UTF_8));
+                Files.move(
+                        temporary,
+                        path,
+                        StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            }
+        };
+    }
+
+    /** Progress of a backfill, recording the last block whose logs have all been emitted. */
+    public interface Checkpoint {
+
+        /**
+         * @return the last completed block number, or empty if the backfill has not progressed
+         * @throws IOException if the checkpoint cannot be read
+         */
+        Optional<BigInteger> load() throws IOException;
+
+        /**
+         * @param blockNumber block number whose logs, and those of all prior blocks, were emitted
+         * @throws IOException if the checkpoint cannot be written
+         */
+        void save(BigInteger blockNumber) throws IOException;
+    }
+
+    private static class LogRange {
+        private final long end;
+        private final List<Log> logs;
+
+        private LogRange(long end, List<Log> logs) {
+            this.end = end;
+            this.logs = logs;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.request.Filter;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.utils.Bloom;
+import org.web3j.utils.Numeric;
+
+/**
+ * Screens blocks against the addresses and topics of an {@link EthFilter} using their logs bloom,
+ * so that logs are only retrieved for blocks which may contain a matching log.
+ *
+ * <p>The bloom bits of the filter are computed once, after which each block is tested without
+ * hashing. A bloom may report false positives, but never false negatives. Note that some nodes
+ * and chains return an empty bloom for blocks with logs, in which case screening must not be
+ * used.
+ */
+public class LogsBloomFilter {
+
+    private static final int BLOOM_LENGTH = 256;
+
+    private final List<Bloom.Bits> addresses;
+    private final List<List<Bloom.Bits>> topics;
+
+    /**
+     * Creates a screen for the addresses and topics of a filter. The block range of the filter is
+     * ignored.
+     *
+     * @param filter filter to screen blocks for
+     */
+    public LogsBloomFilter(EthFilter filter) {
+        this.addresses = toBits(filter.getAddress());
+        this.topics = new ArrayList<>();
+        for (Filter.FilterTopic<?> topic : filter.getTopics()) {
+            List<Bloom.Bits> options = toBits(topicValues(topic));
+            if (!options.isEmpty()) {
+                topics.add(options);
+            }
+        }
+    }
+
+    /**
+     * Tests whether a block may contain a log matching the filter.
+     *
+     * @param block block to test
+     * @return false if the block does not contain a matching log, true if it may
+     */
+    public boolean mightMatch(EthBlock.Block block) {
+        return mightMatch(block.getLogsBloom());
+    }
+
+    /**
+     * Tests whether a logs bloom may contain a log matching the filter.
+     *
+     * @param logsBloom hex encoded logs bloom of a block or receipt, or null if unknown
+     * @return false if there is no matching log, true if there may be
+     */
+    public boolean mightMatch(String logsBloom) {
+        if (logsBloom == null || Numeric.cleanHexPrefix(logsBloom).length() != BLOOM_LENGTH * 2) {
+            return true;
+        }
+        byte[] bloomBytes = Numeric.hexStringToByteArray(logsBloom);
+        if (!addresses.isEmpty() && !anyMatch(bloomBytes, addresses)) {
+            return false;
+        }
+        for (List<Bloom.Bits> options : topics) {
+            if (!anyMatch(bloomBytes, options)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean anyMatch(byte[] bloomBytes, List<Bloom.Bits> options) {
+        for (Bloom.Bits bits : options) {
+            if (Bloom.test(bloomBytes, bits)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** @return values of the topic, or an empty list if any value matches */
+    private static List<String> topicValues(Filter.FilterTopic<?> topic) {
+        Object value = topic.getValue();
+        if (value instanceof String) {
+            return Collections.singletonList((String) value);
+        } else if (value instanceof List) {
+            List<String> values = new ArrayList<>();
+            for (Object option : (List<?>) value) {
+                String optionValue = ((Filter.SingleTopic) option).getValue();
+                if (optionValue == null) {
+                    return Collections.emptyList();
+                }
+                values.add(optionValue);
+            }
+            return values;
+        }
+        return Collections.emptyList();
+    }
+
+    private static List<Bloom.Bits> toBits(List<String> values) {
+        if (values == null) {
+            return Collections.emptyList();
+        }
+        List<Bloom.Bits> bits = new ArrayList<>(values.size());
+        for (String value : values) {
+            bits.add(Bloom.bits(value));
+        }
+        return bits;
+    }
+}
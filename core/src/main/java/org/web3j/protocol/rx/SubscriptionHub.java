@@ -0,0 +1,332 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.FlowableEmitter;
+import io.reactivex.disposables.Disposable;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.request.Filter;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.Log;
+
+/**
+ * Shares filters between subscribers, so that overlapping subscriptions do not each install and
+ * poll their own filter.
+ *
+ * <p>Block Flowables are shared by all subscribers. For logs, a single upstream filter covering
+ * the addresses and topics of all subscribers is installed, and each log is delivered to the
+ * subscribers whose filter it matches. When a subscriber's filter is not covered by the upstream
+ * filter, a wider one replaces it. The replacement starts from the last block the previous filter
+ * delivered logs of, or the block it was installed at, so that no logs are missed, and logs
+ * already delivered are not delivered again. The upstream filter is uninstalled when the last
+ * subscriber cancels.
+ *
+ * <p>Only new logs are delivered, so the block range of subscriber filters is ignored.
+ */
+public class SubscriptionHub {
+
+    // number of most recent blocks whose delivered logs are remembered
+    static final int DELIVERED_BLOCKS = 16;
+
+    private final Web3j web3j;
+    private final Map<Boolean, Flowable<EthBlock>> blockFlowables = new ConcurrentHashMap<>();
+
+    private final List<LogSubscriber> subscribers = new CopyOnWriteArrayList<>();
+    // keys of the delivered logs by block number, guarded by itself
+    private final NavigableMap<BigInteger, Set<String>> deliveredLogs = new TreeMap<>();
+    // first block the upstream filter may not have delivered all logs of
+    private BigInteger resumeBlock;
+
+    private Criteria upstreamCriteria;
+    private Disposable upstream;
+
+    public SubscriptionHub(Web3j web3j) {
+        this.web3j = web3j;
+    }
+
+    /**
+     * Creates a Flowable of new blocks, sharing one block filter between all subscribers.
+     *
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise
+     *     transaction hashes
+     * @return a {@link Flowable} instance that emits all new blocks
+     */
+    public Flowable<EthBlock> blockFlowable(boolean fullTransactionObjects) {
+        return blockFlowables.computeIfAbsent(
+                fullTransactionObjects, full -> web3j.blockFlowable(full).share());
+    }
+
+    /**
+     * Creates a Flowable of new logs matching the filter, delivered from the shared upstream
+     * filter.
+     *
+     * @param ethFilter addresses and topics to match
+     * @return a {@link Flowable} instance that emits the matching logs
+     */
+    public Flowable<Log> ethLogFlowable(EthFilter ethFilter) {
+        Criteria criteria = Criteria.of(ethFilter);
+        return Flowable.create(
+                emitter -> {
+                    LogSubscriber subscriber = new LogSubscriber(criteria, emitter.serialize());
+                    subscribe(subscriber);
+                    emitter.setCancellable(() -> unsubscribe(subscriber));
+                },
+                BackpressureStrategy.BUFFER);
+    }
+
+    /** @return number of log subscribers */
+    public int getLogSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private synchronized void subscribe(LogSubscriber subscriber) throws IOException {
+        subscribers.add(subscriber);
+        try {
+            if (upstreamCriteria == null) {
+                // logs are delivered from the block after the current one
+                BigInteger blockNumber = web3j.ethBlockNumber().send().getBlockNumber();
+                install(
+                        subscriber.criteria,
+                        DefaultBlockParameterName.LATEST,
+                        blockNumber.add(BigInteger.ONE));
+            } else if (!upstreamCriteria.covers(subscriber.criteria)) {
+                BigInteger fromBlock;
+                synchronized (deliveredLogs) {
+                    fromBlock = resumeBlock;
+                }
+
+                // the new filter is installed before the previous one is removed, to avoid a gap
+                Disposable previous = upstream;
+                install(
+                        upstreamCriteria.merge(subscriber.criteria),
+                        DefaultBlockParameter.valueOf(fromBlock),
+                        fromBlock);
+                previous.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            unsubscribe(subscriber);
+            throw e;
+        }
+    }
+
+    private synchronized void unsubscribe(LogSubscriber subscriber) {
+        subscribers.remove(subscriber);
+        if (subscribers.isEmpty() && upstream != null) {
+            upstream.dispose();
+            upstream = null;
+            upstreamCriteria = null;
+            synchronized (deliveredLogs) {
+                deliveredLogs.clear();
+            }
+        }
+    }
+
+    private void install(
+            Criteria criteria, DefaultBlockParameter fromBlock, BigInteger fromBlockNumber) {
+        synchronized (deliveredLogs) {
+            resumeBlock = fromBlockNumber;
+        }
+        upstream =
+                web3j.ethLogFlowable(criteria.toEthFilter(fromBlock))
+                        .subscribe(this::deliver, this::fail);
+        upstreamCriteria = criteria;
+    }
+
+    private void deliver(Log log) {
+        BigInteger blockNumber = log.getBlockNumber();
+        if (blockNumber != null) {
+            String key = log.getBlockHash() + ':' + log.getLogIndexRaw() + ':' + log.isRemoved();
+            synchronized (deliveredLogs) {
+                if (!deliveredLogs.computeIfAbsent(blockNumber, n -> new HashSet<>()).add(key)) {
+                    return;
+                }
+                if (blockNumber.compareTo(resumeBlock) > 0) {
+                    resumeBlock = blockNumber;
+                    deliveredLogs
+                            .headMap(blockNumber.subtract(BigInteger.valueOf(DELIVERED_BLOCKS)))
+                            .clear();
+                }
+            }
+        }
+        for (LogSubscriber subscriber : subscribers) {
+            if (subscriber.criteria.matches(log)) {
+                subscriber.emitter.onNext(log);
+            }
+        }
+    }
+
+    private synchronized void fail(Throwable throwable) {
+        // the upstream filter has terminated, so its subscribers are as well
+        List<LogSubscriber> failed = new ArrayList<>(subscribers);
+        subscribers.clear();
+        upstream = null;
+        upstreamCriteria = null;
+        synchronized (deliveredLogs) {
+            deliveredLogs.clear();
+        }
+        for (LogSubscriber subscriber : failed) {
+            subscriber.emitter.tryOnError(throwable);
+        }
+    }
+
+    private static class LogSubscriber {
+        private final Criteria criteria;
+        private final FlowableEmitter<Log> emitter;
+
+        private LogSubscriber(Criteria criteria, FlowableEmitter<Log> emitter) {
+            this.criteria = criteria;
+            this.emitter = emitter;
+        }
+    }
+
+    /**
+     * Addresses and topics of a filter. An empty address set matches any address, and a null topic
+     * set matches any topic at that position.
+     */
+    static class Criteria {
+        private final Set<String> addresses;
+        private final List<Set<String>> topics;
+
+        Criteria(Set<String> addresses, List<Set<String>> topics) {
+            this.addresses = addresses;
+            this.topics = topics;
+        }
+
+        static Criteria of(EthFilter ethFilter) {
+            Set<String> addresses = new HashSet<>();
+            if (ethFilter.getAddress() != null) {
+                for (String address : ethFilter.getAddress()) {
+                    addresses.add(address.toLowerCase(Locale.ROOT));
+                }
+            }
+
+            List<Set<String>> topics = new ArrayList<>();
+            for (Filter.FilterTopic<?> topic : ethFilter.getTopics()) {
+                Set<String> values = new HashSet<>();
+                if (topic instanceof Filter.ListTopic) {
+                    for (Filter.SingleTopic singleTopic : ((Filter.ListTopic) topic).getValue()) {
+                        values.add(singleTopic.getValue());
+                    }
+                } else {
+                    values.add((String) topic.getValue());
+                }
+                topics.add(values.contains(null) ? null : lowerCase(values));
+            }
+            return new Criteria(addresses, topics);
+        }
+
+        boolean matches(Log log) {
+            if (!addresses.isEmpty()
+                    && (log.getAddress() == null
+                            || !addresses.contains(log.getAddress().toLowerCase(Locale.ROOT)))) {
+                return false;
+            }
+            List<String> logTopics =
+                    log.getTopics() == null ? Collections.emptyList() : log.getTopics();
+            for (int i = 0; i < topics.size(); i++) {
+                Set<String> values = topics.get(i);
+                if (values != null
+                        && (i >= logTopics.size()
+                                || !values.contains(logTopics.get(i).toLowerCase(Locale.ROOT)))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /** @return whether every log matching the other criteria also matches these */
+        boolean covers(Criteria other) {
+            if (!addresses.isEmpty()
+                    && (other.addresses.isEmpty() || !addresses.containsAll(other.addresses))) {
+                return false;
+            }
+            for (int i = 0; i < topics.size(); i++) {
+                Set<String> values = topics.get(i);
+                if (values != null
+                        && (i >= other.topics.size()
+                                || other.topics.get(i) == null
+                                || !values.containsAll(other.topics.get(i)))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /** @return the narrowest criteria covering both */
+        Criteria merge(Criteria other) {
+            Set<String> mergedAddresses = new HashSet<>();
+            if (!addresses.isEmpty() && !other.addresses.isEmpty()) {
+                mergedAddresses.addAll(addresses);
+                mergedAddresses.addAll(other.addresses);
+            }
+
+            List<Set<String>> mergedTopics = new ArrayList<>();
+            for (int i = 0; i < Math.min(topics.size(), other.topics.size()); i++) {
+                if (topics.get(i) == null || other.topics.get(i) == null) {
+                    mergedTopics.add(null);
+                } else {
+                    Set<String> values = new HashSet<>(topics.get(i));
+                    values.addAll(other.topics.get(i));
+                    mergedTopics.add(values);
+                }
+            }
+            return new Criteria(mergedAddresses, mergedTopics);
+        }
+
+        EthFilter toEthFilter(DefaultBlockParameter fromBlock) {
+            EthFilter ethFilter =
+                    new EthFilter(
+                            fromBlock,
+                            DefaultBlockParameterName.LATEST,
+                            addresses.isEmpty() ? null : new ArrayList<>(addresses));
+            for (Set<String> values : topics) {
+                if (values == null) {
+                    ethFilter.addNullTopic();
+                } else if (values.size() == 1) {
+                    ethFilter.addSingleTopic(values.iterator().next());
+                } else {
+                    ethFilter.addOptionalTopics(values.toArray(new String[0]));
+                }
+            }
+            return ethFilter;
+        }
+
+        private static Set<String> lowerCase(Set<String> values) {
+            Set<String> result = new HashSet<>();
+            for (String value : values) {
+                result.add(value.toLowerCase(Locale.ROOT));
+            }
+            return result;
+        }
+    }
+}
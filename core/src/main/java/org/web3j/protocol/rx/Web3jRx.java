@@ -110,6 +110,30 @@ public interface Web3jRx {
             boolean fullTransactionObjects,
             boolean ascending);
 
+    /**
+     * Create an {@link Flowable} instance that emits all blocks from the blockchain contained
+     * within the requested range, retrieving them in JSON-RPC batches of up to {@code batchSize}
+     * blocks with up to {@code parallelism} batches in flight. Blocks are emitted in order, and a
+     * failed batch is retried before the Flowable errors.
+     *
+     * @param startBlock block number to commence with
+     * @param endBlock block number to finish with
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise
+     *     transaction hashes
+     * @param ascending if true, emits blocks in ascending order between range, otherwise in
+     *     descending order
+     * @param batchSize number of blocks requested per batch
+     * @param parallelism maximum number of batches requested concurrently
+     * @return a {@link Flowable} instance to emit these blocks
+     */
+    Flowable<EthBlock> replayPastBlocksFlowable(
+            DefaultBlockParameter startBlock,
+            DefaultBlockParameter endBlock,
+            boolean fullTransactionObjects,
+            boolean ascending,
+            int batchSize,
+            int parallelism);
+
     /**
      * Create a {@link Flowable} instance that emits all transactions from the blockchain starting
      * with a provided block number. Once it has replayed up to the most current block, the provided
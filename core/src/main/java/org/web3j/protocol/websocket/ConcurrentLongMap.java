@@ -0,0 +1,207 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.websocket;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Thread safe map from primitive long keys to values, for the requests awaiting a reply.
+ *
+ * <p>Keys are spread over independently locked stripes, each an open addressing hash table with
+ * linear probing. Unlike a {@link java.util.concurrent.ConcurrentHashMap} keyed by {@link Long},
+ * no key objects or entries are allocated per request.
+ *
+ * @param <V> type of the values
+ */
+class ConcurrentLongMap<V> {
+
+    private static final int STRIPES = 16;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Stripe<V>[] stripes;
+
+    @SuppressWarnings("unchecked")
+    ConcurrentLongMap() {
+        stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe<>();
+        }
+    }
+
+    V put(long key, V value) {
+        if (value == null) {
+            throw new NullPointerException("value");
+        }
+        long hash = hash(key);
+        return stripe(hash).put(key, hash, value);
+    }
+
+    V get(long key) {
+        long hash = hash(key);
+        return stripe(hash).get(key, hash);
+    }
+
+    boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    V remove(long key) {
+        long hash = hash(key);
+        return stripe(hash).remove(key, hash);
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe<V> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    /** @return a snapshot of the values */
+    List<V> values() {
+        List<V> values = new ArrayList<>();
+        for (Stripe<V> stripe : stripes) {
+            stripe.values(values);
+        }
+        return values;
+    }
+
+    /**
+     * Removes all entries.
+     *
+     * @return the removed values
+     */
+    List<V> clear() {
+        List<V> values = new ArrayList<>();
+        for (Stripe<V> stripe : stripes) {
+            stripe.clear(values);
+        }
+        return values;
+    }
+
+    private Stripe<V> stripe(long hash) {
+        return stripes[(int) (hash >>> 60)];
+    }
+
+    private static long hash(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return hash ^ (hash >>> 32);
+    }
+
+    private static class Stripe<V> {
+        private long[] keys = new long[INITIAL_CAPACITY];
+        // a null value marks an empty slot
+        private Object[] values = new Object[INITIAL_CAPACITY];
+        private int size;
+
+        synchronized V put(long key, long hash, V value) {
+            int index = indexOf(key, hash);
+            if (values[index] != null) {
+                V previous = valueAt(index);
+                values[index] = value;
+                return previous;
+            }
+            keys[index] = key;
+            values[index] = value;
+            if (++size * 2 > keys.length) {
+                resize(keys.length * 2);
+            }
+            return null;
+        }
+
+        synchronized V get(long key, long hash) {
+            return valueAt(indexOf(key, hash));
+        }
+
+        synchronized V remove(long key, long hash) {
+            int index = indexOf(key, hash);
+            V previous = valueAt(index);
+            if (previous == null) {
+                return null;
+            }
+
+            // shift back entries of the probe sequence into the freed slot
+            int mask = keys.length - 1;
+            int next = index;
+            while (true) {
+                next = (next + 1) & mask;
+                if (values[next] == null) {
+                    break;
+                }
+                int home = (int) hash(keys[next]) & mask;
+                boolean between =
+                        index <= next
+                                ? index < home && home <= next
+                                : index < home || home <= next;
+                if (!between) {
+                    keys[index] = keys[next];
+                    values[index] = values[next];
+                    index = next;
+                }
+            }
+            values[index] = null;
+            size--;
+            return previous;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized void values(List<V> result) {
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    result.add(valueAt(i));
+                }
+            }
+        }
+
+        synchronized void clear(List<V> removed) {
+            values(removed);
+            keys = new long[INITIAL_CAPACITY];
+            values = new Object[INITIAL_CAPACITY];
+            size = 0;
+        }
+
+        /** @return slot holding the key, or the empty slot where it would be inserted */
+        private int indexOf(long key, long hash) {
+            int mask = keys.length - 1;
+            int index = (int) hash & mask;
+            while (values[index] != null && keys[index] != key) {
+                index = (index + 1) & mask;
+            }
+            return index;
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            Object[] oldValues = values;
+            keys = new long[capacity];
+            values = new Object[capacity];
+            for (int i = 0; i < oldValues.length; i++) {
+                if (oldValues[i] != null) {
+                    int index = indexOf(oldKeys[i], hash(oldKeys[i]));
+                    keys[index] = oldKeys[i];
+                    values[index] = oldValues[i];
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private V valueAt(int index) {
+            return (V) values[index];
+        }
+    }
+}
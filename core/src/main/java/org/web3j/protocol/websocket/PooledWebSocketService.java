@@ -0,0 +1,246 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.websocket;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.Flowable;
+import org.java_websocket.drafts.Draft_6455;
+import org.java_websocket.extensions.permessage_deflate.PerMessageDeflateExtension;
+
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.websocket.events.Notification;
+
+/**
+ * Web socket service spreading requests over several connections to the same server, so that a
+ * large response does not hold up the replies to other requests.
+ *
+ * <p>Each request and batch is sent over the connection with the fewest requests awaiting a
+ * reply. A subscription is created on the connection with the fewest subscriptions and remains on
+ * it until it is disposed of.
+ */
+public class PooledWebSocketService implements Web3jService {
+
+    private final List<Connection> connections;
+    // Connection to start searching from, so that idle connections are used in turn
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Creates a service with the given number of connections to a server.
+     *
+     * @param serverUrl URL of the server
+     * @param connections number of connections
+     * @param compression whether to negotiate the permessage-deflate extension
+     * @param includeRawResponses whether to set the raw JSON of responses
+     */
+    public PooledWebSocketService(
+            String serverUrl, int connections, boolean compression, boolean includeRawResponses) {
+        this(createServices(parseURI(serverUrl), connections, compression, includeRawResponses));
+    }
+
+    /**
+     * Creates a service over the given services, each of which uses its own connection.
+     *
+     * @param services services to spread requests over
+     */
+    public PooledWebSocketService(List<WebSocketService> services) {
+        if (services.isEmpty()) {
+            throw new IllegalArgumentException("At least one connection is required");
+        }
+        List<Connection> connections = new ArrayList<>(services.size());
+        for (WebSocketService service : services) {
+            connections.add(new Connection(service));
+        }
+        this.connections = Collections.unmodifiableList(connections);
+    }
+
+    private static List<WebSocketService> createServices(
+            URI serverUri, int connections, boolean compression, boolean includeRawResponses) {
+        if (connections < 1) {
+            throw new IllegalArgumentException("At least one connection is required");
+        }
+        List<WebSocketService> services = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            // a draft holds the state of a single connection, so each client gets its own
+            WebSocketClient client =
+                    compression
+                            ? new WebSocketClient(
+                                    serverUri,
+                                    new Draft_6455(new PerMessageDeflateExtension()),
+                                    Collections.emptyMap())
+                            : new WebSocketClient(serverUri);
+            services.add(new WebSocketService(client, includeRawResponses));
+        }
+        return services;
+    }
+
+    /**
+     * Connect to a WebSocket server over all connections.
+     *
+     * @throws ConnectException thrown if failed to connect to the server via WebSocket protocol
+     */
+    public void connect() throws ConnectException {
+        try {
+            for (Connection connection : connections) {
+                connection.service.connect();
+            }
+        } catch (ConnectException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the services the connections are used through, for example to configure them.
+     *
+     * @return services in the pool
+     */
+    public List<WebSocketService> getServices() {
+        List<WebSocketService> services = new ArrayList<>(connections.size());
+        for (Connection connection : connections) {
+            services.add(connection.service);
+        }
+        return services;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        Connection connection = leastOutstanding();
+        connection.acquire();
+        try {
+            return connection.service.send(request, responseType);
+        } finally {
+            connection.release();
+        }
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        Connection connection = leastOutstanding();
+        connection.acquire();
+        try {
+            return connection
+                    .service
+                    .sendAsync(request, responseType)
+                    .whenComplete((response, throwable) -> connection.release());
+        } catch (RuntimeException e) {
+            connection.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        Connection connection = leastOutstanding();
+        connection.acquire();
+        try {
+            return connection.service.sendBatch(batchRequest);
+        } finally {
+            connection.release();
+        }
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        Connection connection = leastOutstanding();
+        connection.acquire();
+        try {
+            return connection
+                    .service
+                    .sendBatchAsync(batchRequest)
+                    .whenComplete((response, throwable) -> connection.release());
+        } catch (RuntimeException e) {
+            connection.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+        // unsubscribing goes through the service the subscription was created with
+        return leastSubscribed().service.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public void close() {
+        for (Connection connection : connections) {
+            connection.service.close();
+        }
+    }
+
+    private Connection leastOutstanding() {
+        int start = Math.floorMod(next.getAndIncrement(), connections.size());
+        Connection selected = null;
+        int selectedOutstanding = Integer.MAX_VALUE;
+        for (int i = 0; i < connections.size(); i++) {
+            Connection connection = connections.get((start + i) % connections.size());
+            int outstanding = connection.outstanding.get();
+            if (outstanding < selectedOutstanding) {
+                selected = connection;
+                selectedOutstanding = outstanding;
+            }
+        }
+        return selected;
+    }
+
+    private Connection leastSubscribed() {
+        Connection selected = connections.get(0);
+        for (Connection connection : connections) {
+            if (connection.service.getSubscriptionIdsMap().size()
+                    < selected.service.getSubscriptionIdsMap().size()) {
+                selected = connection;
+            }
+        }
+        return selected;
+    }
+
+    private static URI parseURI(String serverUrl) {
+        try {
+            return new URI(serverUrl);
+        } catch (URISyntaxException e) {
+            throw new RuntimeException(String.format("Failed to parse URL: '%s'", serverUrl), e);
+        }
+    }
+
+    private static class Connection {
+        private final WebSocketService service;
+        // Requests sent over the connection and awaiting a reply
+        private final AtomicInteger outstanding = new AtomicInteger();
+
+        private Connection(WebSocketService service) {
+            this.service = service;
+        }
+
+        private void acquire() {
+            outstanding.incrementAndGet();
+        }
+
+        private void release() {
+            outstanding.decrementAndGet();
+        }
+    }
+}
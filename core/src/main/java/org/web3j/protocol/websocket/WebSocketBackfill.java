@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.websocket;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.utils.Numeric;
+
+/**
+ * Retrieves the blocks and logs missed by newHeads and logs subscriptions while reconnecting, as
+ * JSON in the form they are sent in subscription events.
+ */
+class WebSocketBackfill {
+
+    // Blocks requested per batch
+    private static final int BATCH_SIZE = 100;
+
+    private final WebSocketService service;
+    private final ObjectMapper objectMapper;
+
+    WebSocketBackfill(WebSocketService service, ObjectMapper objectMapper) {
+        this.service = service;
+        this.objectMapper = objectMapper;
+    }
+
+    long getBlockNumber() throws IOException {
+        return quantity(result(send(request("eth_blockNumber", Collections.emptyList()))));
+    }
+
+    /** @return headers of the blocks in the range, in ascending order */
+    List<JsonNode> getBlocks(long fromBlock, long toBlock) throws IOException {
+        List<JsonNode> blocks = new ArrayList<>();
+        for (long start = fromBlock; start <= toBlock; start += BATCH_SIZE) {
+            long end = Math.min(start + BATCH_SIZE - 1, toBlock);
+            BatchRequest batch = new BatchRequest(service);
+            for (long number = start; number <= end; number++) {
+                String blockNumber = Numeric.encodeQuantity(BigInteger.valueOf(number));
+                batch.add(request("eth_getBlockByNumber", Arrays.asList(blockNumber, false)));
+            }
+            BatchResponse batchResponse = service.sendBatch(batch);
+            for (Response<?> response : batchResponse.getResponses()) {
+                blocks.add(result((RawResponse) response));
+            }
+        }
+        blocks.sort(Comparator.comparingLong(block -> quantity(block.get("number"))));
+        return blocks;
+    }
+
+    /** @return logs in the range matching the filter of a logs subscription */
+    List<JsonNode> getLogs(Object filter, long fromBlock, long toBlock) throws IOException {
+        Map<String, Object> params = new HashMap<>();
+        if (filter instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) filter).entrySet()) {
+                params.put(String.valueOf(entry.getKey()), entry.getValue());
+            }
+        }
+        params.put("fromBlock", Numeric.encodeQuantity(BigInteger.valueOf(fromBlock)));
+        params.put("toBlock", Numeric.encodeQuantity(BigInteger.valueOf(toBlock)));
+
+        List<JsonNode> logs = new ArrayList<>();
+        result(send(request("eth_getLogs", Collections.singletonList(params)))).forEach(logs::add);
+        logs.sort(
+                Comparator.<JsonNode>comparingLong(log -> quantity(log.get("blockNumber")))
+                        .thenComparingLong(log -> quantity(log.get("logIndex"))));
+        return logs;
+    }
+
+    /** @return the result as a subscription event message */
+    String toEvent(String subscriptionId, JsonNode result) throws JsonProcessingException {
+        ObjectNode event = objectMapper.createObjectNode();
+        event.put("jsonrpc", "2.0");
+        event.put("method", "eth_subscription");
+        ObjectNode params = event.putObject("params");
+        params.put("subscription", subscriptionId);
+        params.set("result", result);
+        return objectMapper.writeValueAsString(event);
+    }
+
+    static long quantity(JsonNode value) {
+        return value != null && value.isTextual() ? quantity(value.asText()) : -1;
+    }
+
+    static long quantity(String value) {
+        return value != null ? Numeric.decodeQuantity(value).longValueExact() : -1;
+    }
+
+    private Request<?, RawResponse> request(String method, List<?> params) {
+        return new Request<>(method, params, service, RawResponse.class);
+    }
+
+    private RawResponse send(Request<?, RawResponse> request) throws IOException {
+        return service.send(request, RawResponse.class);
+    }
+
+    private static JsonNode result(RawResponse response) throws IOException {
+        if (response.hasError()) {
+            throw new IOException(
+                    "Failed to retrieve missed events: " + response.getError().getMessage());
+        } else if (response.getResult() == null || response.getResult().isNull()) {
+            throw new IOException("Failed to retrieve missed events: empty result");
+        }
+        return response.getResult();
+    }
+
+    /** Response holding the JSON of its result. */
+    public static class RawResponse extends Response<JsonNode> {}
+}
@@ -16,6 +16,7 @@ import java.net.URI;
 import java.util.Map;
 import java.util.Optional;
 
+import org.java_websocket.drafts.Draft;
 import org.java_websocket.handshake.ServerHandshake;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,6 +39,10 @@ public class WebSocketClient extends org.java_websocket.client.WebSocketClient {
         super(serverUri, httpHeaders);
     }
 
+    public WebSocketClient(URI serverUri, Draft draft, Map<String, String> httpHeaders) {
+        super(serverUri, draft, httpHeaders);
+    }
+
     @Override
     public void onOpen(ServerHandshake serverHandshake) {
         log.debug("Opened WebSocket connection to {}", uri);
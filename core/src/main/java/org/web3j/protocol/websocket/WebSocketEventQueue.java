@@ -0,0 +1,159 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.websocket;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded queue of the events of one subscription, drained in order on an executor so that a slow
+ * subscriber does not hold up the thread reading from the WebSocket.
+ *
+ * <p>Events are queued undecoded and decoded by the draining task. At most one task drains the
+ * queue at a time, so events and errors reach the subscriber sequentially.
+ */
+class WebSocketEventQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(WebSocketEventQueue.class);
+
+    interface Handler {
+        void onEvent(String event) throws Exception;
+
+        void onError(Throwable throwable);
+    }
+
+    private final Executor executor;
+    private final WebSocketService.OverflowPolicy overflowPolicy;
+    private final Handler handler;
+    private final int capacity;
+    private final BlockingQueue<String> events;
+    private final AtomicInteger pendingDrains = new AtomicInteger();
+    private final AtomicLong deliveredCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private volatile Throwable error;
+    private volatile boolean terminated;
+
+    WebSocketEventQueue(
+            Executor executor,
+            int capacity,
+            WebSocketService.OverflowPolicy overflowPolicy,
+            Handler handler) {
+        this.executor = executor;
+        this.overflowPolicy = overflowPolicy;
+        this.handler = handler;
+        this.capacity = capacity;
+        this.events = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Queues an event for delivery, applying the overflow policy if the queue is full.
+     *
+     * @return false if the queue failed because of the overflow, otherwise true
+     */
+    boolean offer(String event) {
+        if (terminated) {
+            return true;
+        }
+        if (!events.offer(event)) {
+            switch (overflowPolicy) {
+                case DROP_OLDEST:
+                    do {
+                        if (events.poll() != null) {
+                            droppedCount.incrementAndGet();
+                        }
+                    } while (!events.offer(event));
+                    break;
+                case DROP_NEWEST:
+                    droppedCount.incrementAndGet();
+                    break;
+                default:
+                    droppedCount.incrementAndGet();
+                    fail(
+                            new IOException(
+                                    String.format(
+                                            "Subscriber fell behind by more than %d events",
+                                            capacity)));
+                    return false;
+            }
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    /** Stops accepting events, and delivers the error after the events already queued. */
+    void fail(Throwable throwable) {
+        if (!terminated) {
+            error = throwable;
+            terminated = true;
+            scheduleDrain();
+        }
+    }
+
+    /** Discards queued events without notifying the subscriber. */
+    void close() {
+        terminated = true;
+        events.clear();
+    }
+
+    int getLag() {
+        return events.size();
+    }
+
+    long getDeliveredCount() {
+        return deliveredCount.get();
+    }
+
+    long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void scheduleDrain() {
+        if (pendingDrains.getAndIncrement() == 0) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                log.error("Failed to schedule delivery of WebSocket events", e);
+                pendingDrains.set(0);
+            }
+        }
+    }
+
+    private void drain() {
+        int missed = 1;
+        do {
+            String event;
+            while ((event = events.poll()) != null) {
+                try {
+                    handler.onEvent(event);
+                    deliveredCount.incrementAndGet();
+                } catch (Exception e) {
+                    log.error("Failed to deliver WebSocket event", e);
+                }
+            }
+            if (error != null) {
+                Throwable throwable = error;
+                error = null;
+                handler.onError(throwable);
+            }
+            missed = pendingDrains.addAndGet(-missed);
+        } while (missed != 0);
+    }
+}
@@ -14,6 +14,8 @@ package org.web3j.protocol.websocket;
 
 import java.util.concurrent.CompletableFuture;
 
+import org.web3j.utils.HashedWheelTimer;
+
 /**
  * Objects necessary to process a reply for a request sent via WebSocket protocol.
  *
@@ -22,6 +24,10 @@ import java.util.concurrent.CompletableFuture;
 class WebSocketRequest<T> {
     private CompletableFuture<T> onReply;
     private Class<T> responseType;
+    private volatile HashedWheelTimer.Timeout timeout;
+    // JSON of the request, kept to send it again after reconnecting
+    private String payload;
+    private boolean sent;
 
     public WebSocketRequest(CompletableFuture<T> onReply, Class<T> responseType) {
         this.onReply = onReply;
@@ -35,4 +41,32 @@ class WebSocketRequest<T> {
     public Class<T> getResponseType() {
         return responseType;
     }
+
+    String getPayload() {
+        return payload;
+    }
+
+    void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    boolean isSent() {
+        return sent;
+    }
+
+    void setSent(boolean sent) {
+        this.sent = sent;
+    }
+
+    void setTimeout(HashedWheelTimer.Timeout timeout) {
+        this.timeout = timeout;
+    }
+
+    /** Frees the timer slot of a request which has been replied to or closed. */
+    void cancelTimeout() {
+        HashedWheelTimer.Timeout timeout = this.timeout;
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
 }
@@ -23,19 +23,21 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.reactivex.BackpressureStrategy;
 import io.reactivex.Flowable;
 import io.reactivex.subjects.BehaviorSubject;
+import org.java_websocket.exceptions.WebsocketNotConnectedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,9 +48,11 @@ import org.web3j.protocol.core.BatchResponse;
 import org.web3j.protocol.core.DefaultIdProvider;
 import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
 import org.web3j.protocol.core.methods.response.EthSubscribe;
 import org.web3j.protocol.core.methods.response.EthUnsubscribe;
 import org.web3j.protocol.websocket.events.Notification;
+import org.web3j.utils.HashedWheelTimer;
 
 /**
  * Web socket service that allows to interact with JSON-RPC via WebSocket protocol.
@@ -59,27 +63,56 @@ import org.web3j.protocol.websocket.events.Notification;
  * notifications stream.
  *
  * <p>To unsubscribe from a stream of notifications it should send another JSON-RPC request.
+ *
+ * <p>By default replies and events are processed on the thread reading from the WebSocket, so a
+ * slow subscriber holds up all other subscriptions and requests. {@link #setEventDelivery} moves
+ * decoding and delivery of events to bounded per-subscription queues drained on an executor.
+ *
+ * <p>If the connection is lost, outstanding requests and subscriptions fail unless {@link
+ * #setAutoReconnect} is enabled, in which case they are restored once reconnected.
  */
 public class WebSocketService implements Web3jService {
     private static final Logger log = LoggerFactory.getLogger(WebSocketService.class);
 
+    /** What to do with an event received while the queue of its subscription is full. */
+    public enum OverflowPolicy {
+        /** Discard the oldest queued event to make room for the new one. */
+        DROP_OLDEST,
+        /** Discard the new event. */
+        DROP_NEWEST,
+        /** Fail the subscription with an {@link IOException} and unsubscribe from the server. */
+        FAIL
+    }
+
     // Timeout for JSON-RPC requests
     static final long REQUEST_TIMEOUT = 60;
+    // Maximum number of blocks to retrieve missed newHeads or logs events for after reconnecting
+    static final long MAX_BACKFILL_BLOCKS = 1000;
 
     // WebSocket client
     private final WebSocketClient webSocketClient;
     private boolean shouldReConnect;
-    // Executor to schedule request timeouts
-    private final ScheduledExecutorService executor;
+    // Timer to schedule request timeouts
+    private final HashedWheelTimer timer;
+    private long requestTimeoutNanos = TimeUnit.SECONDS.toNanos(REQUEST_TIMEOUT);
     // Object mapper to map incoming JSON objects
     private final ObjectMapper objectMapper;
+    // Executor to decode and deliver events on, or null to use the WebSocket reader thread
+    private Executor deliveryExecutor;
+    private int deliveryQueueCapacity;
+    private OverflowPolicy overflowPolicy;
+    // Backoff between reconnection attempts, or zero if the connection is not restored
+    private long reconnectInitialBackoffNanos;
+    private long reconnectMaxBackoffNanos;
+    private final AtomicBoolean reconnecting = new AtomicBoolean();
+    private volatile boolean closed;
 
     // Map of a sent request id to objects necessary to process this request
-    private Map<Long, WebSocketRequest<?>> requestForId = new ConcurrentHashMap<>();
+    private ConcurrentLongMap<WebSocketRequest<?>> requestForId = new ConcurrentLongMap<>();
     // Map of a sent subscription request id to objects necessary to process
     // subscription events
-    private Map<Long, WebSocketSubscription<?>> subscriptionRequestForId =
-            new ConcurrentHashMap<>();
+    private ConcurrentLongMap<WebSocketSubscription<?>> subscriptionRequestForId =
+            new ConcurrentLongMap<>();
 
     // Map of a subscription id to objects necessary to process incoming events
     private Map<String, WebSocketSubscription<?>> subscriptionForId = new ConcurrentHashMap<>();
@@ -89,15 +122,21 @@ public class WebSocketService implements Web3jService {
     }
 
     public WebSocketService(WebSocketClient webSocketClient, boolean includeRawResponses) {
-        this(webSocketClient, Executors.newScheduledThreadPool(1), includeRawResponses);
+        this(webSocketClient, SharedTimer.INSTANCE, includeRawResponses);
     }
 
-    WebSocketService(
-            WebSocketClient webSocketClient,
-            ScheduledExecutorService executor,
-            boolean includeRawResponses) {
+    /**
+     * Creates a service with its own timer for request timeouts. The timer is not closed by the
+     * service, so it may be shared between services.
+     *
+     * @param webSocketClient client to send requests with
+     * @param timer timer to schedule request timeouts on
+     * @param includeRawResponses whether to set the raw JSON of responses
+     */
+    public WebSocketService(
+            WebSocketClient webSocketClient, HashedWheelTimer timer, boolean includeRawResponses) {
         this.webSocketClient = webSocketClient;
-        this.executor = executor;
+        this.timer = timer;
         this.objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
     }
 
@@ -121,6 +160,70 @@ public class WebSocketService implements Web3jService {
         }
     }
 
+    /**
+     * Sets the timeout of requests sent without one of their own. Defaults to 60 seconds.
+     *
+     * @param timeout time to wait for a reply
+     * @param unit unit of the timeout
+     */
+    public void setRequestTimeout(long timeout, TimeUnit unit) {
+        if (timeout <= 0) {
+            throw new IllegalArgumentException("Timeout must be positive");
+        }
+        this.requestTimeoutNanos = unit.toNanos(timeout);
+    }
+
+    /**
+     * Decode and deliver subscription events on the given executor instead of the thread reading
+     * from the WebSocket. Each subscription queues up to {@code queueCapacity} events, and the
+     * overflow policy applies to events received while its queue is full. Replies to requests are
+     * completed on the executor as well. Applies to subscriptions created afterwards.
+     *
+     * <p>Events of a subscription are delivered in order, one at a time. A virtual thread per task
+     * executor such as {@link org.web3j.utils.Async#virtualThreadExecutorService()} is suitable
+     * for many subscriptions.
+     *
+     * @param executor executor to deliver events on
+     * @param queueCapacity maximum number of events queued per subscription
+     * @param overflowPolicy what to do with events received while the queue is full
+     */
+    public void setEventDelivery(
+            Executor executor, int queueCapacity, OverflowPolicy overflowPolicy) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        this.deliveryExecutor = executor;
+        this.deliveryQueueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Restore the connection when it is lost, instead of failing outstanding requests and
+     * subscriptions. Reconnection is attempted until it succeeds or the service is closed, with
+     * exponential backoff and random jitter between attempts.
+     *
+     * <p>Once reconnected, requests without a reply are sent again, so a request may be received
+     * by the server twice. Subscriptions are re-established under their new subscription id. For
+     * newHeads and logs subscriptions the blocks and logs emitted while disconnected are retrieved
+     * and delivered before new events, going back at most {@value #MAX_BACKFILL_BLOCKS} blocks. A
+     * subscription fails if it cannot be re-established or its missed events retrieved.
+     *
+     * @param initialBackoff time to wait before the first attempt
+     * @param maxBackoff maximum time to wait between attempts
+     * @param unit unit of the backoff times
+     */
+    public void setAutoReconnect(long initialBackoff, long maxBackoff, TimeUnit unit) {
+        if (initialBackoff <= 0 || maxBackoff < initialBackoff) {
+            throw new IllegalArgumentException("Invalid reconnection backoff");
+        }
+        this.reconnectInitialBackoffNanos = unit.toNanos(initialBackoff);
+        this.reconnectMaxBackoffNanos = unit.toNanos(maxBackoff);
+    }
+
+    private boolean isAutoReconnect() {
+        return reconnectInitialBackoffNanos > 0;
+    }
+
     /**
      * Returns the immutable versions of subscriptionForId map which represents the relation between
      * subscription id and the associated subscription events. Is kept immutable because the only
@@ -187,12 +290,34 @@ public class WebSocketService implements Web3jService {
     @Override
     public <T extends Response> CompletableFuture<T> sendAsync(
             Request request, Class<T> responseType) {
+        return sendAsync(request, responseType, requestTimeoutNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Sends a request, failing the returned future with an {@link IOException} if no reply is
+     * received within the given timeout.
+     *
+     * @param request request to send
+     * @param responseType type of the response
+     * @param timeout time to wait for a reply
+     * @param unit unit of the timeout
+     * @param <T> type of the response
+     * @return future completed with the response
+     */
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType, long timeout, TimeUnit unit) {
 
         CompletableFuture<T> result = new CompletableFuture<>();
         long requestId = request.getId();
-        requestForId.put(requestId, new WebSocketRequest<>(result, responseType));
+        WebSocketRequest<T> webSocketRequest = new WebSocketRequest<>(result, responseType);
+        requestForId.put(requestId, webSocketRequest);
+        // scheduled before sending, so that a reply always finds the timeout to cancel
+        scheduleTimeout(webSocketRequest, requestId, timeout, unit);
         try {
-            sendRequest(request, requestId);
+            String payload = objectMapper.writeValueAsString(request);
+            log.debug("Sending request: {}", payload);
+            webSocketRequest.setPayload(payload);
+            transmit(webSocketRequest);
         } catch (IOException e) {
             closeRequest(requestId, e);
         }
@@ -226,11 +351,16 @@ public class WebSocketService implements Web3jService {
         long originId = firstRequest.getId();
         requests.getRequests().get(0).setId(requestId);
 
-        requestForId.put(
-                requestId, new WebSocketRequests(result, requests.getRequests(), originId));
+        WebSocketRequests webSocketRequests =
+                new WebSocketRequests(result, requests.getRequests(), originId);
+        requestForId.put(requestId, webSocketRequests);
+        scheduleTimeout(webSocketRequests, requestId, requestTimeoutNanos, TimeUnit.NANOSECONDS);
 
         try {
-            sendBatchRequest(requests, requestId);
+            String payload = objectMapper.writeValueAsString(requests.getRequests());
+            log.debug("Sending batch request: {}", payload);
+            webSocketRequests.setPayload(payload);
+            transmit(webSocketRequests);
         } catch (IOException e) {
             closeRequest(requestId, e);
         }
@@ -238,86 +368,96 @@ public class WebSocketService implements Web3jService {
         return result;
     }
 
-    private void sendRequest(Request request, long requestId) throws JsonProcessingException {
-        String payload = objectMapper.writeValueAsString(request);
-        log.debug("Sending request: {}", payload);
-        webSocketClient.send(payload);
-        setRequestTimeout(requestId);
-    }
-
-    private void sendBatchRequest(BatchRequest request, long requestId)
-            throws JsonProcessingException {
-        String payload = objectMapper.writeValueAsString(request.getRequests());
-        log.debug("Sending batch request: {}", payload);
-        webSocketClient.send(payload);
-        setRequestTimeout(requestId);
+    /**
+     * Sends a request unless it was already sent on the current connection. While reconnecting it
+     * is left to be sent once the connection is restored.
+     */
+    private void transmit(WebSocketRequest<?> request) {
+        synchronized (request) {
+            if (request.isSent()) {
+                return;
+            }
+            try {
+                webSocketClient.send(request.getPayload());
+                request.setSent(true);
+            } catch (WebsocketNotConnectedException e) {
+                if (!isAutoReconnect() || closed) {
+                    throw e;
+                }
+                log.debug("Request will be sent once reconnected");
+            }
+        }
     }
 
-    private void setRequestTimeout(long requestId) {
-        executor.schedule(
-                () ->
-                        closeRequest(
-                                requestId,
-                                new IOException(
-                                        String.format("Request with id %d timed out", requestId))),
-                REQUEST_TIMEOUT,
-                TimeUnit.SECONDS);
+    private void scheduleTimeout(
+            WebSocketRequest<?> request, long requestId, long timeout, TimeUnit unit) {
+        request.setTimeout(
+                timer.newTimeout(
+                        () ->
+                                closeRequest(
+                                        requestId,
+                                        new IOException(
+                                                String.format(
+                                                        "Request with id %d timed out",
+                                                        requestId))),
+                        timeout,
+                        unit));
     }
 
     void closeRequest(long requestId, Exception e) {
-        CompletableFuture result = requestForId.get(requestId).getOnReply();
-        requestForId.remove(requestId);
-        result.completeExceptionally(e);
+        WebSocketRequest<?> request = requestForId.remove(requestId);
+        if (request != null) {
+            request.cancelTimeout();
+            completeExceptionally(request, e);
+        }
     }
 
     void onWebSocketMessage(String messageStr) throws IOException {
-        JsonNode replyJson = parseToTree(messageStr);
-
-        if (isReply(replyJson)) {
-            processRequestReply(messageStr, replyJson);
-        } else if (isBatchReply(replyJson)) {
-            processBatchRequestReply(messageStr, (ArrayNode) replyJson);
-        } else if (isSubscriptionEvent(replyJson)) {
-            processSubscriptionEvent(messageStr, replyJson);
+        MessageHeader header = parseHeader(messageStr);
+
+        if (header.isReply()) {
+            processRequestReply(messageStr, header.replyId);
+        } else if (header.isBatchReply()) {
+            processBatchRequestReply(messageStr, header.replyId);
+        } else if (header.isSubscriptionEvent()) {
+            processSubscriptionEvent(messageStr, header);
         } else {
             throw new IOException("Unknown message type");
         }
     }
 
     @SuppressWarnings("unchecked")
-    private void processRequestReply(String replyStr, JsonNode replyJson) throws IOException {
-        long replyId = getReplyId(replyJson);
+    private void processRequestReply(String replyStr, long replyId) throws IOException {
         WebSocketRequest request = getAndRemoveRequest(replyId);
         try {
-            Object reply = objectMapper.convertValue(replyJson, request.getResponseType());
+            Object response = objectMapper.readValue(replyStr, request.getResponseType());
             // Instead of sending a reply to a caller asynchronously we need to process it here
             // to avoid race conditions we need to modify state of this class.
-            if (reply instanceof EthSubscribe) {
-                processSubscriptionResponse(replyId, (EthSubscribe) reply);
+            if (response instanceof EthSubscribe) {
+                processSubscriptionResponse(replyId, (EthSubscribe) response);
             }
 
-            sendReplyToListener(request, reply);
+            sendReplyToListener(request, response);
         } catch (Exception e) {
             sendExceptionToListener(replyStr, request, e);
         }
     }
 
-    private void processBatchRequestReply(String replyStr, ArrayNode replyJson) throws IOException {
-        long replyId = getReplyId(replyJson.get(0));
+    private void processBatchRequestReply(String replyStr, long replyId) throws IOException {
         WebSocketRequests webSocketRequests = (WebSocketRequests) getAndRemoveRequest(replyId);
-        try {
-            // rollback request id of first batch elt
-            ((ObjectNode) replyJson.get(0)).put("id", webSocketRequests.getOriginId());
-
+        try (JsonParser parser = objectMapper.createParser(replyStr)) {
             List<Request<?, ? extends Response<?>>> requests = webSocketRequests.getRequests();
-            List<Response<?>> responses = new ArrayList<>(replyJson.size());
+            List<Response<?>> responses = new ArrayList<>(requests.size());
 
-            for (int i = 0; i < replyJson.size(); i++) {
+            parser.nextToken();
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
                 Response<?> response =
-                        objectMapper.treeToValue(
-                                replyJson.get(i), requests.get(i).getResponseType());
+                        objectMapper.readValue(
+                                parser, requests.get(responses.size()).getResponseType());
                 responses.add(response);
             }
+            // rollback request id of first batch elt
+            responses.get(0).setId(webSocketRequests.getOriginId());
 
             sendReplyToListener(webSocketRequests, new BatchResponse(requests, responses));
         } catch (Exception e) {
@@ -325,31 +465,112 @@ public class WebSocketService implements Web3jService {
         }
     }
 
-    @SuppressWarnings("unchecked")
     private void processSubscriptionResponse(long replyId, EthSubscribe reply) throws IOException {
-        WebSocketSubscription subscription = subscriptionRequestForId.get(replyId);
-        processSubscriptionResponse(
-                reply, subscription.getSubject(), subscription.getResponseType());
+        processSubscriptionResponse(reply, subscriptionRequestForId.remove(replyId));
     }
 
-    private <T extends Notification<?>> void processSubscriptionResponse(
-            EthSubscribe subscriptionReply, BehaviorSubject<T> subject, Class<T> responseType) {
-        if (!subscriptionReply.hasError()) {
-            establishSubscription(subject, responseType, subscriptionReply);
+    private <T> void processSubscriptionResponse(
+            EthSubscribe subscriptionReply, WebSocketSubscription<T> subscription) {
+        if (subscription.getSubscriptionId() != null) {
+            reestablishSubscription(subscription, subscriptionReply);
+        } else if (!subscriptionReply.hasError()) {
+            establishSubscription(subscription, subscriptionReply);
         } else {
-            reportSubscriptionError(subject, subscriptionReply);
+            reportSubscriptionError(subscription.getSubject(), subscriptionReply);
         }
     }
 
-    private <T extends Notification<?>> void establishSubscription(
-            BehaviorSubject<T> subject, Class<T> responseType, EthSubscribe subscriptionReply) {
+    private <T> void reestablishSubscription(
+            WebSocketSubscription<T> subscription, EthSubscribe subscriptionReply) {
+        subscriptionForId.remove(subscription.getSubscriptionId());
+        if (subscriptionReply.hasError()) {
+            Response.Error error = subscriptionReply.getError();
+            log.error("Subscription request returned error: {}", error.getMessage());
+            failSubscription(
+                    subscription,
+                    new IOException(
+                            String.format(
+                                    "Subscription request failed with error: %s",
+                                    error.getMessage())));
+        } else {
+            log.debug(
+                    "Re-subscribed to RPC events with id {}",
+                    subscriptionReply.getSubscriptionId());
+            subscription.setSubscriptionId(subscriptionReply.getSubscriptionId());
+            subscriptionForId.put(subscriptionReply.getSubscriptionId(), subscription);
+        }
+    }
+
+    private <T> void establishSubscription(
+            WebSocketSubscription<T> pending, EthSubscribe subscriptionReply) {
         log.debug("Subscribed to RPC events with id {}", subscriptionReply.getSubscriptionId());
-        subscriptionForId.put(
-                subscriptionReply.getSubscriptionId(),
-                new WebSocketSubscription<>(subject, responseType));
+        WebSocketSubscription<T> subscription =
+                new WebSocketSubscription<>(
+                        pending.getSubject(),
+                        pending.getResponseType(),
+                        pending.getSubscribeRequest(),
+                        pending.getUnsubscribeMethod());
+        subscription.setSubscriptionId(subscriptionReply.getSubscriptionId());
+        if (deliveryExecutor != null) {
+            subscription.setEvents(
+                    new WebSocketEventQueue(
+                            deliveryExecutor,
+                            deliveryQueueCapacity,
+                            overflowPolicy,
+                            new WebSocketEventQueue.Handler() {
+                                @Override
+                                public void onEvent(String event) throws IOException {
+                                    subscription
+                                            .getSubject()
+                                            .onNext(
+                                                    objectMapper.readValue(
+                                                            event,
+                                                            subscription.getResponseType()));
+                                }
+
+                                @Override
+                                public void onError(Throwable throwable) {
+                                    subscription.getSubject().onError(throwable);
+                                }
+                            }));
+        }
+        subscriptionForId.put(subscriptionReply.getSubscriptionId(), subscription);
+        if (isAutoReconnect() && isBackfilled(subscription)) {
+            trackFromCurrentBlock(subscription);
+        }
     }
 
-    private <T extends Notification<?>> String getSubscriptionId(BehaviorSubject<T> subject) {
+    private static boolean isBackfilled(WebSocketSubscription<?> subscription) {
+        return "newHeads".equals(subscription.getKind()) || "logs".equals(subscription.getKind());
+    }
+
+    /** Marks the current block as seen, so a gap is detected even if no event was received. */
+    private void trackFromCurrentBlock(WebSocketSubscription<?> subscription) {
+        sendAsync(
+                        new Request<>(
+                                "eth_blockNumber",
+                                Collections.<String>emptyList(),
+                                this,
+                                EthBlockNumber.class),
+                        EthBlockNumber.class)
+                .thenAccept(
+                        blockNumber -> {
+                            synchronized (subscription) {
+                                if (!blockNumber.hasError() && subscription.getLastBlock() < 0) {
+                                    subscription.advance(
+                                            blockNumber.getBlockNumber().longValueExact(),
+                                            Long.MAX_VALUE);
+                                }
+                            }
+                        })
+                .exceptionally(
+                        throwable -> {
+                            log.warn("Failed to retrieve the block number", throwable);
+                            return null;
+                        });
+    }
+
+    private <T> String getSubscriptionId(BehaviorSubject<T> subject) {
         return subscriptionForId.entrySet().stream()
                 .filter(entry -> entry.getValue().getSubject() == subject)
                 .map(Map.Entry::getKey)
@@ -357,7 +578,7 @@ public class WebSocketService implements Web3jService {
                 .orElse(null);
     }
 
-    private <T extends Notification<?>> void reportSubscriptionError(
+    private <T> void reportSubscriptionError(
             BehaviorSubject<T> subject, EthSubscribe subscriptionReply) {
         Response.Error error = subscriptionReply.getError();
         log.error("Subscription request returned error: {}", error.getMessage());
@@ -369,95 +590,181 @@ public class WebSocketService implements Web3jService {
 
     @SuppressWarnings("unchecked")
     private void sendReplyToListener(WebSocketRequest request, Object reply) {
-        request.getOnReply().complete(reply);
+        if (deliveryExecutor != null) {
+            deliveryExecutor.execute(() -> request.getOnReply().complete(reply));
+        } else {
+            request.getOnReply().complete(reply);
+        }
     }
 
     private void sendExceptionToListener(String replyStr, WebSocketRequest request, Exception e) {
-        request.getOnReply()
-                .completeExceptionally(
-                        new IOException(
-                                String.format(
-                                        "Failed to parse '%s' as type %s",
-                                        replyStr, request.getResponseType()),
-                                e));
+        IOException exception =
+                new IOException(
+                        String.format(
+                                "Failed to parse '%s' as type %s",
+                                replyStr, request.getResponseType()),
+                        e);
+        completeExceptionally(request, exception);
+    }
+
+    private void completeExceptionally(WebSocketRequest<?> request, Exception e) {
+        if (deliveryExecutor != null) {
+            deliveryExecutor.execute(() -> request.getOnReply().completeExceptionally(e));
+        } else {
+            request.getOnReply().completeExceptionally(e);
+        }
     }
 
-    private void processSubscriptionEvent(String replyStr, JsonNode replyJson) {
-        log.debug("Processing event: {}", replyStr);
-        String subscriptionId = extractSubscriptionId(replyJson);
-        WebSocketSubscription subscription = subscriptionForId.get(subscriptionId);
+    private void processSubscriptionEvent(String event, MessageHeader header) throws IOException {
+        log.debug("Processing event: {}", event);
+        String subscriptionId = header.subscriptionId;
+        WebSocketSubscription subscription =
+                subscriptionId != null ? subscriptionForId.get(subscriptionId) : null;
 
         if (subscription != null) {
-            sendEventToSubscriber(replyJson, subscription);
+            // events received while re-establishing are held back until missed ones are delivered
+            synchronized (subscription) {
+                if (!subscription.bufferDuringResync(event, header.block, header.logIndex)) {
+                    if (header.block >= 0) {
+                        subscription.advance(header.block, header.logIndex);
+                    }
+                    sendEventToSubscriber(subscriptionId, event, subscription);
+                }
+            }
         } else {
             log.warn("No subscriber for WebSocket event with subscription id {}", subscriptionId);
         }
     }
 
-    private String extractSubscriptionId(JsonNode replyJson) {
-        return replyJson.get("params").get("subscription").asText();
-    }
-
     @SuppressWarnings("unchecked")
-    private void sendEventToSubscriber(JsonNode replyJson, WebSocketSubscription subscription) {
-        Object event = objectMapper.convertValue(replyJson, subscription.getResponseType());
-        subscription.getSubject().onNext(event);
+    private void sendEventToSubscriber(
+            String subscriptionId, String event, WebSocketSubscription subscription)
+            throws IOException {
+        WebSocketEventQueue events = subscription.getEvents();
+        if (events == null) {
+            Object notification = objectMapper.readValue(event, subscription.getResponseType());
+            subscription.getSubject().onNext(notification);
+            subscription.onDelivered();
+        } else if (!events.offer(event)) {
+            log.warn("Subscription with id {} fell behind and was closed", subscriptionId);
+            subscriptionForId.remove(subscriptionId);
+            unsubscribeFromEventsStream(subscriptionId, subscription.getUnsubscribeMethod());
+        }
     }
 
-    private boolean isReply(JsonNode replyJson) {
-        return replyJson.has("id");
+    /**
+     * Reads the fields needed to dispatch a message, without building a tree of it. Parsing stops
+     * as soon as the reply id, or the subscription id of an event, is found; the message is bound
+     * to its response type afterwards.
+     */
+    private MessageHeader parseHeader(String message) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(message)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                MessageHeader header = new MessageHeader(true);
+                if (parser.nextToken() == JsonToken.START_OBJECT) {
+                    parseObjectHeader(parser, header);
+                }
+                if (!header.hasId) {
+                    throw new IOException("'id' field is missing in the reply");
+                }
+                return header;
+            } else if (token != JsonToken.START_OBJECT) {
+                throw new IOException("Failed to parse incoming WebSocket message");
+            }
+            MessageHeader header = new MessageHeader(false);
+            parseObjectHeader(parser, header);
+            return header;
+        } catch (JsonProcessingException e) {
+            throw new IOException("Failed to parse incoming WebSocket message", e);
+        }
     }
 
-    private boolean isBatchReply(JsonNode replyJson) {
-        return replyJson.isArray();
+    private void parseObjectHeader(JsonParser parser, MessageHeader header) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("id".equals(field)) {
+                header.hasId = true;
+                header.replyId = getReplyId(parser);
+                return;
+            } else if ("method".equals(field)) {
+                header.hasMethod = true;
+                parser.skipChildren();
+            } else if ("params".equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String paramsField = parser.currentName();
+                    parser.nextToken();
+                    if ("subscription".equals(paramsField)) {
+                        header.subscriptionId = parser.getValueAsString();
+                    } else if ("result".equals(paramsField)
+                            && parser.currentToken() == JsonToken.START_OBJECT
+                            && isAutoReconnect()) {
+                        parseEventPosition(parser, header);
+                    }
+                    parser.skipChildren();
+                }
+            } else {
+                parser.skipChildren();
+            }
+            if (header.hasMethod && header.subscriptionId != null) {
+                return;
+            }
+        }
+        if (parser.currentToken() == null) {
+            throw new IOException("Failed to parse incoming WebSocket message");
+        }
     }
 
-    private boolean isSubscriptionEvent(JsonNode replyJson) {
-        return replyJson.has("method");
+    /** Reads the block number and log index of a newHeads or logs event. */
+    private void parseEventPosition(JsonParser parser, MessageHeader header) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("number".equals(field) || "blockNumber".equals(field)) {
+                header.block = parseQuantity(parser.getValueAsString());
+            } else if ("logIndex".equals(field)) {
+                header.logIndex = parseQuantity(parser.getValueAsString());
+            }
+            parser.skipChildren();
+        }
     }
 
-    private JsonNode parseToTree(String replyStr) throws IOException {
+    private static long parseQuantity(String value) {
         try {
-            return objectMapper.readTree(replyStr);
-        } catch (IOException e) {
-            throw new IOException("Failed to parse incoming WebSocket message", e);
+            return WebSocketBackfill.quantity(value);
+        } catch (RuntimeException e) {
+            return -1;
         }
     }
 
     private WebSocketRequest getAndRemoveRequest(long id) throws IOException {
-        if (!requestForId.containsKey(id)) {
+        WebSocketRequest request = requestForId.remove(id);
+        if (request == null) {
             throw new IOException(
                     String.format("Received reply for unexpected request id: %d", id));
         }
-        WebSocketRequest request = requestForId.get(id);
-        requestForId.remove(id);
+        request.cancelTimeout();
         return request;
     }
 
-    private long getReplyId(JsonNode replyJson) throws IOException {
-        JsonNode idField = replyJson.get("id");
-        if (idField == null) {
-            throw new IOException("'id' field is missing in the reply");
-        }
-
-        if (!idField.isIntegralNumber()) {
-            if (idField.isTextual()) {
-                try {
-                    return Long.parseLong(idField.asText());
-                } catch (NumberFormatException e) {
-                    throw new IOException(
-                            String.format(
-                                    "Found Textual 'id' that cannot be casted to long. Input : '%s'",
-                                    idField.asText()));
-                }
-            } else {
+    private long getReplyId(JsonParser parser) throws IOException {
+        JsonToken idToken = parser.currentToken();
+        if (idToken == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        } else if (idToken == JsonToken.VALUE_STRING) {
+            try {
+                return Long.parseLong(parser.getText());
+            } catch (NumberFormatException e) {
                 throw new IOException(
                         String.format(
-                                "'id' expected to be long, but it is: '%s'", idField.asText()));
+                                "Found Textual 'id' that cannot be casted to long. Input : '%s'",
+                                parser.getText()));
             }
+        } else {
+            throw new IOException(
+                    String.format("'id' expected to be long, but it is: '%s'", parser.getText()));
         }
-
-        return idField.longValue();
     }
 
     private static URI parseURI(String serverUrl) {
@@ -480,21 +787,26 @@ public class WebSocketService implements Web3jService {
         // an Flowable to a client before we got a reply
         // a client can unsubscribe before we know a subscription
         // id and this can cause a race condition
-        subscribeToEventsStream(request, subject, responseType);
+        subscribeToEventsStream(request, subject, responseType, unsubscribeMethod);
 
         return subject.doOnDispose(() -> closeSubscription(subject, unsubscribeMethod))
                 .toFlowable(BackpressureStrategy.BUFFER);
     }
 
     private <T extends Notification<?>> void subscribeToEventsStream(
-            Request request, BehaviorSubject<T> subject, Class<T> responseType) {
+            Request request,
+            BehaviorSubject<T> subject,
+            Class<T> responseType,
+            String unsubscribeMethod) {
 
         subscriptionRequestForId.put(
-                request.getId(), new WebSocketSubscription<>(subject, responseType));
+                request.getId(),
+                new WebSocketSubscription<>(subject, responseType, request, unsubscribeMethod));
         try {
             send(request, EthSubscribe.class);
         } catch (IOException e) {
             log.error("Failed to subscribe to RPC events with request id {}", request.getId());
+            subscriptionRequestForId.remove(request.getId());
             subject.onError(e);
         }
     }
@@ -503,7 +815,10 @@ public class WebSocketService implements Web3jService {
             BehaviorSubject<T> subject, String unsubscribeMethod) {
         String subscriptionId = getSubscriptionId(subject);
         if (subscriptionId != null) {
-            subscriptionForId.remove(subscriptionId);
+            WebSocketSubscription<?> subscription = subscriptionForId.remove(subscriptionId);
+            if (subscription != null && subscription.getEvents() != null) {
+                subscription.getEvents().close();
+            }
             unsubscribeFromEventsStream(subscriptionId, unsubscribeMethod);
         } else {
             log.warn("Trying to unsubscribe from a non-existing subscription. Race condition?");
@@ -537,24 +852,187 @@ public class WebSocketService implements Web3jService {
 
     @Override
     public void close() {
+        closed = true;
         webSocketClient.close();
-        executor.shutdown();
     }
 
     void onWebSocketClose() {
-        closeOutstandingRequests();
-        closeOutstandingSubscriptions();
+        if (isAutoReconnect() && !closed) {
+            log.warn("WebSocket connection was lost, reconnecting");
+            for (WebSocketRequest<?> request : requestForId.values()) {
+                synchronized (request) {
+                    request.setSent(false);
+                }
+            }
+            subscriptionForId.values().forEach(WebSocketSubscription::startResync);
+            startReconnecting();
+        } else {
+            closeOutstandingRequests();
+            closeOutstandingSubscriptions();
+        }
+    }
+
+    private void startReconnecting() {
+        if (reconnecting.compareAndSet(false, true)) {
+            Thread thread = new Thread(this::reconnect, "web3j-websocket-reconnect");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    private void reconnect() {
+        try {
+            for (int attempt = 0; !closed; attempt++) {
+                TimeUnit.NANOSECONDS.sleep(reconnectDelayNanos(attempt));
+                try {
+                    if (!closed && webSocketClient.reconnectBlocking()) {
+                        log.info("Reconnected via WebSocket protocol");
+                        restore();
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (Exception e) {
+                    log.warn("Failed to reconnect via WebSocket protocol", e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while reconnecting via WebSocket protocol");
+        } finally {
+            reconnecting.set(false);
+            // the connection may have been lost again while restoring it
+            if (!closed && !webSocketClient.isOpen()) {
+                startReconnecting();
+            }
+        }
+    }
+
+    /** @return exponential backoff with equal jitter */
+    private long reconnectDelayNanos(int attempt) {
+        long cap = reconnectMaxBackoffNanos;
+        if (attempt < Long.numberOfLeadingZeros(reconnectInitialBackoffNanos) - 1) {
+            cap = Math.min(cap, reconnectInitialBackoffNanos << attempt);
+        }
+        long half = cap / 2;
+        return half + ThreadLocalRandom.current().nextLong(cap - half + 1);
+    }
+
+    /** Sends outstanding requests again and re-establishes subscriptions. */
+    private void restore() {
+        for (WebSocketRequest<?> request : requestForId.values()) {
+            transmit(request);
+        }
+        for (WebSocketSubscription<?> subscription : new ArrayList<>(subscriptionForId.values())) {
+            resubscribe(subscription);
+        }
+    }
+
+    private void resubscribe(WebSocketSubscription<?> subscription) {
+        String previousId = subscription.getSubscriptionId();
+        Request<?, ?> original = subscription.getSubscribeRequest();
+        Request<?, EthSubscribe> request =
+                new Request<>(original.getMethod(), original.getParams(), this, EthSubscribe.class);
+        subscriptionRequestForId.put(request.getId(), subscription);
+        try {
+            EthSubscribe reply = send(request, EthSubscribe.class);
+            if (reply.hasError()) {
+                // failed when the reply was processed
+                return;
+            }
+            if (isBackfilled(subscription)) {
+                backfill(subscription);
+            }
+            flushResync(subscription);
+        } catch (IOException e) {
+            subscriptionRequestForId.remove(request.getId());
+            String subscriptionId = subscription.getSubscriptionId();
+            subscriptionForId.remove(subscriptionId);
+            if (!subscriptionId.equals(previousId)) {
+                unsubscribeFromEventsStream(subscriptionId, subscription.getUnsubscribeMethod());
+            }
+            log.error("Failed to re-establish subscription", e);
+            failSubscription(subscription, e);
+        }
+    }
+
+    /** Delivers the newHeads or logs events emitted since the latest one received. */
+    private void backfill(WebSocketSubscription<?> subscription) throws IOException {
+        long lastBlock = subscription.getLastBlock();
+        if (lastBlock < 0) {
+            return;
+        }
+        boolean heads = "newHeads".equals(subscription.getKind());
+        WebSocketBackfill backfill = new WebSocketBackfill(this, objectMapper);
+        long head = backfill.getBlockNumber();
+        // logs of the latest block may be partially delivered, unless it was fully seen
+        long fromBlock =
+                heads || subscription.getLastLogIndex() == Long.MAX_VALUE
+                        ? lastBlock + 1
+                        : lastBlock;
+        if (fromBlock > head) {
+            return;
+        }
+        if (head - fromBlock >= MAX_BACKFILL_BLOCKS) {
+            log.warn(
+                    "Events of blocks {} to {} were missed while reconnecting and are skipped",
+                    fromBlock,
+                    head - MAX_BACKFILL_BLOCKS);
+            fromBlock = head - MAX_BACKFILL_BLOCKS + 1;
+        }
+
+        List<JsonNode> results;
+        if (heads) {
+            results = backfill.getBlocks(fromBlock, head);
+        } else {
+            List<?> params = subscription.getSubscribeRequest().getParams();
+            results = backfill.getLogs(params.size() > 1 ? params.get(1) : null, fromBlock, head);
+        }
+        for (JsonNode result : results) {
+            long block = WebSocketBackfill.quantity(result.get(heads ? "number" : "blockNumber"));
+            long logIndex = heads ? -1 : WebSocketBackfill.quantity(result.get("logIndex"));
+            synchronized (subscription) {
+                if (subscription.isAfterLast(block, logIndex)) {
+                    subscription.advance(block, logIndex);
+                    sendEventToSubscriber(
+                            subscription.getSubscriptionId(),
+                            backfill.toEvent(subscription.getSubscriptionId(), result),
+                            subscription);
+                }
+            }
+        }
+    }
+
+    /** Delivers events received while the subscription was re-established. */
+    private void flushResync(WebSocketSubscription<?> subscription) throws IOException {
+        synchronized (subscription) {
+            for (WebSocketSubscription.BufferedEvent buffered : subscription.finishResync()) {
+                if (buffered.block < 0) {
+                    sendEventToSubscriber(
+                            subscription.getSubscriptionId(), buffered.event, subscription);
+                } else if (subscription.isAfterLast(buffered.block, buffered.logIndex)) {
+                    subscription.advance(buffered.block, buffered.logIndex);
+                    sendEventToSubscriber(
+                            subscription.getSubscriptionId(), buffered.event, subscription);
+                }
+            }
+        }
+    }
+
+    private void failSubscription(WebSocketSubscription<?> subscription, IOException e) {
+        subscription.finishResync();
+        if (subscription.getEvents() != null) {
+            subscription.getEvents().fail(e);
+        } else {
+            subscription.getSubject().onError(e);
+        }
     }
 
     private void closeOutstandingRequests() {
-        requestForId
-                .values()
-                .forEach(
-                        request ->
-                                request.getOnReply()
-                                        .completeExceptionally(
-                                                new IOException("Connection was closed")));
-        requestForId.clear();
+        for (WebSocketRequest<?> request : requestForId.clear()) {
+            request.cancelTimeout();
+            request.getOnReply().completeExceptionally(new IOException("Connection was closed"));
+        }
     }
 
     private void closeOutstandingSubscriptions() {
@@ -562,9 +1040,8 @@ public class WebSocketService implements Web3jService {
                 .values()
                 .forEach(
                         subscription ->
-                                subscription
-                                        .getSubject()
-                                        .onError(new IOException("Connection was closed")));
+                                failSubscription(
+                                        subscription, new IOException("Connection was closed")));
         subscriptionForId.clear();
     }
 
@@ -572,4 +1049,37 @@ public class WebSocketService implements Web3jService {
     boolean isWaitingForReply(long requestId) {
         return requestForId.containsKey(requestId);
     }
+
+    /** Timer shared by all services without one of their own. */
+    private static class SharedTimer {
+        static final HashedWheelTimer INSTANCE = new HashedWheelTimer();
+    }
+
+    /** Fields of an incoming message identifying how it is dispatched. */
+    private static class MessageHeader {
+        private final boolean batch;
+        private boolean hasId;
+        private long replyId;
+        private boolean hasMethod;
+        private String subscriptionId;
+        // Position of a newHeads or logs event, read only if the connection is restored
+        private long block = -1;
+        private long logIndex = -1;
+
+        private MessageHeader(boolean batch) {
+            this.batch = batch;
+        }
+
+        private boolean isReply() {
+            return !batch && hasId;
+        }
+
+        private boolean isBatchReply() {
+            return batch;
+        }
+
+        private boolean isSubscriptionEvent() {
+            return !batch && hasMethod;
+        }
+    }
 }
@@ -12,8 +12,14 @@
  */
 package org.web3j.protocol.websocket;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
 import io.reactivex.subjects.BehaviorSubject;
 
+import org.web3j.protocol.core.Request;
+
 /**
  * Objects necessary to process a new item received via a WebSocket subscription.
  *
@@ -22,6 +28,19 @@ import io.reactivex.subjects.BehaviorSubject;
 public class WebSocketSubscription<T> {
     private BehaviorSubject<T> subject;
     private Class<T> responseType;
+    private String unsubscribeMethod;
+    // Queue of events waiting for delivery, or null if events are delivered as they are received
+    private WebSocketEventQueue events;
+    private final AtomicLong deliveredCount = new AtomicLong();
+
+    // Request the subscription was created with, to re-establish it after reconnecting
+    private Request<?, ?> subscribeRequest;
+    private volatile String subscriptionId;
+    // Position of the latest newHeads or logs event, to backfill events missed while reconnecting
+    private long lastBlock = -1;
+    private long lastLogIndex = -1;
+    // Events received while the subscription is re-established, or null
+    private List<BufferedEvent> resyncBuffer;
 
     /**
      * Creates WebSocketSubscription.
@@ -34,6 +53,16 @@ public class WebSocketSubscription<T> {
         this.responseType = responseType;
     }
 
+    WebSocketSubscription(
+            BehaviorSubject<T> subject,
+            Class<T> responseType,
+            Request<?, ?> subscribeRequest,
+            String unsubscribeMethod) {
+        this(subject, responseType);
+        this.subscribeRequest = subscribeRequest;
+        this.unsubscribeMethod = unsubscribeMethod;
+    }
+
     public BehaviorSubject<T> getSubject() {
         return subject;
     }
@@ -41,4 +70,119 @@ public class WebSocketSubscription<T> {
     public Class<T> getResponseType() {
         return responseType;
     }
+
+    /**
+     * Returns the number of events received but not yet delivered to the subscriber.
+     *
+     * @return number of queued events
+     */
+    public int getLag() {
+        return events != null ? events.getLag() : 0;
+    }
+
+    /**
+     * Returns the number of events delivered to the subscriber.
+     *
+     * @return number of delivered events
+     */
+    public long getDeliveredCount() {
+        return events != null ? events.getDeliveredCount() : deliveredCount.get();
+    }
+
+    /**
+     * Returns the number of events discarded because the subscriber fell behind.
+     *
+     * @return number of dropped events
+     */
+    public long getDroppedCount() {
+        return events != null ? events.getDroppedCount() : 0;
+    }
+
+    String getUnsubscribeMethod() {
+        return unsubscribeMethod;
+    }
+
+    Request<?, ?> getSubscribeRequest() {
+        return subscribeRequest;
+    }
+
+    String getSubscriptionId() {
+        return subscriptionId;
+    }
+
+    void setSubscriptionId(String subscriptionId) {
+        this.subscriptionId = subscriptionId;
+    }
+
+    /** @return the subscription type, such as newHeads or logs */
+    String getKind() {
+        List<?> params = subscribeRequest != null ? subscribeRequest.getParams() : null;
+        return params != null && !params.isEmpty() ? String.valueOf(params.get(0)) : null;
+    }
+
+    synchronized long getLastBlock() {
+        return lastBlock;
+    }
+
+    synchronized long getLastLogIndex() {
+        return lastLogIndex;
+    }
+
+    /** Records an event position, if it follows the latest one. */
+    synchronized void advance(long block, long logIndex) {
+        if (isAfterLast(block, logIndex)) {
+            lastBlock = block;
+            lastLogIndex = logIndex;
+        }
+    }
+
+    synchronized boolean isAfterLast(long block, long logIndex) {
+        return block > lastBlock || (block == lastBlock && logIndex > lastLogIndex);
+    }
+
+    synchronized void startResync() {
+        if (resyncBuffer == null) {
+            resyncBuffer = new ArrayList<>();
+        }
+    }
+
+    /** @return false if the subscription is not being re-established */
+    synchronized boolean bufferDuringResync(String event, long block, long logIndex) {
+        if (resyncBuffer == null) {
+            return false;
+        }
+        resyncBuffer.add(new BufferedEvent(event, block, logIndex));
+        return true;
+    }
+
+    /** @return events received while re-establishing the subscription */
+    synchronized List<BufferedEvent> finishResync() {
+        List<BufferedEvent> buffered = resyncBuffer;
+        resyncBuffer = null;
+        return buffered != null ? buffered : new ArrayList<>();
+    }
+
+    WebSocketEventQueue getEvents() {
+        return events;
+    }
+
+    void setEvents(WebSocketEventQueue events) {
+        this.events = events;
+    }
+
+    void onDelivered() {
+        deliveredCount.incrementAndGet();
+    }
+
+    static class BufferedEvent {
+        final String event;
+        final long block;
+        final long logIndex;
+
+        BufferedEvent(String event, long block, long logIndex) {
+            this.event = event;
+            this.block = block;
+            this.logIndex = logIndex;
+        }
+    }
 }
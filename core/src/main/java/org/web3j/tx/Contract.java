@@ -23,6 +23,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 import org.web3j.abi.EventEncoder;
@@ -44,6 +46,7 @@ import org.web3j.protocol.core.RemoteCall;
 import org.web3j.protocol.core.RemoteFunctionCall;
 import org.web3j.protocol.core.methods.request.Transaction;
 import org.web3j.protocol.core.methods.response.EthGetCode;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
 import org.web3j.protocol.core.methods.response.Log;
 import org.web3j.protocol.core.methods.response.TransactionReceipt;
 import org.web3j.protocol.exceptions.JsonRpcError;
@@ -53,9 +56,11 @@ import org.web3j.tx.gas.ContractEIP1559GasProvider;
 import org.web3j.tx.gas.ContractGasProvider;
 import org.web3j.tx.gas.StaticGasProvider;
 import org.web3j.tx.response.EmptyTransactionReceipt;
+import org.web3j.utils.Async;
 
 import static org.web3j.crypto.Hash.sha3String;
 import static org.web3j.utils.Numeric.cleanHexPrefix;
+import static org.web3j.utils.Numeric.hexStringToByteArray;
 import static org.web3j.utils.RevertReasonExtractor.extractRevertReason;
 
 /**
@@ -79,6 +84,7 @@ public abstract class Contract extends ManagedTransaction {
     protected TransactionReceipt transactionReceipt;
     protected Map<String, String> deployedAddresses;
     protected DefaultBlockParameter defaultBlockParameter = DefaultBlockParameterName.LATEST;
+    private boolean nonBlockingAsync = false;
     private static final List<String> METADATA_HASH_INDICATORS =
             Collections.unmodifiableList(
                     Arrays.asList(
@@ -300,6 +306,26 @@ public abstract class Contract extends ManagedTransaction {
         this.defaultBlockParameter = defaultBlockParameter;
     }
 
+    /**
+     * Enables or disables non-blocking asynchronous transactions. When enabled, {@link
+     * RemoteCall#sendAsync()} of a transaction sends it through {@link
+     * TransactionManager#sendTransaction} and waits for its receipt with {@link
+     * org.web3j.tx.response.TransactionReceiptProcessor#waitForTransactionReceiptAsync(String)},
+     * without blocking a thread for the confirmation time. Overrides of {@link
+     * #executeTransaction(Function)}, {@link #send} or {@link #sendEIP1559}, and of the
+     * transaction manager's {@code executeTransaction} and {@code processResponse} methods, are
+     * then not used.
+     *
+     * @param nonBlockingAsync true to enable non-blocking asynchronous transactions
+     */
+    public void setNonBlockingAsync(boolean nonBlockingAsync) {
+        this.nonBlockingAsync = nonBlockingAsync;
+    }
+
+    public boolean isNonBlockingAsync() {
+        return nonBlockingAsync;
+    }
+
     /**
      * Execute constant function call - i.e. a call that does not change state of the contract
      *
@@ -311,7 +337,21 @@ public abstract class Contract extends ManagedTransaction {
 
         String value = call(contractAddress, encodedFunction, defaultBlockParameter);
 
-        return FunctionReturnDecoder.decode(value, function.getOutputParameters());
+        return decode(value, function.getOutputParameters());
+    }
+
+    /**
+     * Decodes ABI encoded values from their binary form, converting the hex input only once.
+     *
+     * @param rawInput ABI encoded hex input
+     * @param parameters list of types to decode as {@link TypeReference}
+     * @return {@link List} of decoded values
+     */
+    private static List<Type> decode(String rawInput, List<TypeReference<Type>> parameters) {
+        if (rawInput == null) {
+            return Collections.emptyList();
+        }
+        return FunctionReturnDecoder.decode(hexStringToByteArray(rawInput), parameters);
     }
 
     protected String executeCallWithoutDecoding(Function function) throws IOException {
@@ -417,20 +457,112 @@ public abstract class Contract extends ManagedTransaction {
                                 constructor);
             }
         } catch (JsonRpcError error) {
+            throw toTransactionException(error);
+        }
 
-            if (error.getData() != null) {
-                throw new TransactionException(error.getData().toString());
-            } else {
-                throw new TransactionException(
-                        String.format(
-                                "JsonRpcError thrown with code %d. Message: %s",
-                                error.getCode(), error.getMessage()));
-            }
+        return checkStatus(receipt, data, weiValue);
+    }
+
+    /**
+     * Executes a transaction for {@link RemoteCall#sendAsync()}. Unless {@link
+     * #setNonBlockingAsync(boolean)} is enabled, {@link #executeTransaction(Function)} is run on
+     * the {@link Async} executor.
+     *
+     * @param function to transact with
+     * @return future completed with the transaction receipt
+     */
+    protected CompletableFuture<TransactionReceipt> executeTransactionAsync(Function function) {
+        if (nonBlockingAsync) {
+            return executeTransactionNonBlocking(
+                    FunctionEncoder.encode(function), BigInteger.ZERO, false);
         }
+        return Async.run(() -> executeTransaction(function));
+    }
 
-        if (!(receipt instanceof EmptyTransactionReceipt)
+    private CompletableFuture<TransactionReceipt> executeTransactionAsync(
+            Function function, BigInteger weiValue) {
+        if (nonBlockingAsync) {
+            return executeTransactionNonBlocking(
+                    FunctionEncoder.encode(function), weiValue, false);
+        }
+        return Async.run(() -> executeTransaction(function, weiValue));
+    }
+
+    /**
+     * Sends a transaction and waits for its receipt without blocking a thread for the
+     * confirmation time.
+     */
+    private CompletableFuture<TransactionReceipt> executeTransactionNonBlocking(
+            String data, BigInteger weiValue, boolean constructor) {
+        return Async.run(() -> sendTransaction(data, weiValue, constructor))
+                .thenCompose(transactionManager::processResponseAsync)
+                .handle(
+                        (receipt, throwable) -> {
+                            Throwable cause =
+                                    throwable instanceof CompletionException
+                                            ? throwable.getCause()
+                                            : throwable;
+                            if (cause instanceof JsonRpcError) {
+                                throw new CompletionException(
+                                        toTransactionException((JsonRpcError) cause));
+                            } else if (cause != null) {
+                                throw new CompletionException(cause);
+                            }
+                            return receipt;
+                        })
+                .thenCompose(
+                        receipt ->
+                                isFailed(receipt)
+                                        ? Async.run(() -> checkStatus(receipt, data, weiValue))
+                                        : CompletableFuture.completedFuture(receipt));
+    }
+
+    private EthSendTransaction sendTransaction(
+            String data, BigInteger weiValue, boolean constructor) throws IOException {
+        if (gasProvider instanceof ContractEIP1559GasProvider) {
+            ContractEIP1559GasProvider eip1559GasProvider =
+                    (ContractEIP1559GasProvider) gasProvider;
+
+            return transactionManager.sendEIP1559Transaction(
+                    eip1559GasProvider.getChainId(),
+                    eip1559GasProvider.getMaxPriorityFeePerGas(),
+                    eip1559GasProvider.getMaxFeePerGas(),
+                    eip1559GasProvider.getGasLimit(getGenericTransaction(data, constructor)),
+                    contractAddress,
+                    data,
+                    weiValue,
+                    constructor);
+        }
+        return transactionManager.sendTransaction(
+                gasProvider.getGasPrice(),
+                gasProvider.getGasLimit(getGenericTransaction(data, constructor)),
+                contractAddress,
+                data,
+                weiValue,
+                constructor);
+    }
+
+    private static TransactionException toTransactionException(JsonRpcError error) {
+        if (error.getData() != null) {
+            return new TransactionException(error.getData().toString());
+        } else {
+            return new TransactionException(
+                    String.format(
+                            "JsonRpcError thrown with code %d. Message: %s",
+                            error.getCode(), error.getMessage()));
+        }
+    }
+
+    private static boolean isFailed(TransactionReceipt receipt) {
+        return !(receipt instanceof EmptyTransactionReceipt)
                 && receipt != null
-                && !receipt.isStatusOK()) {
+                && !receipt.isStatusOK();
+    }
+
+    private TransactionReceipt checkStatus(
+            TransactionReceipt receipt, String data, BigInteger weiValue)
+            throws IOException, TransactionException {
+        if (isFailed(receipt)) {
             throw new TransactionException(
                     String.format(
                             "Transaction %s has failed with status: %s. "
@@ -483,12 +615,18 @@ public abstract class Contract extends ManagedTransaction {
 
     protected RemoteFunctionCall<TransactionReceipt> executeRemoteCallTransaction(
             Function function) {
-        return new RemoteFunctionCall<>(function, () -> executeTransaction(function));
+        return new RemoteFunctionCall<>(
+                function,
+                () -> executeTransaction(function),
+                () -> executeTransactionAsync(function));
     }
 
     protected RemoteFunctionCall<TransactionReceipt> executeRemoteCallTransaction(
             Function function, BigInteger weiValue) {
-        return new RemoteFunctionCall<>(function, () -> executeTransaction(function, weiValue));
+        return new RemoteFunctionCall<>(
+                function,
+                () -> executeTransaction(function, weiValue),
+                () -> executeTransactionAsync(function, weiValue));
     }
 
     private static <T extends Contract> T create(
@@ -814,8 +952,7 @@ public abstract class Contract extends ManagedTransaction {
         }
 
         List<Type> indexedValues = new ArrayList<>();
-        List<Type> nonIndexedValues =
-                FunctionReturnDecoder.decode(log.getData(), event.getNonIndexedParameters());
+        List<Type> nonIndexedValues = decode(log.getData(), event.getNonIndexedParameters());
 
         List<TypeReference<Type>> indexedParameters = event.getIndexedParameters();
         for (int i = 0; i < indexedParameters.size(); i++) {
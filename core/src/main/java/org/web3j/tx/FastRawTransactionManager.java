@@ -14,32 +14,46 @@ package org.web3j.tx;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 
 import org.web3j.crypto.Credentials;
+import org.web3j.crypto.RawTransaction;
 import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
 import org.web3j.service.TxSignService;
+import org.web3j.tx.exceptions.BatchTransactionException;
+import org.web3j.tx.exceptions.TxHashMismatchException;
 import org.web3j.tx.response.TransactionReceiptProcessor;
 
 /**
  * Simple RawTransactionManager derivative that manages nonces to facilitate multiple transactions
  * per block.
+ *
+ * <p>Nonces are allocated by a {@link NonceManager}, so concurrent senders do not contend on a
+ * lock. The nonce of a transaction the node does not accept is reused by the next send.
  */
 public class FastRawTransactionManager extends RawTransactionManager {
 
-    private volatile BigInteger nonce = BigInteger.valueOf(-1);
+    private final NonceManager nonceManager;
 
     public FastRawTransactionManager(Web3j web3j, Credentials credentials, long chainId) {
         super(web3j, credentials, chainId);
+        this.nonceManager = new NonceManager(web3j, getFromAddress());
     }
 
     public FastRawTransactionManager(
             Web3j web3j, TxSignService txSignService, long chainId, BigInteger nonce) {
         super(web3j, txSignService, chainId);
-        this.nonce = nonce;
+        this.nonceManager = new NonceManager(web3j, getFromAddress());
+        nonceManager.setCurrentNonce(nonce);
     }
 
     public FastRawTransactionManager(Web3j web3j, Credentials credentials) {
         super(web3j, credentials);
+        this.nonceManager = new NonceManager(web3j, getFromAddress());
     }
 
     public FastRawTransactionManager(
@@ -47,6 +61,7 @@ public class FastRawTransactionManager extends RawTransactionManager {
             Credentials credentials,
             TransactionReceiptProcessor transactionReceiptProcessor) {
         super(web3j, credentials, ChainId.NONE, transactionReceiptProcessor);
+        this.nonceManager = new NonceManager(web3j, getFromAddress());
     }
 
     public FastRawTransactionManager(
@@ -55,32 +70,99 @@ public class FastRawTransactionManager extends RawTransactionManager {
             long chainId,
             TransactionReceiptProcessor transactionReceiptProcessor) {
         super(web3j, credentials, chainId, transactionReceiptProcessor);
+        this.nonceManager = new NonceManager(web3j, getFromAddress());
+    }
+
+    @Override
+    protected BigInteger getNonce() throws IOException {
+        return nonceManager.reserve();
+    }
+
+    @Override
+    public EthSendTransaction signAndSend(RawTransaction rawTransaction) throws IOException {
+        return signAndSendAll(Collections.singletonList(rawTransaction), false).get(0);
     }
 
     @Override
-    protected synchronized BigInteger getNonce() throws IOException {
-        if (nonce.signum() == -1) {
-            // obtain lock
-            nonce = super.getNonce();
-        } else {
-            nonce = nonce.add(BigInteger.ONE);
+    public List<EthSendTransaction> signAndSendAll(List<RawTransaction> rawTransactions)
+            throws IOException {
+        return signAndSendAll(rawTransactions, true);
+    }
+
+    private List<EthSendTransaction> signAndSendAll(
+            List<RawTransaction> rawTransactions, boolean batch) throws IOException {
+        List<EthSendTransaction> responses;
+        BatchTransactionException failure = null;
+        try {
+            responses =
+                    batch
+                            ? super.signAndSendAll(rawTransactions)
+                            : Collections.singletonList(
+                                    super.signAndSend(rawTransactions.get(0)));
+        } catch (BatchTransactionException e) {
+            failure = e;
+            responses = e.getResponses();
+        } catch (TxHashMismatchException e) {
+            // the node accepted a transaction with this nonce
+            nonceManager.confirm(rawTransactions.get(0).getNonce());
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            releaseNonces(rawTransactions);
+            throw e;
         }
-        return nonce;
+
+        List<RawTransaction> rejected = new ArrayList<>();
+        for (int i = 0; i < responses.size(); i++) {
+            EthSendTransaction response = responses.get(i);
+            if (response == null || response.hasError()) {
+                rejected.add(rawTransactions.get(i));
+            } else {
+                // including unexpected transaction hashes, the node accepted the nonce
+                nonceManager.confirm(rawTransactions.get(i).getNonce());
+            }
+        }
+
+        if (!rejected.isEmpty()) {
+            releaseNonces(rejected);
+            try {
+                // nonces may have been rejected as already used
+                nonceManager.reconcile();
+            } catch (IOException e) {
+                // the error responses take precedence, a later reconcile will catch up
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+        return responses;
+    }
+
+    private void releaseNonces(List<RawTransaction> rawTransactions) {
+        // release from the highest nonce down, so that allocation can roll back past all of them
+        rawTransactions.stream()
+                .map(RawTransaction::getNonce)
+                .sorted(Comparator.reverseOrder())
+                .forEach(nonceManager::release);
+    }
+
+    public NonceManager getNonceManager() {
+        return nonceManager;
     }
 
     public BigInteger getCurrentNonce() {
-        return nonce;
+        return nonceManager.getCurrentNonce();
     }
 
-    public synchronized void resetNonce() throws IOException {
-        nonce = super.getNonce().subtract(BigInteger.ONE);
+    public void resetNonce() throws IOException {
+        nonceManager.reset();
     }
 
-    public synchronized void clearNonce() {
-        nonce = BigInteger.valueOf(-1);
+    public void clearNonce() {
+        nonceManager.clear();
     }
 
-    public synchronized void setNonce(BigInteger value) {
-        nonce = value;
+    public void setNonce(BigInteger value) {
+        nonceManager.setCurrentNonce(value);
     }
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+
+/**
+ * Allocates nonces for a single account without a global lock.
+ *
+ * <p>Nonces are handed out by {@link #reserve()} and remain in flight until the send either
+ * succeeds ({@link #confirm(BigInteger)}) or fails ({@link #release(BigInteger)}). A released
+ * nonce is handed out again before any new one, so a rejected send does not leave a permanent gap.
+ *
+ * <p>Transactions may also be dropped by the node after being accepted. {@link #reconcile()}
+ * compares the allocation against the account's pending transaction count and queues the first
+ * missing nonce to be filled by the next reservation.
+ */
+public class NonceManager {
+
+    private static final long UNINITIALISED = -1;
+
+    private final Web3j web3j;
+    private final String address;
+
+    private final AtomicLong next = new AtomicLong(UNINITIALISED);
+    private final ConcurrentSkipListSet<Long> inFlight = new ConcurrentSkipListSet<>();
+    private final ConcurrentSkipListSet<Long> released = new ConcurrentSkipListSet<>();
+
+    public NonceManager(Web3j web3j, String address) {
+        this.web3j = web3j;
+        this.address = address;
+    }
+
+    /**
+     * Reserves the next nonce. The pending transaction count is only requested on first use, or
+     * after {@link #clear()}.
+     *
+     * @return reserved nonce
+     * @throws IOException if the pending transaction count cannot be retrieved
+     */
+    public BigInteger reserve() throws IOException {
+        Long nonce = released.pollFirst();
+        if (nonce == null) {
+            nonce = nextNonce();
+        }
+        inFlight.add(nonce);
+        return BigInteger.valueOf(nonce);
+    }
+
+    /**
+     * Marks a reserved nonce as accepted by the node.
+     *
+     * @param nonce nonce returned by {@link #reserve()}
+     */
+    public void confirm(BigInteger nonce) {
+        inFlight.remove(nonce.longValueExact());
+    }
+
+    /**
+     * Returns a reserved nonce whose transaction was not accepted, so that it is reused.
+     *
+     * @param nonce nonce returned by {@link #reserve()}
+     */
+    public void release(BigInteger nonce) {
+        long value = nonce.longValueExact();
+        if (inFlight.remove(value) && !next.compareAndSet(value + 1, value)) {
+            released.add(value);
+        }
+    }
+
+    /**
+     * Reconciles the allocation with the account's pending transaction count. Released nonces the
+     * node has already seen are discarded and, if other senders have used the account, allocation
+     * moves forward to the node's count.
+     *
+     * <p>The pending count reported by the node is the first nonce missing from its pool. If that
+     * nonce was allocated here and is no longer in flight, its transaction was dropped and the
+     * nonce is queued to be filled by the next reservation.
+     *
+     * @return the nonce queued to fill a gap, if any
+     * @throws IOException if the pending transaction count cannot be retrieved
+     */
+    public synchronized Optional<BigInteger> reconcile() throws IOException {
+        long pending = pendingTransactionCount();
+        released.headSet(pending).clear();
+
+        long current = next.get();
+        while (current < pending) {
+            if (next.compareAndSet(current, pending)) {
+                return Optional.empty();
+            }
+            current = next.get();
+        }
+
+        if (pending < current && !inFlight.contains(pending) && released.add(pending)) {
+            return Optional.of(BigInteger.valueOf(pending));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Restarts allocation from the account's pending transaction count.
+     *
+     * @throws IOException if the pending transaction count cannot be retrieved
+     */
+    public synchronized void reset() throws IOException {
+        setCurrentNonce(BigInteger.valueOf(pendingTransactionCount() - 1));
+    }
+
+    /** Discards the allocation state. The pending transaction count is requested on next use. */
+    public synchronized void clear() {
+        released.clear();
+        next.set(UNINITIALISED);
+    }
+
+    /**
+     * Sets the most recently used nonce, from which allocation continues. A negative value is
+     * equivalent to {@link #clear()}.
+     *
+     * @param nonce most recently used nonce
+     */
+    public synchronized void setCurrentNonce(BigInteger nonce) {
+        released.clear();
+        next.set(nonce.signum() < 0 ? UNINITIALISED : nonce.longValueExact() + 1);
+    }
+
+    /** @return the most recently allocated nonce, or -1 if none has been allocated yet */
+    public BigInteger getCurrentNonce() {
+        long current = next.get();
+        return BigInteger.valueOf(current == UNINITIALISED ? UNINITIALISED : current - 1);
+    }
+
+    /** @return number of reserved nonces that have been neither confirmed nor released */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    private long nextNonce() throws IOException {
+        while (true) {
+            long current = next.get();
+            if (current == UNINITIALISED) {
+                initialise();
+            } else if (next.compareAndSet(current, current + 1)) {
+                return current;
+            }
+        }
+    }
+
+    private synchronized void initialise() throws IOException {
+        if (next.get() == UNINITIALISED) {
+            next.set(pendingTransactionCount());
+        }
+    }
+
+    private long pendingTransactionCount() throws IOException {
+        return web3j.ethGetTransactionCount(address, DefaultBlockParameterName.PENDING)
+                .send()
+                .getTransactionCount()
+                .longValueExact();
+    }
+}
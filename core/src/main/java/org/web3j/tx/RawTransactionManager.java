@@ -14,13 +14,25 @@ package org.web3j.tx;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.web3j.crypto.Credentials;
 import org.web3j.crypto.Hash;
 import org.web3j.crypto.RawTransaction;
 import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
 import org.web3j.protocol.core.DefaultBlockParameter;
 import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
 import org.web3j.protocol.core.methods.request.Transaction;
 import org.web3j.protocol.core.methods.response.EthCall;
 import org.web3j.protocol.core.methods.response.EthGetCode;
@@ -28,6 +40,7 @@ import org.web3j.protocol.core.methods.response.EthGetTransactionCount;
 import org.web3j.protocol.core.methods.response.EthSendTransaction;
 import org.web3j.service.TxSignService;
 import org.web3j.service.TxSignServiceImpl;
+import org.web3j.tx.exceptions.BatchTransactionException;
 import org.web3j.tx.exceptions.TxHashMismatchException;
 import org.web3j.tx.response.TransactionReceiptProcessor;
 import org.web3j.utils.Numeric;
@@ -192,6 +205,75 @@ public class RawTransactionManager extends TransactionManager {
         String hexValue = sign(rawTransaction);
         EthSendTransaction ethSendTransaction = web3j.ethSendRawTransaction(hexValue).send();
 
+        verifyTransactionHash(hexValue, ethSendTransaction);
+        return ethSendTransaction;
+    }
+
+    /**
+     * Signs the transactions in parallel and submits them in a single JSON-RPC batch request.
+     *
+     * <p>Each transaction is accepted or rejected by the node individually, so the result of every
+     * transaction has to be checked with {@link EthSendTransaction#hasError()}.
+     *
+     * @param rawTransactions RawTransaction instances with their nonces set
+     * @return the responses, in the order of the given transactions
+     * @throws IOException if the batch request fails
+     * @throws BatchTransactionException if a response is missing or the node reports an
+     *     unexpected transaction hash, with the responses to all transactions
+     */
+    public List<EthSendTransaction> signAndSendAll(List<RawTransaction> rawTransactions)
+            throws IOException {
+        if (rawTransactions.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> hexValues =
+                rawTransactions.parallelStream().map(this::sign).collect(Collectors.toList());
+
+        BatchRequest batchRequest = web3j.newBatch();
+        Map<Long, Integer> positions = new HashMap<>();
+        for (int i = 0; i < hexValues.size(); i++) {
+            Request<?, EthSendTransaction> request = web3j.ethSendRawTransaction(hexValues.get(i));
+            positions.put(request.getId(), i);
+            batchRequest.add(request);
+        }
+
+        BatchResponse batchResponse = batchRequest.send();
+        if (batchResponse == null) {
+            throw new IOException("No response received for transaction batch");
+        }
+
+        // responses to a batch may be returned in any order
+        EthSendTransaction[] responses = new EthSendTransaction[hexValues.size()];
+        for (Response<?> response : batchResponse.getResponses()) {
+            Integer position = positions.get(response.getId());
+            if (position != null) {
+                responses[position] = (EthSendTransaction) response;
+            }
+        }
+
+        Map<Integer, IOException> failures = new LinkedHashMap<>();
+        for (int i = 0; i < responses.length; i++) {
+            if (responses[i] == null) {
+                failures.put(i, new IOException("Batch response is missing transaction " + i));
+                continue;
+            }
+            try {
+                verifyTransactionHash(hexValues.get(i), responses[i]);
+            } catch (TxHashMismatchException e) {
+                failures.put(i, e);
+            }
+        }
+
+        List<EthSendTransaction> results = new ArrayList<>(Arrays.asList(responses));
+        if (!failures.isEmpty()) {
+            throw new BatchTransactionException(results, failures);
+        }
+        return results;
+    }
+
+    private void verifyTransactionHash(String hexValue, EthSendTransaction ethSendTransaction)
+            throws TxHashMismatchException {
         if (ethSendTransaction != null && !ethSendTransaction.hasError()) {
             String txHashLocal = Hash.sha3(hexValue);
             String txHashRemote = ethSendTransaction.getTransactionHash();
@@ -199,7 +281,5 @@ public class RawTransactionManager extends TransactionManager {
                 throw new TxHashMismatchException(txHashLocal, txHashRemote);
             }
         }
-
-        return ethSendTransaction;
     }
 }
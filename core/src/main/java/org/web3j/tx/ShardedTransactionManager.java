@@ -0,0 +1,156 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.web3j.crypto.Credentials;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.methods.response.EthGetCode;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+import org.web3j.tx.response.PollingTransactionReceiptProcessor;
+import org.web3j.tx.response.TransactionReceiptProcessor;
+
+/**
+ * TransactionManager spreading transactions across a pool of accounts, each with its own {@link
+ * NonceManager}, so that the throughput of concurrent senders is not limited by the nonce ordering
+ * of a single account.
+ *
+ * <p>Each transaction is sent from the account with the fewest transactions in flight. Calls and
+ * {@link #getFromAddress()} use the first account, so transactions should not depend on the sender
+ * address.
+ */
+public class ShardedTransactionManager extends TransactionManager {
+
+    private final List<FastRawTransactionManager> transactionManagers;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ShardedTransactionManager(Web3j web3j, List<Credentials> credentials, long chainId) {
+        this(
+                web3j,
+                credentials,
+                chainId,
+                new PollingTransactionReceiptProcessor(
+                        web3j, DEFAULT_POLLING_FREQUENCY, DEFAULT_POLLING_ATTEMPTS_PER_TX_HASH));
+    }
+
+    public ShardedTransactionManager(
+            Web3j web3j,
+            List<Credentials> credentials,
+            long chainId,
+            TransactionReceiptProcessor transactionReceiptProcessor) {
+        super(transactionReceiptProcessor, firstAddress(credentials));
+
+        List<FastRawTransactionManager> managers = new ArrayList<>(credentials.size());
+        for (Credentials account : credentials) {
+            managers.add(
+                    new FastRawTransactionManager(
+                            web3j, account, chainId, transactionReceiptProcessor));
+        }
+        this.transactionManagers = Collections.unmodifiableList(managers);
+    }
+
+    @Override
+    public EthSendTransaction sendTransaction(
+            BigInteger gasPrice,
+            BigInteger gasLimit,
+            String to,
+            String data,
+            BigInteger value,
+            boolean constructor)
+            throws IOException {
+        return nextTransactionManager()
+                .sendTransaction(gasPrice, gasLimit, to, data, value, constructor);
+    }
+
+    @Override
+    public EthSendTransaction sendEIP1559Transaction(
+            long chainId,
+            BigInteger maxPriorityFeePerGas,
+            BigInteger maxFeePerGas,
+            BigInteger gasLimit,
+            String to,
+            String data,
+            BigInteger value,
+            boolean constructor)
+            throws IOException {
+        return nextTransactionManager()
+                .sendEIP1559Transaction(
+                        chainId,
+                        maxPriorityFeePerGas,
+                        maxFeePerGas,
+                        gasLimit,
+                        to,
+                        data,
+                        value,
+                        constructor);
+    }
+
+    @Override
+    public String sendCall(String to, String data, DefaultBlockParameter defaultBlockParameter)
+            throws IOException {
+        return transactionManagers.get(0).sendCall(to, data, defaultBlockParameter);
+    }
+
+    @Override
+    public EthGetCode getCode(String contractAddress, DefaultBlockParameter defaultBlockParameter)
+            throws IOException {
+        return transactionManagers.get(0).getCode(contractAddress, defaultBlockParameter);
+    }
+
+    /**
+     * Reconciles the nonces of all accounts with their pending transaction counts.
+     *
+     * @throws IOException if a pending transaction count cannot be retrieved
+     * @see NonceManager#reconcile()
+     */
+    public void reconcile() throws IOException {
+        for (FastRawTransactionManager transactionManager : transactionManagers) {
+            transactionManager.getNonceManager().reconcile();
+        }
+    }
+
+    public List<FastRawTransactionManager> getTransactionManagers() {
+        return transactionManagers;
+    }
+
+    FastRawTransactionManager nextTransactionManager() {
+        int size = transactionManagers.size();
+        // start from a rotating position so that idle accounts are used in turn
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+        FastRawTransactionManager selected = transactionManagers.get(start);
+        int selectedInFlight = selected.getNonceManager().getInFlightCount();
+        for (int i = 1; i < size && selectedInFlight > 0; i++) {
+            FastRawTransactionManager candidate = transactionManagers.get((start + i) % size);
+            int inFlight = candidate.getNonceManager().getInFlightCount();
+            if (inFlight < selectedInFlight) {
+                selected = candidate;
+                selectedInFlight = inFlight;
+            }
+        }
+        return selected;
+    }
+
+    private static String firstAddress(List<Credentials> credentials) {
+        if (credentials.isEmpty()) {
+            throw new IllegalArgumentException("At least one account is required");
+        }
+        return credentials.get(0).getAddress();
+    }
+}
@@ -14,6 +14,7 @@ package org.web3j.tx;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
 
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.core.DefaultBlockParameter;
@@ -180,6 +181,25 @@ public abstract class TransactionManager {
         return transactionReceiptProcessor.waitForTransactionReceipt(transactionHash);
     }
 
+    /**
+     * Waits for the receipt of a sent transaction without blocking the calling thread.
+     *
+     * @param transactionResponse response to sending the transaction
+     * @return future completed with the receipt
+     */
+    protected CompletableFuture<TransactionReceipt> processResponseAsync(
+            EthSendTransaction transactionResponse) {
+        if (transactionResponse.hasError()) {
+            CompletableFuture<TransactionReceipt> result = new CompletableFuture<>();
+            result.completeExceptionally(new JsonRpcError(transactionResponse.getError()));
+            return result;
+        }
+
+        String transactionHash = transactionResponse.getTransactionHash();
+
+        return transactionReceiptProcessor.waitForTransactionReceiptAsync(transactionHash);
+    }
+
     static void assertCallNotReverted(EthCall ethCall) {
         if (ethCall.isReverted()) {
             throw new ContractCallException(
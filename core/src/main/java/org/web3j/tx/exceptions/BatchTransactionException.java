@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx.exceptions;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+
+/**
+ * Thrown when some transactions of a batch could not be verified. The responses of the other
+ * transactions are still available, so that accepted transactions are not lost.
+ */
+public class BatchTransactionException extends IOException {
+    private final List<EthSendTransaction> responses;
+    private final Map<Integer, IOException> failures;
+
+    public BatchTransactionException(
+            List<EthSendTransaction> responses, Map<Integer, IOException> failures) {
+        super(
+                String.format(
+                        "%d of %d transactions in the batch failed",
+                        failures.size(), responses.size()),
+                failures.values().iterator().next());
+        this.responses = Collections.unmodifiableList(responses);
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * @return the response to each transaction, in the order of the transactions, or null where
+     *     the node did not respond
+     */
+    public List<EthSendTransaction> getResponses() {
+        return responses;
+    }
+
+    /** @return the failure of each transaction that could not be verified, by its position */
+    public Map<Integer, IOException> getFailures() {
+        return failures;
+    }
+}
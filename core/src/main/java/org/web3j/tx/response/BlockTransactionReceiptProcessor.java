@@ -0,0 +1,318 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx.response;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Flowable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.schedulers.Schedulers;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.EthGetBlockReceipts;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.protocol.exceptions.TransactionException;
+import org.web3j.utils.Async;
+import org.web3j.utils.Numeric;
+
+/**
+ * Transaction receipt processor which follows new blocks, fetching all receipts of each block with
+ * a single {@code eth_getBlockReceipts} request and matching them against the pending transaction
+ * hashes. This keeps the number of requests at one or two per block, regardless of the number of
+ * transactions waiting for a receipt, so a single instance is intended to be shared.
+ *
+ * <p>New blocks are either discovered by polling {@code eth_blockNumber}, or from a stream of
+ * block numbers such as the one provided by {@link #newHeads(Web3j, int)}.
+ *
+ * <p>A transaction may be mined in a block that was scanned before the transaction was tracked, so
+ * on the next new block the blocks from the head at which transactions were tracked are scanned
+ * again. If no receipt is seen within the configured number of blocks, the transaction fails with
+ * a {@link TransactionException}.
+ */
+public class BlockTransactionReceiptProcessor extends TransactionReceiptProcessor
+        implements Closeable {
+
+    private final Web3j web3j;
+    private final int blocksToWait;
+    private final Map<String, PendingReceipt> pendingReceipts = new ConcurrentHashMap<>();
+
+    private ScheduledFuture<?> pollingTask;
+    private Disposable subscription;
+
+    private volatile BigInteger lastBlock;
+    private volatile boolean closed;
+
+    /**
+     * Creates a processor polling for new blocks.
+     *
+     * @param web3j web3j instance
+     * @param pollingFrequency interval between {@code eth_blockNumber} requests, in milliseconds
+     * @param blocksToWait number of blocks to wait for a receipt before failing
+     */
+    public BlockTransactionReceiptProcessor(Web3j web3j, long pollingFrequency, int blocksToWait) {
+        this(web3j, Async.defaultExecutorService(), pollingFrequency, blocksToWait);
+    }
+
+    /**
+     * Creates a processor polling for new blocks.
+     *
+     * @param web3j web3j instance
+     * @param scheduledExecutorService executor to poll on
+     * @param pollingFrequency interval between {@code eth_blockNumber} requests, in milliseconds
+     * @param blocksToWait number of blocks to wait for a receipt before failing
+     */
+    public BlockTransactionReceiptProcessor(
+            Web3j web3j,
+            ScheduledExecutorService scheduledExecutorService,
+            long pollingFrequency,
+            int blocksToWait) {
+        this(web3j, blocksToWait);
+        this.pollingTask =
+                scheduledExecutorService.scheduleWithFixedDelay(
+                        this::pollBlockNumber, 0, pollingFrequency, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a processor following the given block numbers.
+     *
+     * @param web3j web3j instance
+     * @param blockNumbers numbers of new blocks as they are added to the chain
+     * @param blocksToWait number of blocks to wait for a receipt before failing
+     */
+    public BlockTransactionReceiptProcessor(
+            Web3j web3j, Flowable<BigInteger> blockNumbers, int blocksToWait) {
+        this(web3j, blocksToWait);
+        this.subscription = blockNumbers.subscribe(this::onBlock, this::onError);
+    }
+
+    private BlockTransactionReceiptProcessor(Web3j web3j, int blocksToWait) {
+        super(web3j);
+        this.web3j = web3j;
+        this.blocksToWait = blocksToWait;
+    }
+
+    /**
+     * Creates a processor following the {@code newHeads} subscription of a {@link
+     * org.web3j.protocol.websocket.WebSocketService}. Blocks are processed on the {@link
+     * Schedulers#io()} scheduler, as their receipts cannot be received on the thread delivering
+     * the notifications while it waits for them.
+     *
+     * @param web3j web3j instance, which must support subscriptions
+     * @param blocksToWait number of blocks to wait for a receipt before failing
+     * @return new processor
+     */
+    public static BlockTransactionReceiptProcessor newHeads(Web3j web3j, int blocksToWait) {
+        return new BlockTransactionReceiptProcessor(
+                web3j,
+                web3j.newHeadsNotifications()
+                        .map(n -> Numeric.decodeQuantity(n.getParams().getResult().getNumber()))
+                        // a block is processed up to the latest head, so older ones can be dropped
+                        .onBackpressureLatest()
+                        .observeOn(Schedulers.io(), false, 1),
+                blocksToWait);
+    }
+
+    @Override
+    public TransactionReceipt waitForTransactionReceipt(String transactionHash)
+            throws IOException, TransactionException {
+        try {
+            return waitForTransactionReceiptAsync(transactionHash).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransactionException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TransactionException) {
+                throw (TransactionException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new TransactionException(cause);
+        }
+    }
+
+    /**
+     * Tracks the transaction until its receipt is found in a new block.
+     *
+     * @param transactionHash hash of the transaction
+     * @return future completed with the receipt, or exceptionally with a {@link
+     *     TransactionException} if it is not seen within the configured number of blocks
+     */
+    @Override
+    public CompletableFuture<TransactionReceipt> waitForTransactionReceiptAsync(
+            String transactionHash) {
+        if (closed) {
+            CompletableFuture<TransactionReceipt> result = new CompletableFuture<>();
+            result.completeExceptionally(
+                    new TransactionException("Receipt processor is closed", transactionHash));
+            return result;
+        }
+        return pendingReceipts
+                .computeIfAbsent(
+                        transactionHash.toLowerCase(), hash -> new PendingReceipt(lastBlock))
+                .future;
+    }
+
+    /** @return number of transactions waiting for a receipt */
+    public int getPendingCount() {
+        return pendingReceipts.size();
+    }
+
+    /** Stops following new blocks and fails all transactions waiting for a receipt. */
+    @Override
+    public void close() {
+        closed = true;
+        if (pollingTask != null) {
+            pollingTask.cancel(false);
+        }
+        if (subscription != null) {
+            subscription.dispose();
+        }
+        failAll(new TransactionException("Receipt processor is closed"));
+    }
+
+    private void onError(Throwable throwable) {
+        // no further blocks will be seen
+        closed = true;
+        failAll(throwable);
+    }
+
+    private void pollBlockNumber() {
+        try {
+            EthBlockNumber blockNumber = web3j.ethBlockNumber().send();
+            if (!blockNumber.hasError()) {
+                onBlock(blockNumber.getBlockNumber());
+            }
+        } catch (Exception e) {
+            // transient failure, retried on the next poll
+        }
+    }
+
+    synchronized void onBlock(BigInteger head) {
+        if (lastBlock == null) {
+            lastBlock = head.subtract(BigInteger.ONE);
+        }
+
+        // blocks scanned before newly tracked transactions were added are scanned again
+        BigInteger next = lastBlock.add(BigInteger.ONE);
+        List<PendingReceipt> tracked = new ArrayList<>();
+        for (PendingReceipt pendingReceipt : pendingReceipts.values()) {
+            if (pendingReceipt.trackedAt != null) {
+                tracked.add(pendingReceipt);
+                next = next.min(pendingReceipt.trackedAt);
+            }
+        }
+
+        while (next.compareTo(head) <= 0 && !pendingReceipts.isEmpty()) {
+            List<TransactionReceipt> receipts;
+            try {
+                receipts = fetchBlockReceipts(next);
+            } catch (IOException e) {
+                // retried on the next block
+                return;
+            } catch (TransactionException e) {
+                failAll(e);
+                return;
+            }
+            for (TransactionReceipt receipt : receipts) {
+                PendingReceipt pendingReceipt =
+                        pendingReceipts.remove(receipt.getTransactionHash().toLowerCase());
+                if (pendingReceipt != null) {
+                    pendingReceipt.future.complete(receipt);
+                }
+            }
+            lastBlock = lastBlock.max(next);
+            next = next.add(BigInteger.ONE);
+        }
+        if (lastBlock.compareTo(head) < 0) {
+            // nothing pending, so no need to fetch the skipped blocks
+            lastBlock = head;
+        }
+        tracked.forEach(pendingReceipt -> pendingReceipt.trackedAt = null);
+
+        expirePendingReceipts();
+    }
+
+    private List<TransactionReceipt> fetchBlockReceipts(BigInteger blockNumber)
+            throws IOException, TransactionException {
+        EthGetBlockReceipts blockReceipts =
+                web3j.ethGetBlockReceipts(DefaultBlockParameter.valueOf(blockNumber)).send();
+        if (blockReceipts.hasError()) {
+            throw new TransactionException(
+                    "Error processing request: " + blockReceipts.getError().getMessage());
+        }
+        Optional<List<TransactionReceipt>> receipts = blockReceipts.getBlockReceipts();
+        if (!receipts.isPresent()) {
+            // the node has not processed the block yet
+            throw new IOException("No receipts for block " + blockNumber);
+        }
+        return receipts.get();
+    }
+
+    private void expirePendingReceipts() {
+        Iterator<Map.Entry<String, PendingReceipt>> iterator =
+                pendingReceipts.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, PendingReceipt> entry = iterator.next();
+            PendingReceipt pendingReceipt = entry.getValue();
+            if (pendingReceipt.deadline == null) {
+                pendingReceipt.deadline = lastBlock.add(BigInteger.valueOf(blocksToWait));
+            } else if (pendingReceipt.deadline.compareTo(lastBlock) <= 0) {
+                iterator.remove();
+                pendingReceipt.future.completeExceptionally(
+                        new TransactionException(
+                                "Transaction receipt was not generated after "
+                                        + blocksToWait
+                                        + " blocks for transaction: "
+                                        + entry.getKey(),
+                                entry.getKey()));
+            }
+        }
+    }
+
+    private void failAll(Throwable throwable) {
+        Iterator<PendingReceipt> iterator = pendingReceipts.values().iterator();
+        while (iterator.hasNext()) {
+            PendingReceipt pendingReceipt = iterator.next();
+            iterator.remove();
+            pendingReceipt.future.completeExceptionally(throwable);
+        }
+    }
+
+    private static class PendingReceipt {
+        private final CompletableFuture<TransactionReceipt> future = new CompletableFuture<>();
+        // last scanned block when the transaction was tracked, until it is scanned again
+        private volatile BigInteger trackedAt;
+        // block after which the transaction fails, set on the first new block
+        private BigInteger deadline;
+
+        private PendingReceipt(BigInteger trackedAt) {
+            this.trackedAt = trackedAt;
+        }
+    }
+}
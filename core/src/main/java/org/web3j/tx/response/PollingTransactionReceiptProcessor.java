@@ -14,21 +14,39 @@ package org.web3j.tx.response;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.core.methods.response.TransactionReceipt;
 import org.web3j.protocol.exceptions.TransactionException;
+import org.web3j.utils.HashedWheelTimer;
 
-/** With each provided transaction hash, poll until we obtain a transaction receipt. */
+/**
+ * With each provided transaction hash, poll until we obtain a transaction receipt.
+ *
+ * <p>{@link #waitForTransactionReceiptAsync(String)} schedules its polls on a {@link
+ * HashedWheelTimer} rather than blocking a thread. Polls start at an eighth of the sleep duration
+ * and back off exponentially up to the sleep duration, until the same overall deadline of sleep
+ * duration times attempts.
+ */
 public class PollingTransactionReceiptProcessor extends TransactionReceiptProcessor {
 
     protected final long sleepDuration;
     protected final int attempts;
+    private final HashedWheelTimer timer;
 
     public PollingTransactionReceiptProcessor(Web3j web3j, long sleepDuration, int attempts) {
+        this(web3j, sleepDuration, attempts, SharedTimer.INSTANCE);
+    }
+
+    public PollingTransactionReceiptProcessor(
+            Web3j web3j, long sleepDuration, int attempts, HashedWheelTimer timer) {
         super(web3j);
         this.sleepDuration = sleepDuration;
         this.attempts = attempts;
+        this.timer = timer;
     }
 
     @Override
@@ -38,6 +56,65 @@ public class PollingTransactionReceiptProcessor extends TransactionReceiptProces
         return getTransactionReceipt(transactionHash, sleepDuration, attempts);
     }
 
+    @Override
+    public CompletableFuture<TransactionReceipt> waitForTransactionReceiptAsync(
+            String transactionHash) {
+        CompletableFuture<TransactionReceipt> result = new CompletableFuture<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sleepDuration * attempts);
+        poll(transactionHash, result, deadline, Math.max(sleepDuration / 8, 1));
+        return result;
+    }
+
+    private void poll(
+            String transactionHash,
+            CompletableFuture<TransactionReceipt> result,
+            long deadline,
+            long backoff) {
+        sendTransactionReceiptRequestAsync(transactionHash)
+                .whenComplete(
+                        (receiptOptional, throwable) -> {
+                            if (throwable != null) {
+                                Throwable cause =
+                                        throwable instanceof CompletionException
+                                                ? throwable.getCause()
+                                                : throwable;
+                                result.completeExceptionally(cause);
+                            } else if (receiptOptional.isPresent()) {
+                                result.complete(receiptOptional.get());
+                            } else {
+                                scheduleNextPoll(transactionHash, result, deadline, backoff);
+                            }
+                        });
+    }
+
+    private void scheduleNextPoll(
+            String transactionHash,
+            CompletableFuture<TransactionReceipt> result,
+            long deadline,
+            long backoff) {
+        long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remaining <= 0) {
+            result.completeExceptionally(
+                    new TransactionException(
+                            "Transaction receipt was not generated after "
+                                    + ((sleepDuration * attempts) / 1000
+                                            + " seconds for transaction: "
+                                            + transactionHash),
+                            transactionHash));
+            return;
+        }
+
+        long nextBackoff = Math.min(backoff * 2, Math.max(sleepDuration, 1));
+        try {
+            timer.newTimeout(
+                    () -> poll(transactionHash, result, deadline, nextBackoff),
+                    Math.min(backoff, remaining),
+                    TimeUnit.MILLISECONDS);
+        } catch (IllegalStateException e) {
+            result.completeExceptionally(new TransactionException(e));
+        }
+    }
+
     private TransactionReceipt getTransactionReceipt(
             String transactionHash, long sleepDuration, int attempts)
             throws IOException, TransactionException {
@@ -67,4 +144,9 @@ public class PollingTransactionReceiptProcessor extends TransactionReceiptProces
                                 + transactionHash),
                 transactionHash);
     }
+
+    /** Timer shared by all processors without one of their own. */
+    private static class SharedTimer {
+        static final HashedWheelTimer INSTANCE = new HashedWheelTimer();
+    }
 }
@@ -15,6 +15,7 @@ package org.web3j.tx.response;
 import java.io.IOException;
 import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -62,6 +63,14 @@ public class QueuingTransactionReceiptProcessor extends TransactionReceiptProces
         return new EmptyTransactionReceipt(transactionHash);
     }
 
+    @Override
+    public CompletableFuture<TransactionReceipt> waitForTransactionReceiptAsync(
+            String transactionHash) {
+        pendingTransactions.add(new RequestWrapper(transactionHash));
+
+        return CompletableFuture.completedFuture(new EmptyTransactionReceipt(transactionHash));
+    }
+
     private void sendTransactionReceiptRequests() {
         for (RequestWrapper requestWrapper : pendingTransactions) {
             try {
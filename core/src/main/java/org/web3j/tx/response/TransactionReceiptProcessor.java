@@ -14,11 +14,14 @@ package org.web3j.tx.response;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
 import org.web3j.protocol.core.methods.response.TransactionReceipt;
 import org.web3j.protocol.exceptions.TransactionException;
+import org.web3j.utils.Async;
 
 /** Abstraction for managing how we wait for transaction receipts to be generated on the network. */
 public abstract class TransactionReceiptProcessor {
@@ -32,6 +35,21 @@ public abstract class TransactionReceiptProcessor {
     public abstract TransactionReceipt waitForTransactionReceipt(String transactionHash)
             throws IOException, TransactionException;
 
+    /**
+     * Wait for a transaction receipt without blocking the calling thread.
+     *
+     * <p>By default this runs {@link #waitForTransactionReceipt(String)} on the {@link Async}
+     * executor. Implementations which can wait without blocking a thread override this.
+     *
+     * @param transactionHash hash of the transaction
+     * @return future completed with the receipt, or exceptionally as {@link
+     *     #waitForTransactionReceipt(String)} would throw
+     */
+    public CompletableFuture<TransactionReceipt> waitForTransactionReceiptAsync(
+            String transactionHash) {
+        return Async.run(() -> waitForTransactionReceipt(transactionHash));
+    }
+
     Optional<? extends TransactionReceipt> sendTransactionReceiptRequest(String transactionHash)
             throws IOException, TransactionException {
         EthGetTransactionReceipt transactionReceipt =
@@ -43,4 +61,22 @@ public abstract class TransactionReceiptProcessor {
 
         return transactionReceipt.getTransactionReceipt();
     }
+
+    CompletableFuture<Optional<? extends TransactionReceipt>> sendTransactionReceiptRequestAsync(
+            String transactionHash) {
+        return web3j.ethGetTransactionReceipt(transactionHash)
+                .sendAsync()
+                .thenApply(
+                        transactionReceipt -> {
+                            if (transactionReceipt.hasError()) {
+                                throw new CompletionException(
+                                        new TransactionException(
+                                                "Error processing request: "
+                                                        + transactionReceipt
+                                                                .getError()
+                                                                .getMessage()));
+                            }
+                            return transactionReceipt.getTransactionReceipt();
+                        });
+    }
 }
@@ -14,8 +14,10 @@ package org.web3j.utils;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -31,21 +33,77 @@ public class Async {
     }
 
     public static <T> CompletableFuture<T> run(Callable<T> callable) {
+        return run(callable, executor);
+    }
+
+    /**
+     * Run a task on the provided executor.
+     *
+     * <p>If the executor rejects the task, the returned future is completed exceptionally with the
+     * {@link RejectedExecutionException}.
+     *
+     * @param callable task to run
+     * @param executor executor to run the task on
+     * @param <T> result type of the task
+     * @return future holding the result of the task
+     */
+    public static <T> CompletableFuture<T> run(Callable<T> callable, Executor executor) {
         CompletableFuture<T> result = new CompletableFuture<>();
-        CompletableFuture.runAsync(
-                () -> {
-                    // we need to explicitly catch any exceptions,
-                    // otherwise they will be silently discarded
-                    try {
-                        result.complete(callable.call());
-                    } catch (Throwable e) {
-                        result.completeExceptionally(e);
-                    }
-                },
-                executor);
+        try {
+            CompletableFuture.runAsync(
+                    () -> {
+                        // we need to explicitly catch any exceptions,
+                        // otherwise they will be silently discarded
+                        try {
+                            result.complete(callable.call());
+                        } catch (Throwable e) {
+                            result.completeExceptionally(e);
+                        }
+                    },
+                    executor);
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
         return result;
     }
 
+    /**
+     * Provide a new executor that starts a virtual thread for each task.
+     *
+     * <p>Blocking requests then no longer tie up a platform thread each, which makes this executor
+     * suitable for large numbers of concurrent requests. A shutdown hook is created to terminate
+     * the executor on application termination.
+     *
+     * @return new virtual thread per task ExecutorService
+     */
+    public static ExecutorService virtualThreadExecutorService() {
+        ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> shutdown(executorService)));
+
+        return executorService;
+    }
+
+    /**
+     * Provide a new {@link BoundedExecutor} with a fixed number of threads and a bounded queue.
+     *
+     * <p>A shutdown hook is created to terminate the thread pool on application termination.
+     *
+     * @param maxThreads maximum number of concurrently running tasks
+     * @param queueCapacity maximum number of tasks waiting to run
+     * @param rejectionPolicy what to do with tasks submitted when the queue is full
+     * @return new BoundedExecutor
+     */
+    public static BoundedExecutor boundedExecutorService(
+            int maxThreads, int queueCapacity, BoundedExecutor.RejectionPolicy rejectionPolicy) {
+        BoundedExecutor executorService =
+                new BoundedExecutor(maxThreads, queueCapacity, rejectionPolicy);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> shutdown(executorService)));
+
+        return executorService;
+    }
+
     private static int getCpuCount() {
         return Runtime.getRuntime().availableProcessors();
     }
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.utils;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread pool with a fixed number of threads and a bounded task queue, for use with {@link
+ * Async#run(java.util.concurrent.Callable, java.util.concurrent.Executor)}.
+ *
+ * <p>Unlike the default unbounded cached thread pool, a burst of asynchronous requests against a
+ * slow node cannot create an unbounded number of threads. Once all threads are busy and the queue
+ * is full, the configured {@link RejectionPolicy} applies.
+ */
+public class BoundedExecutor extends ThreadPoolExecutor {
+
+    /** What to do with a task submitted while all threads are busy and the queue is full. */
+    public enum RejectionPolicy {
+        /** Run the task on the submitting thread, slowing submitters down to the pool's pace. */
+        CALLER_RUNS,
+        /** Reject the task with a {@link java.util.concurrent.RejectedExecutionException}. */
+        ABORT
+    }
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public BoundedExecutor(int maxThreads, int queueCapacity, RejectionPolicy rejectionPolicy) {
+        super(
+                maxThreads,
+                maxThreads,
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new DaemonThreadFactory());
+        allowCoreThreadTimeOut(true);
+        setRejectedExecutionHandler(buildRejectionHandler(rejectionPolicy));
+    }
+
+    private RejectedExecutionHandler buildRejectionHandler(RejectionPolicy rejectionPolicy) {
+        RejectedExecutionHandler handler =
+                rejectionPolicy == RejectionPolicy.CALLER_RUNS
+                        ? new CallerRunsPolicy()
+                        : new AbortPolicy();
+        return (runnable, executor) -> {
+            rejectedCount.incrementAndGet();
+            handler.rejectedExecution(runnable, executor);
+        };
+    }
+
+    /**
+     * Returns the number of tasks waiting for a thread.
+     *
+     * @return current queue depth
+     */
+    public int getQueueDepth() {
+        return getQueue().size();
+    }
+
+    /**
+     * Returns the number of tasks which could not be queued because the queue was full. With
+     * {@link RejectionPolicy#CALLER_RUNS} these tasks were run by the submitting thread.
+     *
+     * @return number of rejected tasks
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "web3j-async-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.utils;
+
+import java.io.Closeable;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Timer for large numbers of approximate, mostly short-lived timeouts, such as request retries and
+ * deadlines.
+ *
+ * <p>Timeouts are placed in a wheel of buckets by their deadline, and a single thread advances the
+ * wheel one bucket per tick, expiring the timeouts that are due. Scheduling and cancelling are
+ * constant time, and timeouts fire within one tick of their deadline. A cancelled timeout releases
+ * its task immediately, and is unlinked from its bucket on the next tick. Tasks run on the timer
+ * thread, so must not block.
+ */
+public class HashedWheelTimer implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+    private static final AtomicInteger TIMER_COUNT = new AtomicInteger();
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<TimeoutTask> newTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<TimeoutTask> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pendingTimeouts = new AtomicLong();
+    private final Thread worker;
+
+    private final long startTime;
+    private volatile boolean closed;
+
+    /** Creates a timer with a 100 millisecond tick and 512 buckets. */
+    public HashedWheelTimer() {
+        this(100, TimeUnit.MILLISECONDS, 512);
+    }
+
+    /**
+     * Creates a timer.
+     *
+     * @param tickDuration resolution of the timer
+     * @param unit unit of the tick duration
+     * @param ticksPerWheel number of buckets, rounded up to a power of two
+     */
+    public HashedWheelTimer(long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("Tick duration must be positive");
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > 1 << 30) {
+            throw new IllegalArgumentException("Ticks per wheel must be in (0, 2^30]");
+        }
+
+        int size = 1;
+        while (size < ticksPerWheel) {
+            size <<= 1;
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+
+        this.startTime = System.nanoTime();
+        this.worker = new Thread(this::run, "web3j-timer-" + TIMER_COUNT.incrementAndGet());
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Schedules a task to run once after the given delay.
+     *
+     * @param task task to run on the timer thread
+     * @param delay delay before running the task
+     * @param unit unit of the delay
+     * @return handle to cancel the task
+     */
+    public Timeout newTimeout(Runnable task, long delay, TimeUnit unit) {
+        if (closed) {
+            throw new IllegalStateException("Timer is closed");
+        }
+        long deadline = System.nanoTime() + Math.max(unit.toNanos(delay), 0) - startTime;
+        TimeoutTask timeout = new TimeoutTask(task, deadline);
+        pendingTimeouts.incrementAndGet();
+        newTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Returns the number of timeouts held by the timer, including cancelled timeouts not yet
+     * unlinked from their bucket.
+     *
+     * @return number of pending timeouts
+     */
+    public long getPendingTimeouts() {
+        return pendingTimeouts.get();
+    }
+
+    /** Stops the timer. Pending timeouts are not run. */
+    @Override
+    public void close() {
+        closed = true;
+        worker.interrupt();
+    }
+
+    private void run() {
+        long tick = 0;
+        while (!closed) {
+            long sleepNanos = startTime + (tick + 1) * tickNanos - System.nanoTime();
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    if (closed) {
+                        return;
+                    }
+                }
+                continue;
+            }
+
+            removeCancelledTimeouts();
+            transferNewTimeouts(tick);
+            expireTimeouts(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        TimeoutTask timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            // timeouts not yet transferred are dropped when they are
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+                pendingTimeouts.decrementAndGet();
+            }
+        }
+    }
+
+    private void transferNewTimeouts(long tick) {
+        TimeoutTask timeout;
+        while ((timeout = newTimeouts.poll()) != null) {
+            if (timeout.isCancelled()) {
+                pendingTimeouts.decrementAndGet();
+                continue;
+            }
+            long dueTick = Math.max(timeout.deadline / tickNanos, tick);
+            timeout.remainingRounds = (dueTick - tick) / wheel.length;
+            wheel[(int) (dueTick & mask)].add(timeout);
+        }
+    }
+
+    private void expireTimeouts(Bucket bucket) {
+        TimeoutTask timeout = bucket.head;
+        while (timeout != null) {
+            TimeoutTask next = timeout.next;
+            if (timeout.isCancelled()) {
+                bucket.remove(timeout);
+                pendingTimeouts.decrementAndGet();
+            } else if (timeout.remainingRounds <= 0) {
+                bucket.remove(timeout);
+                pendingTimeouts.decrementAndGet();
+                timeout.expire();
+            } else {
+                timeout.remainingRounds--;
+            }
+            timeout = next;
+        }
+    }
+
+    /** Handle of a scheduled task. */
+    public interface Timeout {
+
+        /**
+         * Cancels the task, if it has not yet run.
+         *
+         * @return true if the task was cancelled
+         */
+        boolean cancel();
+
+        boolean isCancelled();
+
+        boolean isExpired();
+    }
+
+    /** Doubly linked list of timeouts, only accessed by the timer thread. */
+    private static class Bucket {
+        private TimeoutTask head;
+        private TimeoutTask tail;
+
+        void add(TimeoutTask timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+            }
+            tail = timeout;
+        }
+
+        void remove(TimeoutTask timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+
+    private class TimeoutTask implements Timeout {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        // released on cancellation, so that it is not retained until the timeout is unlinked
+        private Runnable task;
+        // only accessed by the timer thread
+        private long remainingRounds;
+        private Bucket bucket;
+        private TimeoutTask prev;
+        private TimeoutTask next;
+
+        TimeoutTask(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!state.compareAndSet(PENDING, CANCELLED)) {
+                return false;
+            }
+            task = null;
+            cancelledTimeouts.add(this);
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        void expire() {
+            if (state.compareAndSet(PENDING, EXPIRED)) {
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    // a failing task must not stop the timer
+                    log.warn("Timeout task failed", e);
+                }
+            }
+        }
+    }
+}
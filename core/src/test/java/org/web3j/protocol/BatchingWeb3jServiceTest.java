@@ -0,0 +1,200 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.NetVersion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BatchingWeb3jServiceTest {
+
+    private Web3jService web3jService;
+    private ScheduledExecutorService executor;
+    private BatchingWeb3jService batchingService;
+
+    @BeforeEach
+    void setUp() {
+        web3jService = mock(Web3jService.class);
+        executor = mock(ScheduledExecutorService.class);
+        batchingService = new BatchingWeb3jService(web3jService, 3, 10, executor);
+    }
+
+    @Test
+    void testRequestsAreSentAsBatchWhenFull() throws Exception {
+        Request<?, NetVersion> first = netVersion();
+        Request<?, NetVersion> second = netVersion();
+        Request<?, NetVersion> third = netVersion();
+
+        CompletableFuture<BatchResponse> batchReply = new CompletableFuture<>();
+        when(web3jService.sendBatchAsync(any())).thenReturn(batchReply);
+
+        CompletableFuture<NetVersion> firstReply =
+                batchingService.sendAsync(first, NetVersion.class);
+        CompletableFuture<NetVersion> secondReply =
+                batchingService.sendAsync(second, NetVersion.class);
+        verify(web3jService, never()).sendBatchAsync(any());
+
+        CompletableFuture<NetVersion> thirdReply =
+                batchingService.sendAsync(third, NetVersion.class);
+
+        ArgumentCaptor<BatchRequest> captor = ArgumentCaptor.forClass(BatchRequest.class);
+        verify(web3jService).sendBatchAsync(captor.capture());
+        List<Request<?, ? extends Response<?>>> sent = captor.getValue().getRequests();
+        assertEquals(Arrays.asList(first, second, third), sent);
+        verify(executor).schedule(any(Runnable.class), eq(10L), eq(TimeUnit.MILLISECONDS));
+
+        // responses are returned out of order
+        batchReply.complete(
+                new BatchResponse(
+                        sent,
+                        Arrays.asList(
+                                netVersionResponse(third, "3"),
+                                netVersionResponse(first, "1"),
+                                netVersionResponse(second, "2"))));
+
+        assertEquals("1", firstReply.get().getNetVersion());
+        assertEquals("2", secondReply.get().getNetVersion());
+        assertEquals("3", thirdReply.get().getNetVersion());
+    }
+
+    @Test
+    void testFlushSendsPartialBatch() throws Exception {
+        Request<?, NetVersion> first = netVersion();
+        Request<?, NetVersion> second = netVersion();
+        when(web3jService.sendBatchAsync(any()))
+                .thenAnswer(
+                        invocation -> {
+                            BatchRequest request = invocation.getArgument(0);
+                            return CompletableFuture.completedFuture(
+                                    new BatchResponse(
+                                            request.getRequests(),
+                                            Arrays.asList(
+                                                    netVersionResponse(first, "1"),
+                                                    netVersionResponse(second, "2"))));
+                        });
+
+        CompletableFuture<NetVersion> firstReply =
+                batchingService.sendAsync(first, NetVersion.class);
+        CompletableFuture<NetVersion> secondReply =
+                batchingService.sendAsync(second, NetVersion.class);
+        assertFalse(firstReply.isDone());
+
+        batchingService.flush();
+
+        assertEquals("1", firstReply.get().getNetVersion());
+        assertEquals("2", secondReply.get().getNetVersion());
+    }
+
+    @Test
+    void testSingleRequestIsSentIndividually() throws Exception {
+        Request<?, NetVersion> request = netVersion();
+        NetVersion response = netVersionResponse(request, "1");
+        when(web3jService.sendAsync(request, NetVersion.class))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        CompletableFuture<NetVersion> reply = batchingService.sendAsync(request, NetVersion.class);
+        batchingService.flush();
+
+        assertSame(response, reply.get());
+        verify(web3jService, never()).sendBatchAsync(any());
+    }
+
+    @Test
+    void testBatchFailureIsPropagated() {
+        CompletableFuture<BatchResponse> batchReply = new CompletableFuture<>();
+        batchReply.completeExceptionally(new IOException("Connection refused"));
+        when(web3jService.sendBatchAsync(any())).thenReturn(batchReply);
+
+        CompletableFuture<NetVersion> firstReply =
+                batchingService.sendAsync(netVersion(), NetVersion.class);
+        CompletableFuture<NetVersion> secondReply =
+                batchingService.sendAsync(netVersion(), NetVersion.class);
+        batchingService.flush();
+
+        ExecutionException exception = assertThrows(ExecutionException.class, firstReply::get);
+        assertTrue(exception.getCause() instanceof IOException);
+        assertThrows(ExecutionException.class, secondReply::get);
+    }
+
+    @Test
+    void testMissingResponseFailsRequest() {
+        Request<?, NetVersion> first = netVersion();
+        Request<?, NetVersion> second = netVersion();
+        when(web3jService.sendBatchAsync(any()))
+                .thenReturn(
+                        CompletableFuture.completedFuture(
+                                new BatchResponse(
+                                        Collections.emptyList(),
+                                        Collections.singletonList(
+                                                netVersionResponse(first, "1")))));
+
+        CompletableFuture<NetVersion> firstReply =
+                batchingService.sendAsync(first, NetVersion.class);
+        CompletableFuture<NetVersion> secondReply =
+                batchingService.sendAsync(second, NetVersion.class);
+        batchingService.flush();
+
+        assertEquals("1", firstReply.join().getNetVersion());
+        ExecutionException exception = assertThrows(ExecutionException.class, secondReply::get);
+        assertTrue(exception.getCause() instanceof IOException);
+    }
+
+    @Test
+    void testExplicitBatchIsPassedThrough() throws IOException {
+        BatchRequest batchRequest = new BatchRequest(batchingService);
+        batchingService.sendBatch(batchRequest);
+
+        verify(web3jService).sendBatch(batchRequest);
+        verify(executor, never()).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    private Request<?, NetVersion> netVersion() {
+        return new Request<>(
+                "net_version", Collections.emptyList(), batchingService, NetVersion.class);
+    }
+
+    private static NetVersion netVersionResponse(Request<?, ?> request, String version) {
+        NetVersion response = new NetVersion();
+        response.setId(request.getId());
+        response.setResult(version);
+        return response;
+    }
+}
@@ -16,18 +16,32 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import okhttp3.Call;
+import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
 import okhttp3.Protocol;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
 import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.methods.response.EthBlockNumber;
 import org.web3j.protocol.core.methods.response.EthSubscribe;
+import org.web3j.protocol.core.methods.response.NetVersion;
 import org.web3j.protocol.exceptions.ClientConnectionException;
 import org.web3j.protocol.websocket.events.NewHeadsNotification;
 
@@ -121,4 +135,252 @@ class HttpServiceTest {
                         httpService.subscribe(
                                 subscribeRequest, "eth_unsubscribe", NewHeadsNotification.class));
     }
+
+    @Test
+    void testStreamingSend() throws IOException {
+        StringBuilder sentBody = new StringBuilder();
+        HttpService streamingService =
+                new HttpService(
+                        buildHttpClient(
+                                sentBody, "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x4b7\"}"));
+        streamingService.setStreaming(true);
+        assertTrue(streamingService.isStreaming());
+
+        Request<String, EthBlockNumber> request =
+                new Request<>(
+                        "eth_blockNumber",
+                        Collections.emptyList(),
+                        streamingService,
+                        EthBlockNumber.class);
+        request.setId(1);
+
+        EthBlockNumber response = streamingService.send(request, EthBlockNumber.class);
+
+        assertEquals(
+                "{\"jsonrpc\":\"2.0\",\"method\":\"eth_blockNumber\",\"params\":[],\"id\":1}",
+                sentBody.toString());
+        assertEquals(1207, response.getBlockNumber().longValue());
+    }
+
+    @Test
+    void testStreamingSendBatch() throws IOException {
+        StringBuilder sentBody = new StringBuilder();
+        HttpService streamingService =
+                new HttpService(
+                        buildHttpClient(
+                                sentBody,
+                                "[{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x4b7\"},"
+                                        + "{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":\"59\"}]"));
+        streamingService.setStreaming(true);
+
+        Request<String, EthBlockNumber> blockNumber =
+                new Request<>(
+                        "eth_blockNumber",
+                        Collections.emptyList(),
+                        streamingService,
+                        EthBlockNumber.class);
+        Request<String, NetVersion> netVersion =
+                new Request<>(
+                        "net_version", Collections.emptyList(), streamingService, NetVersion.class);
+
+        BatchResponse response =
+                streamingService.sendBatch(
+                        new BatchRequest(streamingService).add(blockNumber).add(netVersion));
+
+        assertTrue(sentBody.toString().startsWith("[{\"jsonrpc\":\"2.0\""));
+        assertEquals(2, response.getResponses().size());
+        assertEquals(
+                1207,
+                ((EthBlockNumber) response.getResponses().get(0)).getBlockNumber().longValue());
+        assertEquals("59", ((NetVersion) response.getResponses().get(1)).getNetVersion());
+    }
+
+    @Test
+    void testSendAsyncUsesConfiguredExecutor() throws Exception {
+        AtomicInteger executed = new AtomicInteger();
+        Executor executor =
+                runnable -> {
+                    executed.incrementAndGet();
+                    runnable.run();
+                };
+        HttpService service =
+                new HttpService(
+                        buildHttpClient(
+                                new StringBuilder(),
+                                "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x4b7\"}"));
+        service.setAsyncExecutor(executor);
+
+        Request<String, EthBlockNumber> request =
+                new Request<>(
+                        "eth_blockNumber", Collections.emptyList(), service, EthBlockNumber.class);
+
+        assertEquals(1207, request.sendAsync().get().getBlockNumber().longValue());
+        assertEquals(1, executed.get());
+    }
+
+    @Test
+    void testNonBlockingSendAsync() throws Exception {
+        for (boolean streaming : new boolean[] {false, true}) {
+            HttpService service =
+                    new HttpService(
+                            buildHttpClient(
+                                    new StringBuilder(),
+                                    "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x4b7\"}"));
+            service.setNonBlockingAsync(true);
+            service.setStreaming(streaming);
+            assertTrue(service.isNonBlockingAsync());
+
+            Request<String, EthBlockNumber> request =
+                    new Request<>(
+                            "eth_blockNumber",
+                            Collections.emptyList(),
+                            service,
+                            EthBlockNumber.class);
+
+            assertEquals(
+                    1207,
+                    request.sendAsync().get(5, TimeUnit.SECONDS).getBlockNumber().longValue());
+        }
+    }
+
+    @Test
+    void testNonBlockingSendBatchAsync() throws Exception {
+        HttpService service =
+                new HttpService(
+                        buildHttpClient(
+                                new StringBuilder(),
+                                "[{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x4b7\"},"
+                                        + "{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":\"59\"}]"));
+        service.setNonBlockingAsync(true);
+
+        BatchResponse response =
+                new BatchRequest(service)
+                        .add(
+                                new Request<>(
+                                        "eth_blockNumber",
+                                        Collections.emptyList(),
+                                        service,
+                                        EthBlockNumber.class))
+                        .add(
+                                new Request<>(
+                                        "net_version",
+                                        Collections.emptyList(),
+                                        service,
+                                        NetVersion.class))
+                        .sendAsync()
+                        .get(5, TimeUnit.SECONDS);
+
+        assertEquals(
+                1207,
+                ((EthBlockNumber) response.getResponses().get(0)).getBlockNumber().longValue());
+        assertEquals("59", ((NetVersion) response.getResponses().get(1)).getNetVersion());
+    }
+
+    @Test
+    void testNonBlockingSendAsyncFailsOnHttpError() {
+        OkHttpClient httpClient =
+                new OkHttpClient.Builder()
+                        .addInterceptor(
+                                chain ->
+                                        new Response.Builder()
+                                                .code(503)
+                                                .message("")
+                                                .body(ResponseBody.create("unavailable", null))
+                                                .request(chain.request())
+                                                .protocol(Protocol.HTTP_1_1)
+                                                .build())
+                        .build();
+        HttpService service = new HttpService(httpClient);
+        service.setNonBlockingAsync(true);
+
+        Request<String, EthBlockNumber> request =
+                new Request<>(
+                        "eth_blockNumber", Collections.emptyList(), service, EthBlockNumber.class);
+
+        ExecutionException exception =
+                assertThrows(
+                        ExecutionException.class,
+                        () -> request.sendAsync().get(5, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof ClientConnectionException);
+        assertEquals(
+                "Invalid response received: 503; unavailable", exception.getCause().getMessage());
+    }
+
+    @Test
+    void testNonBlockingSendAsyncClosesResponseWhenRejected() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Buffer body = new Buffer().writeUtf8("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x4b7\"}");
+        BufferedSource source =
+                Okio.buffer(
+                        new ForwardingSource(body) {
+                            @Override
+                            public void close() throws IOException {
+                                closed.set(true);
+                                super.close();
+                            }
+                        });
+        OkHttpClient httpClient =
+                new OkHttpClient.Builder()
+                        .addInterceptor(
+                                chain ->
+                                        new Response.Builder()
+                                                .code(200)
+                                                .message("")
+                                                .body(
+                                                        ResponseBody.create(
+                                                                source,
+                                                                HttpService.JSON_MEDIA_TYPE,
+                                                                -1))
+                                                .request(chain.request())
+                                                .protocol(Protocol.HTTP_1_1)
+                                                .build())
+                        .build();
+        HttpService service = new HttpService(httpClient);
+        service.setNonBlockingAsync(true);
+        service.setAsyncExecutor(
+                runnable -> {
+                    throw new RejectedExecutionException();
+                });
+
+        Request<String, EthBlockNumber> request =
+                new Request<>(
+                        "eth_blockNumber", Collections.emptyList(), service, EthBlockNumber.class);
+
+        ExecutionException exception =
+                assertThrows(
+                        ExecutionException.class,
+                        () -> request.sendAsync().get(5, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof RejectedExecutionException);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testDispatcherLimits() {
+        OkHttpClient httpClient = new OkHttpClient();
+        HttpService service = new HttpService(httpClient);
+
+        service.setMaxRequests(1000);
+        service.setMaxRequestsPerHost(500);
+
+        assertEquals(1000, httpClient.dispatcher().getMaxRequests());
+        assertEquals(500, httpClient.dispatcher().getMaxRequestsPerHost());
+    }
+
+    private static OkHttpClient buildHttpClient(StringBuilder sentBody, String jsonResponse) {
+        Interceptor interceptor =
+                chain -> {
+                    Buffer buffer = new Buffer();
+                    chain.request().body().writeTo(buffer);
+                    sentBody.append(buffer.readUtf8());
+
+                    return new Response.Builder()
+                            .code(200)
+                            .message("")
+                            .body(ResponseBody.create(jsonResponse, HttpService.JSON_MEDIA_TYPE))
+                            .request(chain.request())
+                            .protocol(Protocol.HTTP_1_1)
+                            .build();
+                };
+        return new OkHttpClient.Builder().addInterceptor(interceptor).build();
+    }
 }
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.ipc;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Flowable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthSubscribe;
+import org.web3j.protocol.core.methods.response.NetVersion;
+import org.web3j.protocol.core.methods.response.Web3ClientVersion;
+import org.web3j.protocol.websocket.events.NewHeadsNotification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class PersistentUnixIpcServiceTest {
+
+    private PipedOutputStream nodeOutput;
+    private BufferedReader nodeInput;
+
+    private PersistentUnixIpcService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        PipedInputStream serviceInput = new PipedInputStream();
+        nodeOutput = new PipedOutputStream(serviceInput);
+
+        PipedInputStream requests = new PipedInputStream();
+        PipedOutputStream serviceOutput = new PipedOutputStream(requests);
+        nodeInput = new BufferedReader(new InputStreamReader(requests, StandardCharsets.UTF_8));
+
+        service =
+                new PersistentUnixIpcService(
+                        serviceInput, serviceOutput, mock(ScheduledExecutorService.class), false);
+        service.connect();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        nodeOutput.close();
+    }
+
+    @Test
+    void testPipelinedRequestsCompleteOutOfOrder() throws Exception {
+        Request<?, Web3ClientVersion> first = newRequest("web3_clientVersion", 1);
+        Request<?, Web3ClientVersion> second = newRequest("web3_clientVersion", 2);
+
+        CompletableFuture<Web3ClientVersion> firstReply =
+                service.sendAsync(first, Web3ClientVersion.class);
+        CompletableFuture<Web3ClientVersion> secondReply =
+                service.sendAsync(second, Web3ClientVersion.class);
+
+        assertEquals(
+                "{\"jsonrpc\":\"2.0\",\"method\":\"web3_clientVersion\",\"params\":[],\"id\":1}",
+                nodeInput.readLine());
+        assertEquals(
+                "{\"jsonrpc\":\"2.0\",\"method\":\"web3_clientVersion\",\"params\":[],\"id\":2}",
+                nodeInput.readLine());
+        assertTrue(service.isWaitingForReply(1));
+        assertTrue(service.isWaitingForReply(2));
+
+        reply("{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":\"Geth/second\"}");
+        reply("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"Geth/first\"}");
+
+        assertEquals("Geth/first", get(firstReply).getWeb3ClientVersion());
+        assertEquals("Geth/second", get(secondReply).getWeb3ClientVersion());
+        assertFalse(service.isWaitingForReply(1));
+        assertFalse(service.isWaitingForReply(2));
+    }
+
+    @Test
+    void testBatchRepliesAreMatchedById() throws Exception {
+        Request<?, Web3ClientVersion> clientVersion = newRequest("web3_clientVersion", 3);
+        Request<?, NetVersion> netVersion =
+                new Request<>("net_version", Collections.emptyList(), service, NetVersion.class);
+        netVersion.setId(4);
+
+        CompletableFuture<BatchResponse> reply =
+                service.sendBatchAsync(
+                        new BatchRequest(service).add(clientVersion).add(netVersion));
+        nodeInput.readLine();
+
+        reply(
+                "[{\"jsonrpc\":\"2.0\",\"id\":4,\"result\":\"1\"},"
+                        + "{\"jsonrpc\":\"2.0\",\"id\":3,\"result\":\"Geth\"}]");
+
+        BatchResponse response = get(reply);
+        assertEquals(
+                "Geth",
+                ((Web3ClientVersion) response.getResponses().get(0)).getWeb3ClientVersion());
+        assertEquals("1", ((NetVersion) response.getResponses().get(1)).getNetVersion());
+        assertFalse(service.isWaitingForReply(3));
+        assertFalse(service.isWaitingForReply(4));
+    }
+
+    @Test
+    void testSubscriptionEventsAreDelivered() throws Exception {
+        Request<Object, EthSubscribe> subscribeRequest =
+                new Request<>(
+                        "eth_subscribe",
+                        Arrays.asList("newHeads", Collections.emptyMap()),
+                        service,
+                        EthSubscribe.class);
+        subscribeRequest.setId(5);
+
+        CompletableFuture<Flowable<NewHeadsNotification>> subscription =
+                CompletableFuture.supplyAsync(
+                        () ->
+                                service.subscribe(
+                                        subscribeRequest,
+                                        "eth_unsubscribe",
+                                        NewHeadsNotification.class));
+
+        nodeInput.readLine();
+        reply("{\"jsonrpc\":\"2.0\",\"id\":5,\"result\":\"0xcd0c\"}");
+        Flowable<NewHeadsNotification> events = get(subscription);
+        reply(
+                "{\"jsonrpc\":\"2.0\",\"method\":\"eth_subscription\","
+                        + "\"params\":{\"subscription\":\"0xcd0c\","
+                        + "\"result\":{\"number\":\"0x1b4\"}}}");
+
+        NewHeadsNotification event = events.blockingFirst();
+        assertEquals("0xcd0c", event.getParams().getSubscription());
+        assertEquals("0x1b4", event.getParams().getResult().getNumber());
+    }
+
+    @Test
+    void testOutstandingRequestsFailWhenConnectionCloses() throws Exception {
+        CompletableFuture<Web3ClientVersion> reply =
+                service.sendAsync(newRequest("web3_clientVersion", 6), Web3ClientVersion.class);
+        nodeInput.readLine();
+
+        nodeOutput.close();
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> get(reply));
+        assertTrue(exception.getCause() instanceof IOException);
+        assertFalse(service.isWaitingForReply(6));
+    }
+
+    private Request<?, Web3ClientVersion> newRequest(String method, long id) {
+        Request<?, Web3ClientVersion> request =
+                new Request<>(method, Collections.emptyList(), service, Web3ClientVersion.class);
+        request.setId(id);
+        return request;
+    }
+
+    private void reply(String message) throws IOException {
+        nodeOutput.write((message + "\n").getBytes(StandardCharsets.UTF_8));
+        nodeOutput.flush();
+    }
+
+    private static <T> T get(CompletableFuture<T> future) throws Exception {
+        return future.get(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.reactivex.Flowable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.utils.Bloom;
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChainFollowerTest {
+
+    private Web3j web3j;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        web3j = mock(Web3j.class);
+        // one log per block, identified by the block hash
+        when(web3j.ethGetLogs(any(EthFilter.class)))
+                .thenAnswer(
+                        invocation -> {
+                            EthFilter filter = invocation.getArgument(0);
+                            EthLog.LogObject log = new EthLog.LogObject();
+                            log.setBlockHash(filter.getBlockHash());
+                            EthLog ethLog = new EthLog();
+                            ethLog.setResult(
+                                    Collections.<EthLog.LogResult>singletonList(log));
+                            Request<?, EthLog> request = mock(Request.class);
+                            when(request.send()).thenReturn(ethLog);
+                            return request;
+                        });
+    }
+
+    @Test
+    void testBlocksAreConfirmed() {
+        List<String> events =
+                follow(1, block(1, "1", "0"), block(2, "2", "1"), block(3, "3", "2"));
+
+        assertEquals(
+                Arrays.asList("ADDED 1", "ADDED 2", "CONFIRMED 1", "ADDED 3", "CONFIRMED 2"),
+                events);
+    }
+
+    @Test
+    void testReorganisationIsRolledBack() throws Exception {
+        prepareBlock(block(2, "2b", "1"));
+
+        List<ChainFollower.Event> events =
+                new ChainFollower(web3j, new EthFilter().addSingleTopic("0x01"), 2)
+                        .follow(
+                                Flowable.just(
+                                        block(1, "1", "0"),
+                                        block(2, "2a", "1"),
+                                        block(3, "3a", "2a"),
+                                        block(3, "3b", "2b")))
+                        .toList()
+                        .blockingGet();
+
+        assertEquals(
+                Arrays.asList(
+                        "ADDED 1",
+                        "ADDED 2a",
+                        "ADDED 3a",
+                        "CONFIRMED 1",
+                        "REMOVED 3a",
+                        "REMOVED 2a",
+                        "ADDED 2b",
+                        "ADDED 3b"),
+                describe(events));
+
+        Log removed = events.get(4).getLogs().get(0);
+        assertTrue(removed.isRemoved());
+        assertEquals("3a", removed.getBlockHash());
+        assertFalse(events.get(2).getLogs().get(0).isRemoved());
+    }
+
+    @Test
+    void testGapsAreFilled() throws Exception {
+        prepareBlock(block(2, "2", "1"));
+
+        assertEquals(
+                Arrays.asList("ADDED 1", "ADDED 2", "ADDED 3"),
+                follow(5, block(1, "1", "0"), block(3, "3", "2")));
+    }
+
+    @Test
+    void testReorganisationBeforeFirstConfirmationIsRolledBack() throws Exception {
+        prepareBlock(block(1, "1b", "0"));
+
+        assertEquals(
+                Arrays.asList(
+                        "ADDED 1a", "ADDED 2a", "REMOVED 2a", "REMOVED 1a", "ADDED 1b", "ADDED 2b"),
+                follow(2, block(1, "1a", "0"), block(2, "2a", "1a"), block(2, "2b", "1b")));
+    }
+
+    @Test
+    void testReorganisationOfConfirmedBlockFails() throws Exception {
+        prepareBlock(block(1, "1b", "0"));
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> follow(0, block(1, "1a", "0"), block(2, "2b", "1b")));
+    }
+
+    @Test
+    void testLogsAreOnlyRetrievedForBlocksMatchingBloom() {
+        Bloom bloom = new Bloom();
+        bloom.add("0x01");
+        EthBlock.Block matching = block(1, "1", "0");
+        matching.setLogsBloom(Numeric.toHexString(bloom.getBytes()));
+        EthBlock.Block empty = block(2, "2", "1");
+        empty.setLogsBloom(Numeric.toHexString(new byte[256]));
+
+        List<ChainFollower.Event> events =
+                new ChainFollower(web3j, new EthFilter().addSingleTopic("0x01"), 0)
+                        .useLogsBloom(true)
+                        .follow(Flowable.just(matching, empty))
+                        .toList()
+                        .blockingGet();
+
+        assertEquals(1, events.get(0).getLogs().size());
+        assertTrue(events.get(2).getLogs().isEmpty());
+        verify(web3j, times(1)).ethGetLogs(any(EthFilter.class));
+    }
+
+    private List<String> follow(int confirmations, EthBlock.Block... heads) {
+        return describe(
+                new ChainFollower(web3j, confirmations)
+                        .follow(Flowable.fromArray(heads))
+                        .toList()
+                        .blockingGet());
+    }
+
+    private static List<String> describe(List<ChainFollower.Event> events) {
+        return events.stream()
+                .map(event -> event.getType() + " " + event.getBlock().getHash())
+                .collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void prepareBlock(EthBlock.Block block) throws Exception {
+        EthBlock ethBlock = new EthBlock();
+        ethBlock.setResult(block);
+        Request<?, EthBlock> request = mock(Request.class);
+        when(request.send()).thenReturn(ethBlock);
+        when(web3j.ethGetBlockByHash(eq(block.getHash()), eq(false)))
+                .thenReturn((Request) request);
+    }
+
+    private static EthBlock.Block block(long number, String hash, String parentHash) {
+        EthBlock.Block block = new EthBlock.Block();
+        block.setNumber(Numeric.encodeQuantity(BigInteger.valueOf(number)));
+        block.setHash(hash);
+        block.setParentHash(parentHash);
+        return block;
+    }
+}
@@ -20,7 +20,10 @@ import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.reactivex.Flowable;
@@ -32,6 +35,8 @@ import org.mockito.stubbing.OngoingStubbing;
 import org.web3j.protocol.ObjectMapperFactory;
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
 import org.web3j.protocol.core.DefaultBlockParameter;
 import org.web3j.protocol.core.DefaultBlockParameterNumber;
 import org.web3j.protocol.core.Request;
@@ -146,6 +151,94 @@ class JsonRpc2_0RxTest {
         assertTrue(subscription.isDisposed());
     }
 
+    @Test
+    void testReplayBlocksFlowableInBatches() throws Exception {
+        AtomicBoolean failed = new AtomicBoolean();
+        when(web3jService.sendBatch(any(BatchRequest.class)))
+                .thenAnswer(
+                        invocation -> {
+                            BatchRequest batchRequest = invocation.getArgument(0);
+                            List<EthBlock> responses = new ArrayList<>();
+                            for (Request<?, ?> request : batchRequest.getRequests()) {
+                                int number =
+                                        Numeric.decodeQuantity((String) request.getParams().get(0))
+                                                .intValueExact();
+                                if (number == 3 && failed.compareAndSet(false, true)) {
+                                    throw new IOException("rate limited");
+                                }
+                                EthBlock ethBlock = createBlock(number);
+                                ethBlock.setId(request.getId());
+                                // batch responses are not necessarily in request order
+                                responses.add(0, ethBlock);
+                            }
+                            return new BatchResponse(batchRequest.getRequests(), responses);
+                        });
+        when(web3jService.send(any(Request.class), eq(EthBlock.class)))
+                .thenReturn(createBlock(6));
+
+        List<BigInteger> blockNumbers =
+                web3j.replayPastBlocksFlowable(
+                                new DefaultBlockParameterNumber(BigInteger.ZERO),
+                                new DefaultBlockParameterNumber(BigInteger.valueOf(6)),
+                                false,
+                                true,
+                                3,
+                                2)
+                        .map(ethBlock -> ethBlock.getBlock().getNumber())
+                        .toList()
+                        .blockingGet();
+
+        assertEquals(
+                LongStream.rangeClosed(0, 6)
+                        .mapToObj(BigInteger::valueOf)
+                        .collect(Collectors.toList()),
+                blockNumbers);
+        assertTrue(failed.get());
+    }
+
+    @Test
+    void testReplayBlocksFlowableInBatchesGeneratesChunksOnDemand() throws Exception {
+        AtomicInteger batches = new AtomicInteger();
+        when(web3jService.sendBatch(any(BatchRequest.class)))
+                .thenAnswer(
+                        invocation -> {
+                            batches.incrementAndGet();
+                            BatchRequest batchRequest = invocation.getArgument(0);
+                            List<EthBlock> responses = new ArrayList<>();
+                            for (Request<?, ?> request : batchRequest.getRequests()) {
+                                long number =
+                                        Numeric.decodeQuantity((String) request.getParams().get(0))
+                                                .longValueExact();
+                                EthBlock ethBlock = createBlock(number);
+                                ethBlock.setId(request.getId());
+                                responses.add(ethBlock);
+                            }
+                            return new BatchResponse(batchRequest.getRequests(), responses);
+                        });
+
+        long end = 1_000_000_000_000L;
+        List<BigInteger> blockNumbers =
+                web3j.replayPastBlocksFlowable(
+                                new DefaultBlockParameterNumber(BigInteger.ZERO),
+                                new DefaultBlockParameterNumber(BigInteger.valueOf(end)),
+                                false,
+                                false,
+                                3,
+                                2)
+                        .map(ethBlock -> ethBlock.getBlock().getNumber())
+                        .take(7)
+                        .toList()
+                        .blockingGet();
+
+        assertEquals(
+                LongStream.range(0, 7)
+                        .mapToObj(i -> BigInteger.valueOf(end - i))
+                        .collect(Collectors.toList()),
+                blockNumbers);
+        // the three chunks consumed, and at most two requested ahead
+        assertTrue(batches.get() <= 5);
+    }
+
     @Test
     void testReplayPastBlocksFlowable() throws Exception {
         List<EthBlock> expected =
@@ -362,7 +455,7 @@ class JsonRpc2_0RxTest {
         assertTrue(subscription.isDisposed());
     }
 
-    private EthBlock createBlock(int number) {
+    private EthBlock createBlock(long number) {
         EthBlock ethBlock = new EthBlock();
         EthBlock.Block block = new EthBlock.Block();
         block.setNumber(Numeric.encodeQuantity(BigInteger.valueOf(number)));
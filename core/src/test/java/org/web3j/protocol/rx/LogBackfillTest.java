@@ -0,0 +1,212 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.TempFileProvider;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.exceptions.JsonRpcError;
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LogBackfillTest extends TempFileProvider {
+
+    private static final int MAX_RESULTS = 4;
+
+    private Web3j web3j;
+
+    @BeforeEach
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        web3j = mock(Web3j.class);
+        when(web3j.ethGetLogs(any(EthFilter.class)))
+                .thenAnswer(invocation -> request(getLogs(invocation.getArgument(0))));
+    }
+
+    @Test
+    void testLogsAreEmittedInBlockOrder() {
+        List<Long> blocks =
+                blocks(new LogBackfill(web3j, filter(0, 39)).blockRange(16, 32).concurrency(3));
+
+        assertEquals(range(0, 39), blocks);
+    }
+
+    @Test
+    void testBackfillResumesFromCheckpoint() throws IOException {
+        Path path = Paths.get(tempDirPath, "checkpoint");
+        LogBackfill.Checkpoint checkpoint = LogBackfill.fileCheckpoint(path);
+        assertFalse(checkpoint.load().isPresent());
+
+        assertEquals(
+                range(5, 9),
+                blocks(new LogBackfill(web3j, filter(5, 9)).checkpoint(checkpoint)));
+        assertEquals("9", new String(Files.readAllBytes(path)));
+
+        assertEquals(
+                range(10, 14),
+                blocks(new LogBackfill(web3j, filter(5, 14)).checkpoint(checkpoint)));
+        assertEquals(Optional.of(BigInteger.valueOf(14)), checkpoint.load());
+    }
+
+    @Test
+    void testIsLimitError() {
+        assertTrue(LogBackfill.isLimitError(new Response.Error(-32005, "limit exceeded")));
+        assertTrue(
+                LogBackfill.isLimitError(
+                        new Response.Error(-32602, "Log response size exceeded.")));
+        assertFalse(LogBackfill.isLimitError(new Response.Error(-32000, "header not found")));
+        assertFalse(
+                LogBackfill.isLimitError(
+                        new Response.Error(-32005, "project ID request rate exceeded")));
+    }
+
+    @Test
+    void testIsRateLimitError() {
+        assertTrue(
+                LogBackfill.isRateLimitError(
+                        new Response.Error(-32005, "project ID request rate exceeded")));
+        assertTrue(
+                LogBackfill.isRateLimitError(
+                        new Response.Error(
+                                429,
+                                "Your app has exceeded its compute units per second capacity")));
+        assertFalse(
+                LogBackfill.isRateLimitError(
+                        new Response.Error(-32005, "query returned more than 10000 results")));
+    }
+
+    @Test
+    void testRateLimitedRequestsAreRetried() {
+        AtomicInteger rejected = new AtomicInteger();
+        rateLimit(from -> rejected.getAndIncrement() < 2);
+
+        assertEquals(
+                range(0, 3),
+                blocks(
+                        new LogBackfill(web3j, filter(0, 3))
+                                .blockRange(4, 4)
+                                .rateLimitBackoff(1, TimeUnit.MILLISECONDS)));
+        // two rejected requests and a successful one
+        assertEquals(3, rejected.get());
+    }
+
+    @Test
+    void testRateLimitedRequestsAreNotBisected() {
+        List<Long> requested = new CopyOnWriteArrayList<>();
+        rateLimit(requested::add);
+
+        assertThrows(
+                JsonRpcError.class,
+                () ->
+                        blocks(
+                                new LogBackfill(web3j, filter(0, 3))
+                                        .blockRange(4, 4)
+                                        .rateLimitBackoff(1, TimeUnit.MILLISECONDS)));
+        assertEquals(Collections.nCopies(LogBackfill.RATE_LIMIT_RETRIES + 1, 0L), requested);
+    }
+
+    /** Rejects requests as rate limited while the predicate holds for their start block. */
+    private void rateLimit(Predicate<Long> rejected) {
+        when(web3j.ethGetLogs(any(EthFilter.class)))
+                .thenAnswer(
+                        invocation -> {
+                            EthFilter filter = invocation.getArgument(0);
+                            if (!rejected.test(blockNumber(filter.getFromBlock()))) {
+                                return request(getLogs(filter));
+                            }
+                            EthLog ethLog = new EthLog();
+                            ethLog.setError(
+                                    new Response.Error(-32005, "project ID request rate exceeded"));
+                            return request(ethLog);
+                        });
+    }
+
+    /** @return one log per block, rejecting requests returning more than MAX_RESULTS logs */
+    private static EthLog getLogs(EthFilter filter) {
+        long from = blockNumber(filter.getFromBlock());
+        long to = blockNumber(filter.getToBlock());
+        EthLog ethLog = new EthLog();
+        if (to - from + 1 > MAX_RESULTS) {
+            ethLog.setError(new Response.Error(-32005, "query returned more than 4 results"));
+        } else {
+            List<EthLog.LogResult> logs = new ArrayList<>();
+            for (long block = from; block <= to; block++) {
+                EthLog.LogObject log = new EthLog.LogObject();
+                log.setBlockNumber(Numeric.encodeQuantity(BigInteger.valueOf(block)));
+                logs.add(log);
+            }
+            ethLog.setResult(logs);
+        }
+        return ethLog;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Request<?, EthLog> request(EthLog ethLog) throws IOException {
+        Request<?, EthLog> request = mock(Request.class);
+        when(request.send()).thenReturn(ethLog);
+        return request;
+    }
+
+    private static List<Long> blocks(LogBackfill backfill) {
+        return backfill.flowable()
+                .map(log -> log.getBlockNumber().longValueExact())
+                .toList()
+                .blockingGet();
+    }
+
+    private static List<Long> range(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().collect(Collectors.toList());
+    }
+
+    private static EthFilter filter(long from, long to) {
+        return new EthFilter(
+                new DefaultBlockParameterNumber(from),
+                new DefaultBlockParameterNumber(to),
+                "0x0000000000000000000000000000000000000001");
+    }
+
+    private static long blockNumber(Object blockParameter) {
+        return ((DefaultBlockParameterNumber) blockParameter).getBlockNumber().longValueExact();
+    }
+}
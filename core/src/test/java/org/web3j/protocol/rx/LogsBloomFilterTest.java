@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.utils.Bloom;
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LogsBloomFilterTest {
+
+    private static final String ADDRESS = "0x2222222222222222222222222222222222222222";
+    private static final String OTHER_ADDRESS = "0x3333333333333333333333333333333333333333";
+    private static final String TOPIC =
+            "0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef";
+    private static final String OTHER_TOPIC =
+            "0x8c5be1e5ebec7d5bd14f71427d1e84f3dd0314c0f7b2291e5b200ac8c7c3b925";
+
+    @Test
+    void testAddressesAndTopicsMustMatch() {
+        String logsBloom = logsBloom(ADDRESS, TOPIC);
+
+        assertTrue(filter(ADDRESS, TOPIC).mightMatch(logsBloom));
+        assertTrue(
+                new LogsBloomFilter(
+                                new EthFilter(
+                                                DefaultBlockParameterName.EARLIEST,
+                                                DefaultBlockParameterName.LATEST,
+                                                Arrays.asList(OTHER_ADDRESS, ADDRESS))
+                                        .addOptionalTopics(OTHER_TOPIC, TOPIC))
+                        .mightMatch(logsBloom));
+        assertFalse(filter(OTHER_ADDRESS, TOPIC).mightMatch(logsBloom));
+        assertFalse(filter(ADDRESS, OTHER_TOPIC).mightMatch(logsBloom));
+    }
+
+    @Test
+    void testWildcardsMatchAnyLogs() {
+        String logsBloom = logsBloom(ADDRESS, TOPIC);
+
+        assertTrue(
+                new LogsBloomFilter(new EthFilter().addNullTopic().addSingleTopic(TOPIC))
+                        .mightMatch(logsBloom));
+        assertTrue(
+                new LogsBloomFilter(new EthFilter().addOptionalTopics(OTHER_TOPIC, null))
+                        .mightMatch(logsBloom));
+        assertFalse(
+                new LogsBloomFilter(new EthFilter().addSingleTopic(OTHER_TOPIC))
+                        .mightMatch(logsBloom));
+    }
+
+    @Test
+    void testUnknownBloomMayMatch() {
+        LogsBloomFilter filter = new LogsBloomFilter(new EthFilter().addSingleTopic(TOPIC));
+
+        assertTrue(filter.mightMatch((String) null));
+        assertTrue(filter.mightMatch("0x"));
+        assertFalse(filter.mightMatch(Numeric.toHexString(new byte[256])));
+    }
+
+    private static LogsBloomFilter filter(String address, String topic) {
+        return new LogsBloomFilter(
+                new EthFilter(
+                                DefaultBlockParameterName.EARLIEST,
+                                DefaultBlockParameterName.LATEST,
+                                address)
+                        .addSingleTopic(topic));
+    }
+
+    private static String logsBloom(String... items) {
+        Bloom bloom = new Bloom();
+        for (String item : items) {
+            bloom.add(item);
+        }
+        return Numeric.toHexString(bloom.getBytes());
+    }
+}
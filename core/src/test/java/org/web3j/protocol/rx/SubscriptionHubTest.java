@@ -0,0 +1,199 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import io.reactivex.processors.PublishProcessor;
+import io.reactivex.subscribers.TestSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.Log;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SubscriptionHubTest {
+
+    private static final String TOKEN = "0x00000000000000000000000000000000000000aa";
+    private static final String OTHER_TOKEN = "0x00000000000000000000000000000000000000bb";
+    private static final String TRANSFER = "0x01";
+    private static final String APPROVAL = "0x02";
+
+    private Web3j web3j;
+    private List<EthFilter> upstreamFilters;
+    private List<PublishProcessor<Log>> upstreams;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws IOException {
+        web3j = mock(Web3j.class);
+        upstreamFilters = new ArrayList<>();
+        upstreams = new ArrayList<>();
+        when(web3j.ethLogFlowable(any(EthFilter.class)))
+                .thenAnswer(
+                        invocation -> {
+                            PublishProcessor<Log> upstream = PublishProcessor.create();
+                            upstreamFilters.add(invocation.getArgument(0));
+                            upstreams.add(upstream);
+                            return upstream;
+                        });
+
+        EthBlockNumber ethBlockNumber = new EthBlockNumber();
+        ethBlockNumber.setResult("0x64");
+        Request<?, EthBlockNumber> request = mock(Request.class);
+        when(request.send()).thenReturn(ethBlockNumber);
+        when(web3j.ethBlockNumber()).thenReturn((Request) request);
+    }
+
+    @Test
+    void testOverlappingFiltersShareUpstream() {
+        SubscriptionHub hub = new SubscriptionHub(web3j);
+
+        TestSubscriber<Log> transfers =
+                hub.ethLogFlowable(filter(TOKEN).addSingleTopic(TRANSFER)).test();
+        TestSubscriber<Log> allEvents = hub.ethLogFlowable(filter(TOKEN)).test();
+        TestSubscriber<Log> covered =
+                hub.ethLogFlowable(filter(TOKEN).addSingleTopic(TRANSFER)).test();
+
+        // the second filter widens the upstream filter, the third is covered by it
+        assertEquals(2, upstreams.size());
+        assertFalse(upstreams.get(0).hasSubscribers());
+        // no logs were delivered yet, so it starts from the block after the first one was installed
+        assertEquals(
+                new DefaultBlockParameterNumber(101).getValue(),
+                upstreamFilters.get(1).getFromBlock().getValue());
+        assertTrue(upstreamFilters.get(1).getTopics().isEmpty());
+
+        Log transfer = log(TOKEN, 101, "0x1", TRANSFER);
+        Log approval = log(TOKEN, 101, "0x2", APPROVAL);
+        upstreams.get(1).onNext(transfer);
+        upstreams.get(1).onNext(approval);
+        // delivered again by an overlapping upstream filter
+        upstreams.get(1).onNext(transfer);
+
+        transfers.assertValues(transfer);
+        covered.assertValues(transfer);
+        allEvents.assertValues(transfer, approval);
+
+        transfers.cancel();
+        allEvents.cancel();
+        assertTrue(upstreams.get(1).hasSubscribers());
+        covered.cancel();
+        assertFalse(upstreams.get(1).hasSubscribers());
+        assertEquals(0, hub.getLogSubscriberCount());
+    }
+
+    @Test
+    void testReplacementResumesFromLastDeliveredBlock() {
+        SubscriptionHub hub = new SubscriptionHub(web3j);
+
+        TestSubscriber<Log> transfers =
+                hub.ethLogFlowable(filter(TOKEN).addSingleTopic(TRANSFER)).test();
+        List<Log> logs = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            Log log = log(TOKEN, 103, "0x" + Integer.toHexString(i), TRANSFER);
+            logs.add(log);
+            upstreams.get(0).onNext(log);
+        }
+        TestSubscriber<Log> allEvents = hub.ethLogFlowable(filter(TOKEN)).test();
+
+        assertEquals(
+                new DefaultBlockParameterNumber(103).getValue(),
+                upstreamFilters.get(1).getFromBlock().getValue());
+
+        // the logs of the block delivered by the previous filter are not delivered again
+        logs.forEach(upstreams.get(1)::onNext);
+        Log next = log(TOKEN, 104, "0x0", TRANSFER);
+        upstreams.get(1).onNext(next);
+
+        assertEquals(5001, transfers.valueCount());
+        allEvents.assertValues(next);
+    }
+
+    @Test
+    void testFailedSubscriptionIsRemoved() throws IOException {
+        Request<?, EthBlockNumber> request = web3j.ethBlockNumber();
+        when(request.send()).thenThrow(new IOException("unavailable"));
+        SubscriptionHub hub = new SubscriptionHub(web3j);
+
+        hub.ethLogFlowable(filter(TOKEN)).test().assertError(IOException.class);
+
+        assertEquals(0, hub.getLogSubscriberCount());
+        assertTrue(upstreams.isEmpty());
+    }
+
+    @Test
+    void testFirstFilterStartsAtLatestBlock() {
+        SubscriptionHub hub = new SubscriptionHub(web3j);
+
+        hub.ethLogFlowable(filter(TOKEN)).test();
+
+        assertEquals(DefaultBlockParameterName.LATEST, upstreamFilters.get(0).getFromBlock());
+        assertEquals(
+                Collections.singletonList(TOKEN), upstreamFilters.get(0).getAddress());
+    }
+
+    @Test
+    void testCriteria() {
+        SubscriptionHub.Criteria token = SubscriptionHub.Criteria.of(filter(TOKEN));
+        SubscriptionHub.Criteria transfers =
+                SubscriptionHub.Criteria.of(
+                        new EthFilter(
+                                        DefaultBlockParameterName.LATEST,
+                                        DefaultBlockParameterName.LATEST,
+                                        Arrays.asList(TOKEN, OTHER_TOKEN))
+                                .addOptionalTopics(TRANSFER, APPROVAL));
+
+        assertTrue(transfers.matches(log(OTHER_TOKEN, 1, "0x1", APPROVAL)));
+        assertFalse(transfers.matches(log(OTHER_TOKEN, 1, "0x1", "0x03")));
+        assertFalse(token.covers(transfers));
+        assertFalse(transfers.covers(token));
+
+        SubscriptionHub.Criteria merged = token.merge(transfers);
+        assertTrue(merged.covers(token));
+        assertTrue(merged.covers(transfers));
+        assertTrue(merged.matches(log(TOKEN, 1, "0x1", "0x03")));
+        assertFalse(merged.matches(log("0x00000000000000000000000000000000000000cc", 1, "0x1")));
+    }
+
+    private static EthFilter filter(String address) {
+        return new EthFilter(
+                DefaultBlockParameterName.LATEST, DefaultBlockParameterName.LATEST, address);
+    }
+
+    private static Log log(String address, long blockNumber, String logIndex, String... topics) {
+        Log log = new Log();
+        log.setAddress(address);
+        log.setBlockNumber("0x" + Long.toHexString(blockNumber));
+        log.setBlockHash("0xb" + blockNumber);
+        log.setLogIndex(logIndex);
+        log.setTopics(Arrays.asList(topics));
+        return log;
+    }
+}
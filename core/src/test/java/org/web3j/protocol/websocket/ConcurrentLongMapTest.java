@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.websocket;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentLongMapTest {
+
+    @Test
+    void testPutGetRemove() {
+        ConcurrentLongMap<String> map = new ConcurrentLongMap<>();
+
+        assertNull(map.put(1, "a"));
+        assertEquals("a", map.put(1, "b"));
+        assertNull(map.put(-1, "c"));
+        assertNull(map.put(0, "d"));
+
+        assertEquals("b", map.get(1));
+        assertEquals(3, map.size());
+        assertTrue(map.containsKey(0));
+        assertEquals("c", map.remove(-1));
+        assertNull(map.remove(-1));
+        assertFalse(map.containsKey(-1));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void testMatchesHashMap() {
+        ConcurrentLongMap<Long> map = new ConcurrentLongMap<>();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            // a small key range forces collisions, removals and reinsertions
+            long key = random.nextInt(2_000);
+            if (random.nextBoolean()) {
+                assertEquals(expected.put(key, (long) i), map.put(key, (long) i));
+            } else {
+                assertEquals(expected.remove(key), map.remove(key));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (long key = 0; key < 2_000; key++) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
+
+    @Test
+    void testClearReturnsValues() {
+        ConcurrentLongMap<String> map = new ConcurrentLongMap<>();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, Integer.toString(i));
+        }
+
+        assertEquals(100, map.clear().size());
+        assertEquals(0, map.size());
+        assertNull(map.get(1));
+    }
+}
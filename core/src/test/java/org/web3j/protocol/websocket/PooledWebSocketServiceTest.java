@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.websocket;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import io.reactivex.Flowable;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthSubscribe;
+import org.web3j.protocol.core.methods.response.Web3ClientVersion;
+import org.web3j.protocol.websocket.events.NewHeadsNotification;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PooledWebSocketServiceTest {
+
+    private final WebSocketService first = mock(WebSocketService.class);
+    private final WebSocketService second = mock(WebSocketService.class);
+    private final PooledWebSocketService service =
+            new PooledWebSocketService(Arrays.asList(first, second));
+
+    private final Request<?, Web3ClientVersion> request =
+            new Request<>(
+                    "web3_clientVersion",
+                    Collections.<String>emptyList(),
+                    service,
+                    Web3ClientVersion.class);
+
+    @Test
+    void testRequestsAreSentOverLeastBusyConnection() {
+        CompletableFuture<Web3ClientVersion> firstReply = new CompletableFuture<>();
+        when(first.sendAsync(request, Web3ClientVersion.class)).thenReturn(firstReply);
+        when(second.sendAsync(request, Web3ClientVersion.class))
+                .thenReturn(new CompletableFuture<>());
+
+        service.sendAsync(request, Web3ClientVersion.class);
+        service.sendAsync(request, Web3ClientVersion.class);
+        verify(first).sendAsync(request, Web3ClientVersion.class);
+        verify(second).sendAsync(request, Web3ClientVersion.class);
+
+        firstReply.complete(new Web3ClientVersion());
+        service.sendAsync(request, Web3ClientVersion.class);
+        verify(first, times(2)).sendAsync(request, Web3ClientVersion.class);
+        verify(second).sendAsync(request, Web3ClientVersion.class);
+    }
+
+    @Test
+    void testSubscriptionIsCreatedOnLeastSubscribedConnection() {
+        when(first.getSubscriptionIdsMap())
+                .thenReturn(Collections.singletonMap("0x1", mock(WebSocketSubscription.class)));
+        when(second.getSubscriptionIdsMap()).thenReturn(Collections.emptyMap());
+        Flowable<NewHeadsNotification> events = Flowable.empty();
+        when(second.subscribe(any(), eq("eth_unsubscribe"), eq(NewHeadsNotification.class)))
+                .thenReturn(events);
+
+        Request<?, EthSubscribe> subscribeRequest =
+                new Request<>(
+                        "eth_subscribe",
+                        Arrays.asList("newHeads", Collections.emptyMap()),
+                        service,
+                        EthSubscribe.class);
+
+        assertSame(
+                events,
+                service.subscribe(
+                        subscribeRequest, "eth_unsubscribe", NewHeadsNotification.class));
+        verify(first, never()).subscribe(any(), any(), any());
+    }
+
+    @Test
+    void testCloseAllConnections() {
+        service.close();
+
+        verify(first).close();
+        verify(second).close();
+    }
+
+    @Test
+    void testAtLeastOneConnectionIsRequired() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new PooledWebSocketService(Collections.emptyList()));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new PooledWebSocketService("ws://localhost:8546", 0, true, false));
+    }
+}
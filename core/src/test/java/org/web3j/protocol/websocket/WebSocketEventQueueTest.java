@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.websocket;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WebSocketEventQueueTest {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+    @Test
+    void testDropOldest() {
+        WebSocketEventQueue queue = queue(tasks::add, WebSocketService.OverflowPolicy.DROP_OLDEST);
+
+        assertTrue(offer(queue, "1", "2", "3"));
+        assertEquals(2, queue.getLag());
+        assertEquals(1, queue.getDroppedCount());
+
+        runTasks();
+        assertEquals(Arrays.asList("2", "3"), delivered);
+        assertEquals(2, queue.getDeliveredCount());
+        assertEquals(0, queue.getLag());
+    }
+
+    @Test
+    void testDropNewest() {
+        WebSocketEventQueue queue = queue(tasks::add, WebSocketService.OverflowPolicy.DROP_NEWEST);
+
+        assertTrue(offer(queue, "1", "2", "3"));
+        assertEquals(1, queue.getDroppedCount());
+
+        runTasks();
+        assertEquals(Arrays.asList("1", "2"), delivered);
+        assertNull(error.get());
+    }
+
+    @Test
+    void testFailDeliversQueuedEventsBeforeError() {
+        WebSocketEventQueue queue = queue(tasks::add, WebSocketService.OverflowPolicy.FAIL);
+
+        assertTrue(offer(queue, "1", "2"));
+        assertFalse(offer(queue, "3"));
+        assertTrue(offer(queue, "4"));
+
+        runTasks();
+        assertEquals(Arrays.asList("1", "2"), delivered);
+        assertTrue(error.get() instanceof IOException);
+        assertEquals(1, queue.getDroppedCount());
+    }
+
+    @Test
+    void testEventsAreDeliveredInOrder() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch completed = new CountDownLatch(1);
+        try {
+            WebSocketEventQueue queue =
+                    new WebSocketEventQueue(
+                            executor,
+                            1000,
+                            WebSocketService.OverflowPolicy.FAIL,
+                            handler(completed));
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                expected.add(Integer.toString(i));
+                assertTrue(offer(queue, Integer.toString(i)));
+            }
+            queue.fail(new IOException("closed"));
+
+            assertTrue(completed.await(5, TimeUnit.SECONDS));
+            assertEquals(expected, delivered);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private WebSocketEventQueue queue(
+            Executor executor, WebSocketService.OverflowPolicy policy) {
+        return new WebSocketEventQueue(executor, 2, policy, handler(new CountDownLatch(1)));
+    }
+
+    private WebSocketEventQueue.Handler handler(CountDownLatch completed) {
+        return new WebSocketEventQueue.Handler() {
+            @Override
+            public void onEvent(String event) {
+                delivered.add(event);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                error.set(throwable);
+                completed.countDown();
+            }
+        };
+    }
+
+    private static boolean offer(WebSocketEventQueue queue, String... events) {
+        boolean accepted = true;
+        for (String event : events) {
+            accepted &= queue.offer(event);
+        }
+        return accepted;
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+}
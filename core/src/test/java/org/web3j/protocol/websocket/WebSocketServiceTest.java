@@ -16,14 +16,21 @@ import java.io.IOException;
 import java.net.ConnectException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.reactivex.Flowable;
 import io.reactivex.disposables.Disposable;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,12 +47,14 @@ import org.web3j.protocol.core.methods.response.EthSubscribe;
 import org.web3j.protocol.core.methods.response.NetVersion;
 import org.web3j.protocol.core.methods.response.Web3ClientVersion;
 import org.web3j.protocol.websocket.events.NewHeadsNotification;
+import org.web3j.utils.HashedWheelTimer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.startsWith;
@@ -61,9 +70,10 @@ class WebSocketServiceTest {
 
     private WebSocketClient webSocketClient = mock(WebSocketClient.class);
     private WebSocketListener listener;
-    private ScheduledExecutorService executorService = mock(ScheduledExecutorService.class);
+    private HashedWheelTimer timer = mock(HashedWheelTimer.class);
+    private HashedWheelTimer.Timeout timeout = mock(HashedWheelTimer.Timeout.class);
 
-    private WebSocketService service = new WebSocketService(webSocketClient, executorService, true);
+    private WebSocketService service = new WebSocketService(webSocketClient, timer, true);
 
     private Request<?, Web3ClientVersion> request =
             new Request<>(
@@ -78,6 +88,8 @@ class WebSocketServiceTest {
     void before() throws InterruptedException {
         when(webSocketClient.connectBlocking()).thenReturn(true);
         when(webSocketClient.reconnectBlocking()).thenReturn(true);
+        when(timer.newTimeout(any(Runnable.class), anyLong(), any(TimeUnit.class)))
+                .thenReturn(timeout);
         request.setId(1);
     }
 
@@ -278,6 +290,17 @@ class WebSocketServiceTest {
         assertEquals("geth-version", reply.get().getWeb3ClientVersion());
     }
 
+    @Test
+    void testReceiveReplyWithTextualIdAfterResult() throws Exception {
+        CompletableFuture<Web3ClientVersion> reply =
+                service.sendAsync(request, Web3ClientVersion.class);
+        service.onWebSocketMessage(
+                "{\"jsonrpc\":\"2.0\",\"result\":\"geth-version\",\"id\":\"1\"}");
+
+        assertTrue(reply.isDone());
+        assertEquals("geth-version", reply.get().getWeb3ClientVersion());
+    }
+
     @Test
     void testReceiveError() throws Exception {
         CompletableFuture<Web3ClientVersion> reply =
@@ -302,22 +325,36 @@ class WebSocketServiceTest {
 
     @Test
     void testCancelRequestAfterTimeout() {
-        when(executorService.schedule(
+        AtomicReference<Runnable> timeoutTask = new AtomicReference<>();
+        when(timer.newTimeout(
                         any(Runnable.class),
-                        eq(WebSocketService.REQUEST_TIMEOUT),
-                        eq(TimeUnit.SECONDS)))
+                        eq(TimeUnit.SECONDS.toNanos(WebSocketService.REQUEST_TIMEOUT)),
+                        eq(TimeUnit.NANOSECONDS)))
                 .then(
                         invocation -> {
-                            Runnable runnable = invocation.getArgument(0, Runnable.class);
-                            runnable.run();
-                            return null;
+                            timeoutTask.set(invocation.getArgument(0, Runnable.class));
+                            return timeout;
                         });
 
         CompletableFuture<Web3ClientVersion> reply =
                 service.sendAsync(request, Web3ClientVersion.class);
+        timeoutTask.get().run();
 
         assertTrue(reply.isDone());
         assertThrows(ExecutionException.class, () -> reply.get());
+        assertFalse(service.isWaitingForReply(REQUEST_ID));
+    }
+
+    @Test
+    void testRequestTimeoutIsCancelledOnReply() throws Exception {
+        CompletableFuture<Web3ClientVersion> reply =
+                service.sendAsync(request, Web3ClientVersion.class, 5, TimeUnit.SECONDS);
+        verify(timer).newTimeout(any(Runnable.class), eq(5L), eq(TimeUnit.SECONDS));
+
+        sendGethVersionReply();
+
+        assertTrue(reply.isDone());
+        verify(timeout).cancel();
     }
 
     @Test
@@ -354,7 +391,6 @@ class WebSocketServiceTest {
         service.close();
 
         verify(webSocketClient).close();
-        verify(executorService).shutdown();
     }
 
     @Test
@@ -401,6 +437,90 @@ class WebSocketServiceTest {
                 actualNotificationRef.get().getParams().getSubscription());
     }
 
+    @Test
+    void testPropagateSubscriptionEventWithSubscriptionAfterResult() throws Exception {
+        CountDownLatch eventReceived = new CountDownLatch(1);
+        AtomicReference<NewHeadsNotification> actualNotificationRef = new AtomicReference<>();
+
+        runAsync(
+                () ->
+                        subscribeToEvents()
+                                .subscribe(
+                                        newHeadsNotification -> {
+                                            actualNotificationRef.set(newHeadsNotification);
+                                            eventReceived.countDown();
+                                        }));
+
+        sendSubscriptionConfirmation();
+        service.onWebSocketMessage(
+                "{"
+                        + "  \"params\":{"
+                        + "    \"result\":{"
+                        + "      \"id\":2,"
+                        + "      \"difficulty\":\"0xd9263f42a87\","
+                        + "      \"uncles\":[{\"subscription\":\"0x01\"}]"
+                        + "    },"
+                        + "    \"subscription\":\"0xcd0c3e8af590364c09d0fa6a1210faf5\""
+                        + "  },"
+                        + "  \"jsonrpc\":\"2.0\","
+                        + "  \"method\":\"eth_subscription\""
+                        + "}");
+
+        assertTrue(eventReceived.await(2, TimeUnit.SECONDS));
+        assertEquals(
+                "0xd9263f42a87",
+                actualNotificationRef.get().getParams().getResult().getDifficulty());
+    }
+
+    @Test
+    void testSlowSubscriberDoesNotDelayReplies() throws Exception {
+        ExecutorService deliveryExecutor = Executors.newCachedThreadPool();
+        service.setEventDelivery(deliveryExecutor, 1, WebSocketService.OverflowPolicy.DROP_NEWEST);
+        CountDownLatch subscribed = new CountDownLatch(1);
+        CountDownLatch delivering = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        CountDownLatch eventsReceived = new CountDownLatch(2);
+
+        runAsync(
+                () -> {
+                    subscribeToEvents()
+                            .subscribe(
+                                    newHeadsNotification -> {
+                                        delivering.countDown();
+                                        released.await();
+                                        eventsReceived.countDown();
+                                    });
+                    subscribed.countDown();
+                });
+
+        try {
+            sendSubscriptionConfirmation();
+            assertTrue(subscribed.await(2, TimeUnit.SECONDS));
+            sendWebSocketEvent();
+            assertTrue(delivering.await(2, TimeUnit.SECONDS));
+            sendWebSocketEvent();
+            sendWebSocketEvent();
+
+            CompletableFuture<Web3ClientVersion> reply =
+                    service.sendAsync(request, Web3ClientVersion.class);
+            sendGethVersionReply();
+            assertEquals(
+                    "geth-version", reply.get(2, TimeUnit.SECONDS).getWeb3ClientVersion());
+
+            WebSocketSubscription<?> subscription =
+                    service.getSubscriptionIdsMap().get("0xcd0c3e8af590364c09d0fa6a1210faf5");
+            assertEquals(1, subscription.getLag());
+            assertEquals(1, subscription.getDroppedCount());
+
+            released.countDown();
+            assertTrue(eventsReceived.await(2, TimeUnit.SECONDS));
+            assertEquals(0, subscription.getLag());
+        } finally {
+            released.countDown();
+            deliveryExecutor.shutdown();
+        }
+    }
+
     @Test
     void testSendUnsubscribeRequest() throws Exception {
         CountDownLatch unsubscribed = new CountDownLatch(1);
@@ -527,6 +647,74 @@ class WebSocketServiceTest {
                 "Subscription request failed with error: Error message", throwable.getMessage());
     }
 
+    @Test
+    void testRestoreRequestsAndSubscriptionsAfterReconnecting() throws Exception {
+        WebSocketService service = new WebSocketService(webSocketClient, true);
+        service.setAutoReconnect(1, 10, TimeUnit.MILLISECONDS);
+        when(webSocketClient.isOpen()).thenReturn(true);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        ExecutorService node = Executors.newSingleThreadExecutor();
+        AtomicLong head = new AtomicLong(10);
+        AtomicInteger subscriptions = new AtomicInteger();
+        AtomicBoolean connectionLost = new AtomicBoolean(true);
+        doAnswer(
+                        invocation -> {
+                            String payload = invocation.getArgument(0);
+                            JsonNode request = objectMapper.readTree(payload);
+                            node.execute(
+                                    () -> {
+                                        try {
+                                            answer(
+                                                    service,
+                                                    request,
+                                                    head,
+                                                    subscriptions,
+                                                    connectionLost);
+                                        } catch (IOException e) {
+                                            throw new RuntimeException(e);
+                                        }
+                                    });
+                            return null;
+                        })
+                .when(webSocketClient)
+                .send(anyString());
+
+        BlockingQueue<String> numbers = new LinkedBlockingQueue<>();
+        service.subscribe(
+                        new Request<>(
+                                "eth_subscribe",
+                                Arrays.asList("newHeads", Collections.emptyMap()),
+                                service,
+                                EthSubscribe.class),
+                        "eth_unsubscribe",
+                        NewHeadsNotification.class)
+                .subscribe(
+                        notification ->
+                                numbers.add(notification.getParams().getResult().getNumber()));
+        node.submit(() -> sendHead(service, "0x1", 10)).get();
+
+        // the connection is lost before the reply to this request is received
+        CompletableFuture<Web3ClientVersion> reply =
+                service.sendAsync(
+                        new Request<>(
+                                "web3_clientVersion",
+                                Collections.<String>emptyList(),
+                                service,
+                                Web3ClientVersion.class),
+                        Web3ClientVersion.class);
+        head.set(13);
+        node.submit(service::onWebSocketClose).get();
+
+        assertEquals("geth-version", reply.get(2, TimeUnit.SECONDS).getWeb3ClientVersion());
+        for (String number : Arrays.asList("0xa", "0xb", "0xc", "0xd", "0xe")) {
+            assertEquals(number, numbers.poll(2, TimeUnit.SECONDS));
+        }
+        assertTrue(service.getSubscriptionIdsMap().containsKey("0x2"));
+        assertEquals(1, service.getSubscriptionIdsMap().size());
+        node.shutdown();
+    }
+
     private void runAsync(Runnable runnable) {
         Executors.newSingleThreadExecutor().execute(runnable);
     }
@@ -581,6 +769,68 @@ class WebSocketServiceTest {
                         + "]");
     }
 
+    /** Replies to requests as a node would, losing the first web3_clientVersion request. */
+    private void answer(
+            WebSocketService service,
+            JsonNode request,
+            AtomicLong head,
+            AtomicInteger subscriptions,
+            AtomicBoolean connectionLost)
+            throws IOException {
+        if (request.isArray()) {
+            StringBuilder reply = new StringBuilder("[");
+            for (JsonNode element : request) {
+                String number = element.get("params").get(0).asText();
+                reply.append(reply.length() > 1 ? "," : "")
+                        .append(result(element, "{\"number\":\"" + number + "\"}"));
+            }
+            service.onWebSocketMessage(reply.append("]").toString());
+            return;
+        }
+        switch (request.get("method").asText()) {
+            case "eth_subscribe":
+                String subscriptionId = "0x" + subscriptions.incrementAndGet();
+                service.onWebSocketMessage(result(request, "\"" + subscriptionId + "\""));
+                if (subscriptions.get() > 1) {
+                    // received while missed heads are retrieved, the first one is a duplicate
+                    sendHead(service, subscriptionId, 13);
+                    sendHead(service, subscriptionId, 14);
+                }
+                break;
+            case "eth_blockNumber":
+                String blockNumber = "\"0x" + Long.toHexString(head.get()) + "\"";
+                service.onWebSocketMessage(result(request, blockNumber));
+                break;
+            case "web3_clientVersion":
+                if (!connectionLost.getAndSet(false)) {
+                    service.onWebSocketMessage(result(request, "\"geth-version\""));
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static String result(JsonNode request, String result) {
+        return "{\"jsonrpc\":\"2.0\",\"id\":"
+                + request.get("id")
+                + ",\"result\":"
+                + result
+                + "}";
+    }
+
+    private static Void sendHead(WebSocketService service, String subscriptionId, long number)
+            throws IOException {
+        service.onWebSocketMessage(
+                "{\"jsonrpc\":\"2.0\",\"method\":\"eth_subscription\",\"params\":{"
+                        + "\"subscription\":\""
+                        + subscriptionId
+                        + "\",\"result\":{\"number\":\"0x"
+                        + Long.toHexString(number)
+                        + "\"}}}");
+        return null;
+    }
+
     private void verifyStartedSubscriptionHandshake() {
         verify(webSocketClient)
                 .send(
@@ -346,6 +346,103 @@ class ContractTest extends ManagedTransactionTester {
                 });
     }
 
+    @Test
+    void testTransactionAsync() throws Exception {
+        TransactionReceipt transactionReceipt = new TransactionReceipt();
+        transactionReceipt.setTransactionHash(TRANSACTION_HASH);
+        transactionReceipt.setStatus(TXN_SUCCESS_STATUS);
+
+        prepareTransaction(transactionReceipt);
+
+        assertEquals(
+                transactionReceipt,
+                contract.performTransaction(
+                                new Address(BigInteger.TEN), new Uint256(BigInteger.ONE))
+                        .sendAsync()
+                        .get());
+    }
+
+    @Test
+    void testTransactionAsyncUsesOverriddenSend() throws Exception {
+        TransactionReceipt receipt = createTransactionReceipt();
+
+        TestContract customContract =
+                new TestContract(
+                        ADDRESS,
+                        web3j,
+                        getVerifiedTransactionManager(SampleKeys.CREDENTIALS),
+                        new DefaultGasProvider()) {
+                    @Override
+                    protected TransactionReceipt send(
+                            String to,
+                            String data,
+                            BigInteger value,
+                            BigInteger gasPrice,
+                            BigInteger gasLimit,
+                            boolean constructor) {
+                        return receipt;
+                    }
+                };
+
+        assertEquals(
+                receipt,
+                customContract.performTransaction(
+                                new Address(BigInteger.TEN), new Uint256(BigInteger.ONE))
+                        .sendAsync()
+                        .get());
+    }
+
+    @Test
+    void testTransactionFailedAsync() throws IOException {
+        TransactionReceipt transactionReceipt = createFailedTransactionReceipt();
+        prepareCall(null);
+        prepareTransaction(transactionReceipt);
+
+        ExecutionException e =
+                assertThrows(
+                        ExecutionException.class,
+                        () ->
+                                contract.performTransaction(
+                                                new Address(BigInteger.TEN),
+                                                new Uint256(BigInteger.ONE))
+                                        .sendAsync()
+                                        .get());
+        assertTrue(e.getCause() instanceof TransactionException);
+    }
+
+    @Test
+    void testNonBlockingTransactionAsync() throws Exception {
+        TransactionReceipt transactionReceipt = createTransactionReceipt();
+        prepareTransaction(transactionReceipt);
+        contract.setNonBlockingAsync(true);
+
+        assertEquals(
+                transactionReceipt,
+                contract.performTransaction(
+                                new Address(BigInteger.TEN), new Uint256(BigInteger.ONE))
+                        .sendAsync()
+                        .get());
+    }
+
+    @Test
+    void testNonBlockingTransactionFailedAsync() throws IOException {
+        TransactionReceipt transactionReceipt = createFailedTransactionReceipt();
+        prepareCall(null);
+        prepareTransaction(transactionReceipt);
+        contract.setNonBlockingAsync(true);
+
+        ExecutionException e =
+                assertThrows(
+                        ExecutionException.class,
+                        () ->
+                                contract.performTransaction(
+                                                new Address(BigInteger.TEN),
+                                                new Uint256(BigInteger.ONE))
+                                        .sendAsync()
+                                        .get());
+        assertTrue(e.getCause() instanceof TransactionException);
+    }
+
     @Test
     void testTransactionFailedWithRevertReason() throws Exception {
         TransactionReceipt transactionReceipt = createFailedTransactionReceipt();
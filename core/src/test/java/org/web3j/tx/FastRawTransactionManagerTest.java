@@ -12,16 +12,40 @@
  */
 package org.web3j.tx;
 
+import java.io.IOException;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.web3j.crypto.Hash;
+import org.web3j.crypto.RawTransaction;
 import org.web3j.crypto.SampleKeys;
 import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthGetTransactionCount;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+import org.web3j.tx.exceptions.BatchTransactionException;
+import org.web3j.tx.exceptions.TxHashMismatchException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class FastRawTransactionManagerTest {
     private Web3j web3j;
@@ -42,4 +66,94 @@ class FastRawTransactionManagerTest {
         BigInteger currentNonce = fastRawTransactionManager.getCurrentNonce();
         assertEquals(currentNonce, BigInteger.valueOf(-1));
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rejectedNonceIsReused() throws IOException {
+        EthGetTransactionCount ethGetTransactionCount = new EthGetTransactionCount();
+        ethGetTransactionCount.setResult("0x3");
+        Request<?, EthGetTransactionCount> transactionCountRequest = mock(Request.class);
+        when(transactionCountRequest.send()).thenReturn(ethGetTransactionCount);
+        when(web3j.ethGetTransactionCount(SampleKeys.ADDRESS, DefaultBlockParameterName.PENDING))
+                .thenReturn((Request) transactionCountRequest);
+
+        EthSendTransaction ethSendTransaction = new EthSendTransaction();
+        ethSendTransaction.setError(new Response.Error(-32000, "insufficient funds"));
+        Request<?, EthSendTransaction> rawTransactionRequest = mock(Request.class);
+        when(rawTransactionRequest.send()).thenReturn(ethSendTransaction);
+        when(web3j.ethSendRawTransaction(anyString())).thenReturn((Request) rawTransactionRequest);
+
+        fastRawTransactionManager.sendTransaction(
+                BigInteger.ONE, BigInteger.TEN, SampleKeys.ADDRESS, "", BigInteger.ONE);
+
+        assertEquals(BigInteger.valueOf(2), fastRawTransactionManager.getCurrentNonce());
+        assertEquals(0, fastRawTransactionManager.getNonceManager().getInFlightCount());
+    }
+
+    @Test
+    void batchFailureSettlesEachNonce() throws IOException {
+        Web3jService web3jService = mock(Web3jService.class);
+        EthGetTransactionCount beforeBatch = new EthGetTransactionCount();
+        beforeBatch.setResult("0x0");
+        // the first transaction is pending, the third one is not yet executable
+        EthGetTransactionCount afterBatch = new EthGetTransactionCount();
+        afterBatch.setResult("0x1");
+        when(web3jService.send(any(Request.class), eq(EthGetTransactionCount.class)))
+                .thenReturn(beforeBatch, afterBatch);
+        when(web3jService.sendBatch(any(BatchRequest.class)))
+                .thenAnswer(
+                        invocation -> {
+                            BatchRequest batchRequest = invocation.getArgument(0);
+                            List<Request<?, ? extends Response<?>>> requests =
+                                    batchRequest.getRequests();
+                            List<EthSendTransaction> responses = new ArrayList<>();
+                            // accepted, rejected, unexpected hash and no response
+                            for (int i = 0; i < 3; i++) {
+                                EthSendTransaction response = new EthSendTransaction();
+                                response.setId(requests.get(i).getId());
+                                if (i == 0) {
+                                    String hexValue = (String) requests.get(i).getParams().get(0);
+                                    response.setResult(Hash.sha3(hexValue));
+                                } else if (i == 1) {
+                                    response.setError(
+                                            new Response.Error(-32000, "insufficient funds"));
+                                } else {
+                                    response.setResult("0xbad");
+                                }
+                                responses.add(response);
+                            }
+                            return new BatchResponse(requests, responses);
+                        });
+
+        fastRawTransactionManager =
+                new FastRawTransactionManager(Web3j.build(web3jService), SampleKeys.CREDENTIALS);
+        NonceManager nonceManager = fastRawTransactionManager.getNonceManager();
+        List<RawTransaction> rawTransactions = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            rawTransactions.add(
+                    RawTransaction.createEtherTransaction(
+                            nonceManager.reserve(),
+                            BigInteger.ONE,
+                            BigInteger.TEN,
+                            SampleKeys.ADDRESS,
+                            BigInteger.ONE));
+        }
+
+        BatchTransactionException exception =
+                assertThrows(
+                        BatchTransactionException.class,
+                        () -> fastRawTransactionManager.signAndSendAll(rawTransactions));
+
+        assertEquals(4, exception.getResponses().size());
+        assertFalse(exception.getResponses().get(0).hasError());
+        assertTrue(exception.getResponses().get(1).hasError());
+        assertNull(exception.getResponses().get(3));
+        assertEquals(Arrays.asList(2, 3), new ArrayList<>(exception.getFailures().keySet()));
+        assertTrue(exception.getFailures().get(2) instanceof TxHashMismatchException);
+
+        // only the rejected nonce and the one without a response are reused
+        assertEquals(0, nonceManager.getInFlightCount());
+        assertEquals(BigInteger.ONE, nonceManager.reserve());
+        assertEquals(BigInteger.valueOf(3), nonceManager.reserve());
+    }
 }
@@ -14,6 +14,7 @@ package org.web3j.tx;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 
@@ -106,6 +107,8 @@ public abstract class ManagedTransactionTester {
 
         Request<?, EthGetTransactionReceipt> getTransactionReceiptRequest = mock(Request.class);
         when(getTransactionReceiptRequest.send()).thenReturn(ethGetTransactionReceipt);
+        when(getTransactionReceiptRequest.sendAsync())
+                .thenReturn(CompletableFuture.completedFuture(ethGetTransactionReceipt));
         when(web3j.ethGetTransactionReceipt(TRANSACTION_HASH))
                 .thenReturn((Request) getTransactionReceiptRequest);
     }
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.crypto.SampleKeys;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthGetTransactionCount;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NonceManagerTest {
+
+    private Web3j web3j;
+    private NonceManager nonceManager;
+
+    @BeforeEach
+    void setUp() {
+        web3j = mock(Web3j.class);
+        nonceManager = new NonceManager(web3j, SampleKeys.ADDRESS);
+    }
+
+    @Test
+    void testReserveRequestsPendingCountOnce() throws IOException {
+        preparePendingCount(5);
+
+        assertEquals(BigInteger.valueOf(5), nonceManager.reserve());
+        assertEquals(BigInteger.valueOf(6), nonceManager.reserve());
+        assertEquals(BigInteger.valueOf(6), nonceManager.getCurrentNonce());
+        assertEquals(2, nonceManager.getInFlightCount());
+
+        verify(web3j, times(1))
+                .ethGetTransactionCount(SampleKeys.ADDRESS, DefaultBlockParameterName.PENDING);
+    }
+
+    @Test
+    void testReleasedNonceIsReused() throws IOException {
+        preparePendingCount(0);
+        BigInteger first = nonceManager.reserve();
+        BigInteger second = nonceManager.reserve();
+        BigInteger third = nonceManager.reserve();
+
+        nonceManager.confirm(first);
+        nonceManager.release(second);
+        assertEquals(second, nonceManager.reserve());
+
+        // releasing the latest nonce rolls allocation back rather than leaving a gap
+        nonceManager.release(third);
+        assertEquals(BigInteger.ONE, nonceManager.getCurrentNonce());
+        assertEquals(third, nonceManager.reserve());
+    }
+
+    @Test
+    void testReleaseIgnoresNoncesNotReserved() throws IOException {
+        preparePendingCount(0);
+        nonceManager.reserve();
+        nonceManager.reserve();
+
+        nonceManager.release(BigInteger.ZERO);
+        nonceManager.release(BigInteger.ZERO);
+
+        assertEquals(BigInteger.ZERO, nonceManager.reserve());
+        assertEquals(BigInteger.valueOf(2), nonceManager.reserve());
+    }
+
+    @Test
+    void testReconcileFillsDroppedNonce() throws IOException {
+        preparePendingCount(0);
+        for (int i = 0; i < 4; i++) {
+            nonceManager.confirm(nonceManager.reserve());
+        }
+
+        // the node still reports nonce 2 as the next, so the transaction using it was dropped
+        preparePendingCount(2);
+        assertEquals(Optional.of(BigInteger.valueOf(2)), nonceManager.reconcile());
+        assertEquals(Optional.empty(), nonceManager.reconcile());
+
+        assertEquals(BigInteger.valueOf(2), nonceManager.reserve());
+        assertEquals(BigInteger.valueOf(4), nonceManager.reserve());
+    }
+
+    @Test
+    void testReconcileSkipsNoncesUsedElsewhere() throws IOException {
+        preparePendingCount(0);
+        nonceManager.confirm(nonceManager.reserve());
+
+        preparePendingCount(10);
+        assertEquals(Optional.empty(), nonceManager.reconcile());
+
+        assertEquals(BigInteger.TEN, nonceManager.reserve());
+    }
+
+    @Test
+    void testClearAndSetCurrentNonce() throws IOException {
+        nonceManager.setCurrentNonce(BigInteger.valueOf(41));
+        assertEquals(BigInteger.valueOf(42), nonceManager.reserve());
+
+        nonceManager.clear();
+        assertEquals(BigInteger.valueOf(-1), nonceManager.getCurrentNonce());
+
+        preparePendingCount(7);
+        nonceManager.reset();
+        assertEquals(BigInteger.valueOf(6), nonceManager.getCurrentNonce());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void preparePendingCount(long count) throws IOException {
+        EthGetTransactionCount ethGetTransactionCount = new EthGetTransactionCount();
+        ethGetTransactionCount.setResult("0x" + Long.toHexString(count));
+
+        Request<?, EthGetTransactionCount> request = mock(Request.class);
+        when(request.send()).thenReturn(ethGetTransactionCount);
+        when(web3j.ethGetTransactionCount(SampleKeys.ADDRESS, DefaultBlockParameterName.PENDING))
+                .thenReturn((Request) request);
+    }
+}
@@ -14,6 +14,9 @@ package org.web3j.tx;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
 
 import okhttp3.Call;
 import okhttp3.MediaType;
@@ -25,7 +28,14 @@ import okhttp3.ResponseBody;
 import org.junit.jupiter.api.Test;
 
 import org.web3j.crypto.HSMHTTPPass;
+import org.web3j.crypto.Hash;
+import org.web3j.crypto.RawTransaction;
 import org.web3j.crypto.SampleKeys;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
 import org.web3j.protocol.core.methods.response.TransactionReceipt;
 import org.web3j.service.HSMHTTPRequestProcessor;
 import org.web3j.service.TxHSMSignService;
@@ -35,6 +45,7 @@ import org.web3j.utils.Convert;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -97,4 +108,60 @@ class RawTransactionManagerTest extends ManagedTransactionTester {
 
         assertEquals(TX_SIGN_RESULT_HEX, sign);
     }
+
+    @Test
+    void testSignAndSendAll() throws IOException {
+        Web3jService web3jService = mock(Web3jService.class);
+        when(web3jService.sendBatch(any(BatchRequest.class)))
+                .thenAnswer(
+                        invocation -> {
+                            BatchRequest batchRequest = invocation.getArgument(0);
+                            List<EthSendTransaction> responses = new ArrayList<>();
+                            // answer in reverse order, rejecting the second transaction
+                            for (int i = batchRequest.getRequests().size() - 1; i >= 0; i--) {
+                                EthSendTransaction response = new EthSendTransaction();
+                                response.setId(batchRequest.getRequests().get(i).getId());
+                                if (i == 1) {
+                                    response.setError(
+                                            new org.web3j.protocol.core.Response.Error(
+                                                    -32000, "nonce too low"));
+                                } else {
+                                    String hexValue =
+                                            (String)
+                                                    batchRequest
+                                                            .getRequests()
+                                                            .get(i)
+                                                            .getParams()
+                                                            .get(0);
+                                    response.setResult(Hash.sha3(hexValue));
+                                }
+                                responses.add(response);
+                            }
+                            return new BatchResponse(batchRequest.getRequests(), responses);
+                        });
+
+        RawTransactionManager transactionManager =
+                new RawTransactionManager(Web3j.build(web3jService), SampleKeys.CREDENTIALS);
+        List<RawTransaction> rawTransactions = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            rawTransactions.add(
+                    RawTransaction.createEtherTransaction(
+                            BigInteger.valueOf(i),
+                            BigInteger.ONE,
+                            BigInteger.TEN,
+                            ADDRESS,
+                            BigInteger.ONE));
+        }
+
+        List<EthSendTransaction> responses = transactionManager.signAndSendAll(rawTransactions);
+
+        assertEquals(3, responses.size());
+        assertEquals(
+                Hash.sha3(transactionManager.sign(rawTransactions.get(0))),
+                responses.get(0).getTransactionHash());
+        assertTrue(responses.get(1).hasError());
+        assertEquals(
+                Hash.sha3(transactionManager.sign(rawTransactions.get(2))),
+                responses.get(2).getTransactionHash());
+    }
 }
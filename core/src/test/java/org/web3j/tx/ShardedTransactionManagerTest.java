@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.crypto.Credentials;
+import org.web3j.crypto.SampleKeys;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthGetTransactionCount;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShardedTransactionManagerTest {
+
+    private static final Credentials SECOND_ACCOUNT =
+            Credentials.create(
+                    "0x4646464646464646464646464646464646464646464646464646464646464646");
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testTransactionsAreSpreadAcrossAccounts() throws IOException {
+        Web3j web3j = mock(Web3j.class);
+        EthGetTransactionCount ethGetTransactionCount = new EthGetTransactionCount();
+        ethGetTransactionCount.setResult("0x0");
+        Request<?, EthGetTransactionCount> request = mock(Request.class);
+        when(request.send()).thenReturn(ethGetTransactionCount);
+        when(web3j.ethGetTransactionCount(anyString(), eq(DefaultBlockParameterName.PENDING)))
+                .thenReturn((Request) request);
+
+        ShardedTransactionManager transactionManager =
+                new ShardedTransactionManager(
+                        web3j, Arrays.asList(SampleKeys.CREDENTIALS, SECOND_ACCOUNT), 1);
+        FastRawTransactionManager first = transactionManager.getTransactionManagers().get(0);
+        FastRawTransactionManager second = transactionManager.getTransactionManagers().get(1);
+
+        assertEquals(SampleKeys.ADDRESS, transactionManager.getFromAddress());
+        assertSame(first, transactionManager.nextTransactionManager());
+        assertSame(second, transactionManager.nextTransactionManager());
+
+        // the account with transactions in flight is passed over
+        first.getNonceManager().reserve();
+        assertSame(second, transactionManager.nextTransactionManager());
+        assertSame(second, transactionManager.nextTransactionManager());
+    }
+
+    @Test
+    void testAccountsAreRequired() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        new ShardedTransactionManager(
+                                mock(Web3j.class), Arrays.<Credentials>asList(), 1));
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx.response;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.reactivex.processors.PublishProcessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthGetBlockReceipts;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.protocol.exceptions.TransactionException;
+import org.web3j.protocol.websocket.WebSocketClient;
+import org.web3j.protocol.websocket.WebSocketListener;
+import org.web3j.protocol.websocket.WebSocketService;
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BlockTransactionReceiptProcessorTest {
+
+    private Web3j web3j;
+    private PublishProcessor<BigInteger> blockNumbers;
+    private BlockTransactionReceiptProcessor processor;
+
+    @BeforeEach
+    public void setUp() {
+        web3j = mock(Web3j.class);
+        blockNumbers = PublishProcessor.create();
+        processor = new BlockTransactionReceiptProcessor(web3j, blockNumbers, 2);
+    }
+
+    @Test
+    void resolvesReceiptsFromBlockReceipts() throws Exception {
+        List<CompletableFuture<TransactionReceipt>> futures = new ArrayList<>();
+        List<TransactionReceipt> receipts = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            futures.add(processor.waitForTransactionReceiptAsync("0x" + i));
+            receipts.add(receipt("0x" + i));
+        }
+        blockReturning(10, receipts.subList(0, 50));
+        blockReturning(11, receipts.subList(50, 100));
+
+        blockNumbers.onNext(BigInteger.valueOf(10));
+        assertTrue(futures.get(49).isDone());
+        assertFalse(futures.get(50).isDone());
+
+        blockNumbers.onNext(BigInteger.valueOf(11));
+        for (int i = 0; i < 100; i++) {
+            assertSame(receipts.get(i), futures.get(i).get());
+        }
+        assertEquals(0, processor.getPendingCount());
+        verify(web3j, times(2)).ethGetBlockReceipts(any());
+        verify(web3j, never()).ethGetTransactionReceipt(any());
+    }
+
+    @Test
+    void fetchesSkippedBlocks() throws Exception {
+        CompletableFuture<TransactionReceipt> future =
+                processor.waitForTransactionReceiptAsync("0xAB");
+        blockReturning(5, Arrays.asList());
+        blockReturning(6, Arrays.asList());
+        blockReturning(7, Arrays.asList(receipt("0xab")));
+
+        blockNumbers.onNext(BigInteger.valueOf(5));
+        blockNumbers.onNext(BigInteger.valueOf(7));
+
+        assertEquals("0xab", future.get().getTransactionHash());
+    }
+
+    @Test
+    void failsWhenReceiptIsNotAvailableInTime() throws Exception {
+        blockReturning(1, Arrays.asList());
+        blockReturning(2, Arrays.asList());
+        blockReturning(3, Arrays.asList());
+
+        CompletableFuture<TransactionReceipt> future =
+                processor.waitForTransactionReceiptAsync("0x01");
+        blockNumbers.onNext(BigInteger.ONE);
+        blockNumbers.onNext(BigInteger.valueOf(2));
+        assertFalse(future.isDone());
+        blockNumbers.onNext(BigInteger.valueOf(3));
+
+        ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        TransactionException cause = (TransactionException) e.getCause();
+        assertEquals("0x01", cause.getTransactionHash().get());
+    }
+
+    @Test
+    void resolvesTransactionsMinedBeforeTheyAreTracked() throws Exception {
+        List<TransactionReceipt> receipts = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            receipts.add(receipt("0x" + i));
+        }
+        blockReturning(5, receipts);
+        CompletableFuture<TransactionReceipt> waiting =
+                processor.waitForTransactionReceiptAsync("0xab");
+        blockNumbers.onNext(BigInteger.valueOf(5));
+
+        List<CompletableFuture<TransactionReceipt>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            futures.add(processor.waitForTransactionReceiptAsync("0x" + i));
+        }
+        // the head does not move on chains mining a block per transaction
+        blockNumbers.onNext(BigInteger.valueOf(5));
+
+        for (int i = 0; i < 100; i++) {
+            assertSame(receipts.get(i), futures.get(i).get());
+        }
+        assertFalse(waiting.isDone());
+        // the block is scanned again once for all of them
+        verify(web3j, times(2)).ethGetBlockReceipts(any());
+        verify(web3j, never()).ethGetTransactionReceipt(any());
+    }
+
+    @Test
+    void followsNewHeadsOfWebSocketService() throws Exception {
+        WebSocketClient webSocketClient = mock(WebSocketClient.class);
+        when(webSocketClient.connectBlocking()).thenReturn(true);
+        AtomicReference<WebSocketListener> listener = new AtomicReference<>();
+        doAnswer(
+                        invocation -> {
+                            listener.set(invocation.getArgument(0));
+                            return null;
+                        })
+                .when(webSocketClient)
+                .setListener(any());
+        WebSocketService service = new WebSocketService(webSocketClient, false);
+        service.setRequestTimeout(2, TimeUnit.SECONDS);
+        service.connect();
+
+        // all messages are received on a single thread, as by the WebSocket client
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        ObjectMapper objectMapper = new ObjectMapper();
+        doAnswer(
+                        invocation -> {
+                            String payload = invocation.getArgument(0);
+                            JsonNode request = objectMapper.readTree(payload);
+                            String result =
+                                    "eth_subscribe".equals(request.get("method").asText())
+                                            ? "\"0x1\""
+                                            : "[{\"transactionHash\":\"0xab\"}]";
+                            reader.execute(
+                                    () ->
+                                            receive(
+                                                    listener.get(),
+                                                    "{\"jsonrpc\":\"2.0\",\"id\":"
+                                                            + request.get("id")
+                                                            + ",\"result\":"
+                                                            + result
+                                                            + "}"));
+                            return null;
+                        })
+                .when(webSocketClient)
+                .send(anyString());
+
+        BlockTransactionReceiptProcessor processor =
+                BlockTransactionReceiptProcessor.newHeads(Web3j.build(service), 2);
+        CompletableFuture<TransactionReceipt> future =
+                processor.waitForTransactionReceiptAsync("0xab");
+        reader.execute(
+                () ->
+                        receive(
+                                listener.get(),
+                                "{\"jsonrpc\":\"2.0\",\"method\":\"eth_subscription\","
+                                        + "\"params\":{\"subscription\":\"0x1\","
+                                        + "\"result\":{\"number\":\"0xa\"}}}"));
+
+        assertEquals("0xab", future.get(1, TimeUnit.SECONDS).getTransactionHash());
+        processor.close();
+        reader.shutdown();
+    }
+
+    @Test
+    void closeFailsPendingReceipts() {
+        CompletableFuture<TransactionReceipt> future =
+                processor.waitForTransactionReceiptAsync("0x01");
+
+        processor.close();
+
+        assertTrue(future.isCompletedExceptionally());
+        assertFalse(blockNumbers.hasSubscribers());
+        assertTrue(
+                processor.waitForTransactionReceiptAsync("0x02").isCompletedExceptionally());
+    }
+
+    private static void receive(WebSocketListener listener, String message) {
+        try {
+            listener.onMessage(message);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void blockReturning(long blockNumber, List<TransactionReceipt> receipts) {
+        EthGetBlockReceipts response = new EthGetBlockReceipts();
+        response.setResult(receipts);
+        doReturn(requestReturning(response))
+                .when(web3j)
+                .ethGetBlockReceipts(block(blockNumber));
+    }
+
+    private static DefaultBlockParameter block(long blockNumber) {
+        String value = Numeric.encodeQuantity(BigInteger.valueOf(blockNumber));
+        return argThat(p -> p != null && value.equals(p.getValue()));
+    }
+
+    private static TransactionReceipt receipt(String transactionHash) {
+        TransactionReceipt receipt = new TransactionReceipt();
+        receipt.setTransactionHash(transactionHash);
+        return receipt;
+    }
+
+    private static <T extends Response<?>> Request requestReturning(T response) {
+        Request request = mock(Request.class);
+        try {
+            when(request.send()).thenReturn(response);
+        } catch (IOException e) {
+            // this will never happen
+        }
+        return request;
+    }
+}
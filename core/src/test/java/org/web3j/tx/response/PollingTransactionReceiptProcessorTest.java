@@ -13,6 +13,9 @@
 package org.web3j.tx.response;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,6 +28,7 @@ import org.web3j.protocol.core.methods.response.TransactionReceipt;
 import org.web3j.protocol.exceptions.TransactionException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.doReturn;
@@ -73,8 +77,45 @@ class PollingTransactionReceiptProcessorTest {
         }
     }
 
+    @Test
+    void completesAsyncWhenReceiptBecomesAvailable() throws Exception {
+        TransactionReceipt transactionReceipt = new TransactionReceipt();
+        Request pending = requestReturning(response(null));
+        Request available = requestReturning(response(transactionReceipt));
+        doReturn(pending, pending, available)
+                .when(web3j)
+                .ethGetTransactionReceipt(TRANSACTION_HASH);
+
+        TransactionReceipt receipt =
+                processor
+                        .waitForTransactionReceiptAsync(TRANSACTION_HASH)
+                        .get(sleepDuration * attempts * 2, TimeUnit.MILLISECONDS);
+
+        assertEquals(transactionReceipt, receipt);
+    }
+
+    @Test
+    void failsAsyncWhenReceiptIsNotAvailableInTime() {
+        doReturn(requestReturning(response(null)))
+                .when(web3j)
+                .ethGetTransactionReceipt(TRANSACTION_HASH);
+
+        CompletableFuture<TransactionReceipt> future =
+                processor.waitForTransactionReceiptAsync(TRANSACTION_HASH);
+
+        ExecutionException e =
+                assertThrows(
+                        ExecutionException.class,
+                        () -> future.get(sleepDuration * attempts * 2, TimeUnit.MILLISECONDS));
+        assertTrue(e.getCause() instanceof TransactionException);
+        assertEquals(
+                TRANSACTION_HASH,
+                ((TransactionException) e.getCause()).getTransactionHash().get());
+    }
+
     private static <T extends Response<?>> Request requestReturning(T response) {
         Request request = mock(Request.class);
+        when(request.sendAsync()).thenReturn(CompletableFuture.completedFuture(response));
         try {
             when(request.send()).thenReturn(response);
         } catch (IOException e) {
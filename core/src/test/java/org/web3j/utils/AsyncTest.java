@@ -12,12 +12,18 @@
  */
 package org.web3j.utils;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AsyncTest {
 
@@ -39,4 +45,72 @@ class AsyncTest {
                             .get();
                 });
     }
+
+    @Test
+    void testRunOnVirtualThread() throws Exception {
+        ExecutorService executor = Async.virtualThreadExecutorService();
+        try {
+            assertTrue(Async.run(() -> Thread.currentThread().isVirtual(), executor).get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testBoundedExecutorRejectsWhenFull() throws Exception {
+        BoundedExecutor executor =
+                Async.boundedExecutorService(1, 1, BoundedExecutor.RejectionPolicy.ABORT);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            CompletableFuture<String> first =
+                    Async.run(
+                            () -> {
+                                running.countDown();
+                                release.await();
+                                return "first";
+                            },
+                            executor);
+            running.await(5, TimeUnit.SECONDS);
+            CompletableFuture<String> second = Async.run(() -> "second", executor);
+            CompletableFuture<String> third = Async.run(() -> "third", executor);
+
+            assertEquals(1, executor.getActiveCount());
+            assertEquals(1, executor.getQueueDepth());
+            assertEquals(1, executor.getRejectedCount());
+            ExecutionException exception = assertThrows(ExecutionException.class, third::get);
+            assertTrue(exception.getCause() instanceof RejectedExecutionException);
+
+            release.countDown();
+            assertEquals("first", first.get());
+            assertEquals("second", second.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testBoundedExecutorRunsOnCallerWhenFull() throws Exception {
+        BoundedExecutor executor =
+                Async.boundedExecutorService(1, 1, BoundedExecutor.RejectionPolicy.CALLER_RUNS);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            Async.run(
+                    () -> {
+                        running.countDown();
+                        return release.await(5, TimeUnit.SECONDS);
+                    },
+                    executor);
+            running.await(5, TimeUnit.SECONDS);
+            Async.run(() -> "queued", executor);
+
+            Thread caller = Thread.currentThread();
+            assertTrue(Async.run(() -> Thread.currentThread() == caller, executor).get());
+            assertEquals(1, executor.getRejectedCount());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
 }
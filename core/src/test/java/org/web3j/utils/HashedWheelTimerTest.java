@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.utils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashedWheelTimerTest {
+
+    @Test
+    void testTimeoutRunsAfterDelay() throws Exception {
+        try (HashedWheelTimer timer = new HashedWheelTimer(10, TimeUnit.MILLISECONDS, 4)) {
+            CountDownLatch latch = new CountDownLatch(1);
+            long start = System.nanoTime();
+
+            // spans more than one rotation of the four bucket wheel
+            HashedWheelTimer.Timeout timeout =
+                    timer.newTimeout(latch::countDown, 100, TimeUnit.MILLISECONDS);
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+            assertTrue(timeout.isExpired());
+        }
+    }
+
+    @Test
+    void testCancelledTimeoutDoesNotRun() throws Exception {
+        try (HashedWheelTimer timer = new HashedWheelTimer(10, TimeUnit.MILLISECONDS, 4)) {
+            AtomicBoolean ran = new AtomicBoolean();
+            HashedWheelTimer.Timeout timeout =
+                    timer.newTimeout(() -> ran.set(true), 50, TimeUnit.MILLISECONDS);
+
+            assertTrue(timeout.cancel());
+            assertFalse(timeout.cancel());
+
+            CountDownLatch later = new CountDownLatch(1);
+            timer.newTimeout(later::countDown, 100, TimeUnit.MILLISECONDS);
+            assertTrue(later.await(5, TimeUnit.SECONDS));
+            assertFalse(ran.get());
+            assertTrue(timeout.isCancelled());
+        }
+    }
+
+    @Test
+    void testCancelledTimeoutsAreRemoved() throws Exception {
+        try (HashedWheelTimer timer = new HashedWheelTimer(10, TimeUnit.MILLISECONDS, 4)) {
+            for (int i = 0; i < 1000; i++) {
+                timer.newTimeout(() -> {}, 1, TimeUnit.HOURS).cancel();
+            }
+            HashedWheelTimer.Timeout pending = timer.newTimeout(() -> {}, 1, TimeUnit.HOURS);
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (timer.getPendingTimeouts() > 1 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, timer.getPendingTimeouts());
+
+            pending.cancel();
+            while (timer.getPendingTimeouts() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, timer.getPendingTimeouts());
+        }
+    }
+
+    @Test
+    void testClosedTimerRejectsTimeouts() {
+        HashedWheelTimer timer = new HashedWheelTimer();
+        timer.close();
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> timer.newTimeout(() -> {}, 1, TimeUnit.SECONDS));
+    }
+}
@@ -13,6 +13,7 @@
 package org.web3j.crypto;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -22,6 +23,7 @@ import org.apache.tuweni.bytes.Bytes;
 import org.web3j.crypto.transaction.type.TransactionType;
 import org.web3j.rlp.RlpDecoder;
 import org.web3j.rlp.RlpList;
+import org.web3j.rlp.RlpReader;
 import org.web3j.rlp.RlpString;
 import org.web3j.rlp.RlpType;
 import org.web3j.utils.Numeric;
@@ -29,8 +31,6 @@ import org.web3j.utils.Numeric;
 import static java.util.stream.Collectors.toList;
 
 public class TransactionDecoder {
-    private static final int UNSIGNED_EIP1559TX_RLP_LIST_SIZE = 9;
-    private static final int UNSIGNED_EIP2930TX_RLP_LIST_SIZE = 8;
     private static final int UNSIGNED_EIP4844TX_RLP_LIST_SIZE = 11;
     private static final int UNSIGNED_EIP7702TX_RLP_LIST_SIZE = 10;
 
@@ -195,24 +195,18 @@ public class TransactionDecoder {
     }
 
     private static RawTransaction decodeEIP1559Transaction(final byte[] transaction) {
-        final byte[] encodedTx = Arrays.copyOfRange(transaction, 1, transaction.length);
-        final RlpList rlpList = RlpDecoder.decode(encodedTx);
-        final RlpList values = (RlpList) rlpList.getValues().get(0);
-
-        final long chainId =
-                ((RlpString) values.getValues().get(0)).asPositiveBigInteger().longValue();
-        final BigInteger nonce = ((RlpString) values.getValues().get(1)).asPositiveBigInteger();
-        final BigInteger maxPriorityFeePerGas =
-                ((RlpString) values.getValues().get(2)).asPositiveBigInteger();
-        final BigInteger maxFeePerGas =
-                ((RlpString) values.getValues().get(3)).asPositiveBigInteger();
-        final BigInteger gasLimit = ((RlpString) values.getValues().get(4)).asPositiveBigInteger();
-        final String to = ((RlpString) values.getValues().get(5)).asString();
-
-        final BigInteger value = ((RlpString) values.getValues().get(6)).asPositiveBigInteger();
-        final String data = ((RlpString) values.getValues().get(7)).asString();
-        List<AccessListObject> accessList =
-                decodeAccessList(((RlpList) values.getValues().get(8)).getValues());
+        // Skip the type byte and read the fields in place
+        final RlpReader fields = RlpReader.of(transaction, 1, transaction.length - 1).readList();
+
+        final long chainId = fields.readLong();
+        final BigInteger nonce = fields.readBigInteger();
+        final BigInteger maxPriorityFeePerGas = fields.readBigInteger();
+        final BigInteger maxFeePerGas = fields.readBigInteger();
+        final BigInteger gasLimit = fields.readBigInteger();
+        final String to = fields.readHex();
+        final BigInteger value = fields.readBigInteger();
+        final String data = fields.readHex();
+        final List<AccessListObject> accessList = decodeAccessList(fields.readList());
 
         final RawTransaction rawTransaction =
                 RawTransaction.createTransaction(
@@ -226,99 +220,77 @@ public class TransactionDecoder {
                         maxFeePerGas,
                         accessList);
 
-        if (values.getValues().size() == UNSIGNED_EIP1559TX_RLP_LIST_SIZE) {
+        if (!fields.hasNext()) {
             return rawTransaction;
         } else {
-            final byte[] v =
-                    Sign.getVFromRecId(
-                            Numeric.toBigInt(((RlpString) values.getValues().get(9)).getBytes())
-                                    .intValue());
-            final byte[] r =
-                    Numeric.toBytesPadded(
-                            Numeric.toBigInt(((RlpString) values.getValues().get(10)).getBytes()),
-                            32);
-            final byte[] s =
-                    Numeric.toBytesPadded(
-                            Numeric.toBigInt(((RlpString) values.getValues().get(11)).getBytes()),
-                            32);
-            final Sign.SignatureData signatureData = new Sign.SignatureData(v, r, s);
-            return new SignedRawTransaction(rawTransaction.getTransaction(), signatureData);
+            return new SignedRawTransaction(
+                    rawTransaction.getTransaction(), decodeTypedSignature(fields));
         }
     }
 
     private static RawTransaction decodeLegacyTransaction(final byte[] transaction) {
-        final RlpList rlpList = RlpDecoder.decode(transaction);
-        final RlpList values = (RlpList) rlpList.getValues().get(0);
-        final BigInteger nonce = ((RlpString) values.getValues().get(0)).asPositiveBigInteger();
-        final BigInteger gasPrice = ((RlpString) values.getValues().get(1)).asPositiveBigInteger();
-        final BigInteger gasLimit = ((RlpString) values.getValues().get(2)).asPositiveBigInteger();
-        final String to = ((RlpString) values.getValues().get(3)).asString();
-        final BigInteger value = ((RlpString) values.getValues().get(4)).asPositiveBigInteger();
-        final String data = ((RlpString) values.getValues().get(5)).asString();
-        if (values.getValues().size() == 6
-                || (values.getValues().size() == 8
-                        && ((RlpString) values.getValues().get(7)).getBytes().length == 10)
-                || (values.getValues().size() == 9
-                        && ((RlpString) values.getValues().get(8)).getBytes().length == 10)) {
+        final RlpReader fields = RlpReader.of(transaction).readList();
+        final BigInteger nonce = fields.readBigInteger();
+        final BigInteger gasPrice = fields.readBigInteger();
+        final BigInteger gasLimit = fields.readBigInteger();
+        final String to = fields.readHex();
+        final BigInteger value = fields.readBigInteger();
+        final String data = fields.readHex();
+        final int size = 6 + fields.remaining();
+        if (size == 6 || ((size == 8 || size == 9) && isRestricted(fields, size - 7))) {
             // the 8th or 9nth element is the hex
             // representation of "restricted" for private transactions
             return RawTransaction.createTransaction(nonce, gasPrice, gasLimit, to, value, data);
         } else {
-            final byte[] v = ((RlpString) values.getValues().get(6)).getBytes();
-            final byte[] r =
-                    Numeric.toBytesPadded(
-                            Numeric.toBigInt(((RlpString) values.getValues().get(7)).getBytes()),
-                            32);
-            final byte[] s =
-                    Numeric.toBytesPadded(
-                            Numeric.toBigInt(((RlpString) values.getValues().get(8)).getBytes()),
-                            32);
+            final byte[] v = fields.readBytes();
+            final byte[] r = Numeric.toBytesPadded(fields.readBigInteger(), 32);
+            final byte[] s = Numeric.toBytesPadded(fields.readBigInteger(), 32);
             final Sign.SignatureData signatureData = new Sign.SignatureData(v, r, s);
             return new SignedRawTransaction(
                     nonce, gasPrice, gasLimit, to, value, data, signatureData);
         }
     }
 
-    private static RawTransaction decodeEIP2930Transaction(final byte[] transaction) {
-        final byte[] encodedTx = Arrays.copyOfRange(transaction, 1, transaction.length);
-        final RlpList rlpList = RlpDecoder.decode(encodedTx);
-        final RlpList values = (RlpList) rlpList.getValues().get(0);
+    private static boolean isRestricted(final RlpReader fields, final int index) {
+        final RlpReader trailing = fields.duplicate();
+        for (int i = 0; i < index; i++) {
+            trailing.skip();
+        }
+        return trailing.readSlice().remaining() == 10;
+    }
 
-        final long chainId =
-                ((RlpString) values.getValues().get(0)).asPositiveBigInteger().longValue();
-        final BigInteger nonce = ((RlpString) values.getValues().get(1)).asPositiveBigInteger();
-        final BigInteger gasPrice = ((RlpString) values.getValues().get(2)).asPositiveBigInteger();
-        final BigInteger gasLimit = ((RlpString) values.getValues().get(3)).asPositiveBigInteger();
-        final String to = ((RlpString) values.getValues().get(4)).asString();
-        final BigInteger value = ((RlpString) values.getValues().get(5)).asPositiveBigInteger();
-        final String data = ((RlpString) values.getValues().get(6)).asString();
-        List<AccessListObject> accessList =
-                decodeAccessList(((RlpList) values.getValues().get(7)).getValues());
+    private static RawTransaction decodeEIP2930Transaction(final byte[] transaction) {
+        // Skip the type byte and read the fields in place
+        final RlpReader fields = RlpReader.of(transaction, 1, transaction.length - 1).readList();
+
+        final long chainId = fields.readLong();
+        final BigInteger nonce = fields.readBigInteger();
+        final BigInteger gasPrice = fields.readBigInteger();
+        final BigInteger gasLimit = fields.readBigInteger();
+        final String to = fields.readHex();
+        final BigInteger value = fields.readBigInteger();
+        final String data = fields.readHex();
+        final List<AccessListObject> accessList = decodeAccessList(fields.readList());
 
         final RawTransaction rawTransaction =
                 RawTransaction.createTransaction(
                         chainId, nonce, gasPrice, gasLimit, to, value, data, accessList);
 
-        if (values.getValues().size() == UNSIGNED_EIP2930TX_RLP_LIST_SIZE) {
+        if (!fields.hasNext()) {
             return rawTransaction;
         } else {
-            final byte[] v =
-                    Sign.getVFromRecId(
-                            Numeric.toBigInt(((RlpString) values.getValues().get(8)).getBytes())
-                                    .intValue());
-            final byte[] r =
-                    Numeric.toBytesPadded(
-                            Numeric.toBigInt(((RlpString) values.getValues().get(9)).getBytes()),
-                            32);
-            final byte[] s =
-                    Numeric.toBytesPadded(
-                            Numeric.toBigInt(((RlpString) values.getValues().get(10)).getBytes()),
-                            32);
-            final Sign.SignatureData signatureData = new Sign.SignatureData(v, r, s);
-            return new SignedRawTransaction(rawTransaction.getTransaction(), signatureData);
+            return new SignedRawTransaction(
+                    rawTransaction.getTransaction(), decodeTypedSignature(fields));
         }
     }
 
+    private static Sign.SignatureData decodeTypedSignature(final RlpReader fields) {
+        final byte[] v = Sign.getVFromRecId(fields.readInt());
+        final byte[] r = Numeric.toBytesPadded(fields.readBigInteger(), 32);
+        final byte[] s = Numeric.toBytesPadded(fields.readBigInteger(), 32);
+        return new Sign.SignatureData(v, r, s);
+    }
+
     private static List<AccessListObject> decodeAccessList(List<RlpType> rlp) {
         return rlp.stream()
                 .map(rawEntry -> ((RlpList) rawEntry).getValues())
@@ -334,6 +306,21 @@ public class TransactionDecoder {
                 .collect(toList());
     }
 
+    private static List<AccessListObject> decodeAccessList(final RlpReader rlp) {
+        final List<AccessListObject> accessList = new ArrayList<>();
+        while (rlp.hasNext()) {
+            final RlpReader entry = rlp.readList();
+            final String address = entry.readHex();
+            final RlpReader rawKeys = entry.readList();
+            final List<String> storageKeys = new ArrayList<>();
+            while (rawKeys.hasNext()) {
+                storageKeys.add(rawKeys.readHex());
+            }
+            accessList.add(new AccessListObject(address, storageKeys));
+        }
+        return accessList;
+    }
+
     public static List<Bytes> decodeVersionedHashes(List<RlpType> rlp) {
         return rlp.stream()
                 .map(
@@ -12,9 +12,13 @@
  */
 package org.web3j.rlp;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.web3j.rlp.RlpDecoder.OFFSET_LONG_LIST;
+import static org.web3j.rlp.RlpDecoder.OFFSET_LONG_STRING;
 import static org.web3j.rlp.RlpDecoder.OFFSET_SHORT_LIST;
 import static org.web3j.rlp.RlpDecoder.OFFSET_SHORT_STRING;
 
@@ -23,81 +27,171 @@ import static org.web3j.rlp.RlpDecoder.OFFSET_SHORT_STRING;
  *
  * <p>For the specification, refer to p16 of the <a href="http://gavwood.com/paper.pdf">yellow
  * paper</a> and <a href="https://github.com/ethereum/wiki/wiki/RLP">here</a>.
+ *
+ * <p>The encoded length is computed in a first pass over the value, after which the encoding is
+ * written into a single array of exactly that size. To encode without building an {@link RlpList}
+ * tree, use {@link RlpWriter}.
  */
 public class RlpEncoder {
 
     public static byte[] encode(RlpType value) {
-        if (value instanceof RlpString) {
-            return encodeString((RlpString) value);
-        } else {
-            return encodeList((RlpList) value);
-        }
+        ListLengths lengths = new ListLengths();
+        byte[] result = new byte[checkedLength(encodedLength(value, lengths))];
+        lengths.reset();
+        write(value, result, 0, lengths);
+        return result;
     }
 
-    private static byte[] encode(byte[] bytesValue, int offset) {
-        if (bytesValue.length == 1
-                && offset == OFFSET_SHORT_STRING
-                && bytesValue[0] >= (byte) 0x00
-                && bytesValue[0] <= (byte) 0x7f) {
-            return bytesValue;
-        } else if (bytesValue.length <= 55) {
-            byte[] result = new byte[bytesValue.length + 1];
-            result[0] = (byte) (offset + bytesValue.length);
-            System.arraycopy(bytesValue, 0, result, 1, bytesValue.length);
-            return result;
-        } else {
-            byte[] encodedStringLength = toMinimalByteArray(bytesValue.length);
-            byte[] result = new byte[bytesValue.length + encodedStringLength.length + 1];
-
-            result[0] = (byte) ((offset + 0x37) + encodedStringLength.length);
-            System.arraycopy(encodedStringLength, 0, result, 1, encodedStringLength.length);
-            System.arraycopy(
-                    bytesValue, 0, result, encodedStringLength.length + 1, bytesValue.length);
-            return result;
+    /**
+     * Encodes the value into the buffer, starting at its position. The position is advanced past
+     * the encoding.
+     *
+     * @param value value to encode
+     * @param destination buffer to write the encoding to
+     * @throws BufferOverflowException if the buffer's remaining space is insufficient
+     */
+    public static void encode(RlpType value, ByteBuffer destination) {
+        if (!destination.hasArray()) {
+            destination.put(encode(value));
+            return;
+        }
+
+        ListLengths lengths = new ListLengths();
+        int length = checkedLength(encodedLength(value, lengths));
+        if (destination.remaining() < length) {
+            throw new BufferOverflowException();
         }
+        lengths.reset();
+        int offset = destination.arrayOffset() + destination.position();
+        write(value, destination.array(), offset, lengths);
+        destination.position(destination.position() + length);
+    }
+
+    /**
+     * Returns the length of the encoding of the value.
+     *
+     * @param value value to encode
+     * @return encoded length in bytes
+     */
+    public static int encodedLength(RlpType value) {
+        return checkedLength(encodedLength(value, new ListLengths()));
     }
 
     static byte[] encodeString(RlpString value) {
-        return encode(value.getBytes(), OFFSET_SHORT_STRING);
+        return encode(value);
     }
 
-    private static byte[] toMinimalByteArray(int value) {
-        byte[] encoded = toByteArray(value);
+    static byte[] encodeList(RlpList value) {
+        return encode(value);
+    }
 
-        for (int i = 0; i < encoded.length; i++) {
-            if (encoded[i] != 0) {
-                return Arrays.copyOfRange(encoded, i, encoded.length);
-            }
+    /** Length of the string encoding of the given bytes. */
+    static int stringLength(byte[] bytes, int offset, int length) {
+        if (length == 1 && (bytes[offset] & 0xff) < OFFSET_SHORT_STRING) {
+            return 1;
         }
+        return headerLength(length) + length;
+    }
 
-        return new byte[] {};
+    static int headerLength(long payloadLength) {
+        if (payloadLength <= 55) {
+            return 1;
+        }
+        return 1 + lengthOfLength(payloadLength);
     }
 
-    private static byte[] toByteArray(int value) {
-        return new byte[] {
-            (byte) ((value >> 24) & 0xff),
-            (byte) ((value >> 16) & 0xff),
-            (byte) ((value >> 8) & 0xff),
-            (byte) (value & 0xff)
-        };
+    static int writeString(byte[] bytes, int offset, int length, byte[] data, int position) {
+        if (length == 1 && (bytes[offset] & 0xff) < OFFSET_SHORT_STRING) {
+            data[position] = bytes[offset];
+            return position + 1;
+        }
+        position = writeHeader(OFFSET_SHORT_STRING, OFFSET_LONG_STRING, length, data, position);
+        System.arraycopy(bytes, offset, data, position, length);
+        return position + length;
     }
 
-    static byte[] encodeList(RlpList value) {
-        List<RlpType> values = value.getValues();
-        if (values.isEmpty()) {
-            return encode(new byte[] {}, OFFSET_SHORT_LIST);
-        } else {
-            byte[] result = new byte[0];
-            for (RlpType entry : values) {
-                result = concat(result, encode(entry));
-            }
-            return encode(result, OFFSET_SHORT_LIST);
+    static int writeListHeader(int payloadLength, byte[] data, int position) {
+        return writeHeader(OFFSET_SHORT_LIST, OFFSET_LONG_LIST, payloadLength, data, position);
+    }
+
+    static int checkedLength(long length) {
+        if (length > Integer.MAX_VALUE) {
+            throw new RuntimeException("RLP too many bytes to encode");
         }
+        return (int) length;
     }
 
-    private static byte[] concat(byte[] b1, byte[] b2) {
-        byte[] result = Arrays.copyOf(b1, b1.length + b2.length);
-        System.arraycopy(b2, 0, result, b1.length, b2.length);
-        return result;
+    private static long encodedLength(RlpType value, ListLengths lengths) {
+        if (value instanceof RlpString) {
+            byte[] bytes = ((RlpString) value).getBytes();
+            return stringLength(bytes, 0, bytes.length);
+        }
+
+        int index = lengths.reserve();
+        long payloadLength = 0;
+        for (RlpType entry : ((RlpList) value).getValues()) {
+            payloadLength += encodedLength(entry, lengths);
+        }
+        lengths.set(index, checkedLength(payloadLength));
+        return headerLength(payloadLength) + payloadLength;
+    }
+
+    private static int write(RlpType value, byte[] data, int position, ListLengths lengths) {
+        if (value instanceof RlpString) {
+            byte[] bytes = ((RlpString) value).getBytes();
+            return writeString(bytes, 0, bytes.length, data, position);
+        }
+
+        position = writeListHeader(lengths.next(), data, position);
+        List<RlpType> values = ((RlpList) value).getValues();
+        for (RlpType entry : values) {
+            position = write(entry, data, position, lengths);
+        }
+        return position;
+    }
+
+    private static int writeHeader(
+            int shortOffset, int longOffset, int payloadLength, byte[] data, int position) {
+        if (payloadLength <= 55) {
+            data[position] = (byte) (shortOffset + payloadLength);
+            return position + 1;
+        }
+        int lengthOfLength = lengthOfLength(payloadLength);
+        data[position] = (byte) (longOffset + lengthOfLength);
+        for (int i = lengthOfLength; i > 0; i--) {
+            data[position + i] = (byte) payloadLength;
+            payloadLength >>>= 8;
+        }
+        return position + 1 + lengthOfLength;
+    }
+
+    private static int lengthOfLength(long payloadLength) {
+        return (Long.SIZE - Long.numberOfLeadingZeros(payloadLength) + 7) / 8;
+    }
+
+    /** Payload lengths of the lists in a value, in the order they are encoded. */
+    private static class ListLengths {
+        private int[] lengths = new int[8];
+        private int size;
+        private int cursor;
+
+        int reserve() {
+            if (size == lengths.length) {
+                lengths = Arrays.copyOf(lengths, size * 2);
+            }
+            return size++;
+        }
+
+        void set(int index, int length) {
+            lengths[index] = length;
+        }
+
+        void reset() {
+            cursor = 0;
+        }
+
+        int next() {
+            return lengths[cursor++];
+        }
     }
 }
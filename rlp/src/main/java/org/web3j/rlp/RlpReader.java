@@ -0,0 +1,311 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.rlp;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.web3j.utils.Numeric;
+
+import static org.web3j.rlp.RlpDecoder.OFFSET_LONG_LIST;
+import static org.web3j.rlp.RlpDecoder.OFFSET_LONG_STRING;
+import static org.web3j.rlp.RlpDecoder.OFFSET_SHORT_LIST;
+import static org.web3j.rlp.RlpDecoder.OFFSET_SHORT_STRING;
+
+/**
+ * Cursor style Recursive Length Prefix (RLP) reader, as a lazy alternative to {@link RlpDecoder}.
+ *
+ * <p>Items are read in sequence directly from the encoded input. Nothing is copied until a value
+ * is requested, and then only that value is materialised, e.g.
+ *
+ * <pre>
+ * RlpReader transaction = RlpReader.of(encoded).readList();
+ * BigInteger nonce = transaction.readBigInteger();
+ * transaction.skip(); // gas price
+ * long gasLimit = transaction.readLong();
+ * </pre>
+ *
+ * <p>Readers are not thread safe, but {@link #readList()} returns an independent reader over the
+ * items of a list, sharing the underlying input.
+ */
+public class RlpReader {
+
+    private final byte[] data;
+    private final int limit;
+    private int position;
+
+    // header of the item at headerPosition, parsed on demand
+    private int headerPosition = -1;
+    private boolean list;
+    private int payloadOffset;
+    private int payloadLength;
+
+    private RlpReader(byte[] data, int position, int limit) {
+        this.data = data;
+        this.position = position;
+        this.limit = limit;
+    }
+
+    /**
+     * Creates a reader over RLP encoded items.
+     *
+     * @param rlpEncoded RLP encoded byte-array
+     * @return reader positioned at the first item
+     */
+    public static RlpReader of(byte[] rlpEncoded) {
+        return of(rlpEncoded, 0, rlpEncoded.length);
+    }
+
+    /**
+     * Creates a reader over RLP encoded items in a region of an array.
+     *
+     * @param rlpEncoded array containing the RLP encoding
+     * @param offset start of the encoding
+     * @param length length of the encoding
+     * @return reader positioned at the first item
+     */
+    public static RlpReader of(byte[] rlpEncoded, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > rlpEncoded.length - length) {
+            throw new IndexOutOfBoundsException("RLP invalid parameters while decoding");
+        }
+        return new RlpReader(rlpEncoded, offset, offset + length);
+    }
+
+    /**
+     * Creates a reader over the RLP encoded items between the buffer's position and limit. Array
+     * backed buffers are read in place, other buffers are copied once. The buffer's position is
+     * not modified.
+     *
+     * @param rlpEncoded buffer containing the RLP encoding
+     * @return reader positioned at the first item
+     */
+    public static RlpReader of(ByteBuffer rlpEncoded) {
+        if (rlpEncoded.hasArray()) {
+            return of(
+                    rlpEncoded.array(),
+                    rlpEncoded.arrayOffset() + rlpEncoded.position(),
+                    rlpEncoded.remaining());
+        }
+        byte[] copy = new byte[rlpEncoded.remaining()];
+        rlpEncoded.duplicate().get(copy);
+        return of(copy);
+    }
+
+    /** @return true if there are further items to read */
+    public boolean hasNext() {
+        return position < limit;
+    }
+
+    /** @return true if the next item is a list */
+    public boolean isList() {
+        parseHeader();
+        return list;
+    }
+
+    /** @return true if the next item is a string */
+    public boolean isString() {
+        return !isList();
+    }
+
+    /**
+     * Returns the number of items remaining to be read, without advancing the reader.
+     *
+     * @return count of remaining items
+     */
+    public int remaining() {
+        int savedPosition = position;
+        int count = 0;
+        while (hasNext()) {
+            skip();
+            count++;
+        }
+        position = savedPosition;
+        return count;
+    }
+
+    /** @return independent reader over the remaining items, at the same position */
+    public RlpReader duplicate() {
+        return new RlpReader(data, position, limit);
+    }
+
+    /** Advances past the next item, whether a string or a list. */
+    public void skip() {
+        parseHeader();
+        position = payloadOffset + payloadLength;
+    }
+
+    /**
+     * Reads a list item.
+     *
+     * @return reader over the items of the list
+     */
+    public RlpReader readList() {
+        parseHeader();
+        if (!list) {
+            throw new RuntimeException("RLP expected list but found string");
+        }
+        RlpReader items = new RlpReader(data, payloadOffset, payloadOffset + payloadLength);
+        position = payloadOffset + payloadLength;
+        return items;
+    }
+
+    /**
+     * Reads a string item as a read-only view of the input, without copying.
+     *
+     * @return buffer positioned at the start of the string
+     */
+    public ByteBuffer readSlice() {
+        int offset = readStringPayload();
+        return ByteBuffer.wrap(data, offset, position - offset).slice().asReadOnlyBuffer();
+    }
+
+    /** @return copy of a string item's bytes */
+    public byte[] readBytes() {
+        int offset = readStringPayload();
+        return Arrays.copyOfRange(data, offset, position);
+    }
+
+    /** @return a string item as a 0x prefixed hexadecimal string */
+    public String readHex() {
+        int offset = readStringPayload();
+        return Numeric.toHexString(data, offset, position - offset, true);
+    }
+
+    /** @return a string item as a positive integer, zero if the string is empty */
+    public BigInteger readBigInteger() {
+        int offset = readStringPayload();
+        if (position == offset) {
+            return BigInteger.ZERO;
+        }
+        return new BigInteger(1, data, offset, position - offset);
+    }
+
+    /** @return a string item of at most 8 bytes as a positive integer */
+    public long readLong() {
+        int offset = readStringPayload();
+        if (position - offset > Long.BYTES) {
+            throw new RuntimeException("RLP too many bytes to decode");
+        }
+        long value = 0;
+        for (int i = offset; i < position; i++) {
+            value = (value << 8) | (data[i] & 0xff);
+        }
+        if (value < 0) {
+            throw new RuntimeException("RLP too many bytes to decode");
+        }
+        return value;
+    }
+
+    /** @return a string item of at most 4 bytes as a positive integer */
+    public int readInt() {
+        long value = readLong();
+        if (value > Integer.MAX_VALUE) {
+            throw new RuntimeException("RLP too many bytes to decode");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Reads the next item, string or list, in full into the {@link RlpType} representation used by
+     * {@link RlpDecoder}.
+     *
+     * @return the decoded item
+     */
+    public RlpType readValue() {
+        if (isList()) {
+            RlpReader items = readList();
+            RlpList rlpList = new RlpList(new ArrayList<>());
+            while (items.hasNext()) {
+                rlpList.getValues().add(items.readValue());
+            }
+            return rlpList;
+        }
+        return RlpString.create(readBytes());
+    }
+
+    /** @return copy of the complete encoding of the next item, including its prefix */
+    public byte[] readEncoded() {
+        int start = position;
+        skip();
+        return Arrays.copyOfRange(data, start, position);
+    }
+
+    /** @return offset into the underlying input of the next item */
+    public int position() {
+        return position;
+    }
+
+    private int readStringPayload() {
+        parseHeader();
+        if (list) {
+            throw new RuntimeException("RLP expected string but found list");
+        }
+        position = payloadOffset + payloadLength;
+        return payloadOffset;
+    }
+
+    private void parseHeader() {
+        if (headerPosition == position) {
+            return;
+        }
+        if (position >= limit) {
+            throw new RuntimeException("RLP no more items to decode");
+        }
+
+        int prefix = data[position] & 0xff;
+        if (prefix < OFFSET_SHORT_STRING) {
+            list = false;
+            payloadOffset = position;
+            payloadLength = 1;
+        } else if (prefix <= OFFSET_LONG_STRING) {
+            list = false;
+            payloadOffset = position + 1;
+            payloadLength = prefix - OFFSET_SHORT_STRING;
+        } else if (prefix < OFFSET_SHORT_LIST) {
+            list = false;
+            int lengthOfLength = prefix - OFFSET_LONG_STRING;
+            payloadOffset = position + 1 + lengthOfLength;
+            payloadLength = readLength(lengthOfLength);
+        } else if (prefix <= OFFSET_LONG_LIST) {
+            list = true;
+            payloadOffset = position + 1;
+            payloadLength = prefix - OFFSET_SHORT_LIST;
+        } else {
+            list = true;
+            int lengthOfLength = prefix - OFFSET_LONG_LIST;
+            payloadOffset = position + 1 + lengthOfLength;
+            payloadLength = readLength(lengthOfLength);
+        }
+
+        if (payloadOffset > limit || payloadLength > limit - payloadOffset) {
+            throw new RuntimeException("RLP length mismatch");
+        }
+        headerPosition = position;
+    }
+
+    private int readLength(int lengthOfLength) {
+        if (lengthOfLength > limit - position - 1) {
+            throw new RuntimeException("RLP length mismatch");
+        }
+        long length = 0;
+        for (int i = 1; i <= lengthOfLength; i++) {
+            length = (length << 8) | (data[position + i] & 0xff);
+            if (length > Integer.MAX_VALUE) {
+                throw new RuntimeException("RLP too many bytes to decode");
+            }
+        }
+        return (int) length;
+    }
+}
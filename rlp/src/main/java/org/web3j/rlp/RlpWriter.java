@@ -0,0 +1,277 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.rlp;
+
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.web3j.utils.Numeric;
+
+/**
+ * Streaming Recursive Length Prefix (RLP) writer, which encodes values as they are written rather
+ * than from an {@link RlpList} tree, e.g.
+ *
+ * <pre>
+ * byte[] encoded = new RlpWriter()
+ *         .startList()
+ *         .writeBigInteger(nonce)
+ *         .writeHex(to)
+ *         .endList()
+ *         .toByteArray();
+ * </pre>
+ *
+ * <p>Strings are written with their prefix immediately. As the length of a list is not known until
+ * it is closed, list prefixes are inserted when the encoding is retrieved, in the same single copy
+ * that produces the output.
+ *
+ * <p>Writers are not thread safe.
+ */
+public class RlpWriter {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    // encoding without list prefixes
+    private byte[] buffer;
+    private int size;
+
+    // lists in the order they were started: their bounds in buffer and their last nested list
+    private int[] listStart = new int[8];
+    private int[] listEnd = new int[8];
+    private int[] listLastDescendant = new int[8];
+    private int listCount;
+
+    private int[] openLists = new int[8];
+    private int depth;
+
+    public RlpWriter() {
+        this(256);
+    }
+
+    /** @param initialCapacity expected encoded length, in bytes */
+    public RlpWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    /**
+     * Starts a list, to which all values are added until the matching {@link #endList()}.
+     *
+     * @return this writer
+     */
+    public RlpWriter startList() {
+        if (listCount == listStart.length) {
+            listStart = Arrays.copyOf(listStart, listCount * 2);
+            listEnd = Arrays.copyOf(listEnd, listCount * 2);
+            listLastDescendant = Arrays.copyOf(listLastDescendant, listCount * 2);
+        }
+        if (depth == openLists.length) {
+            openLists = Arrays.copyOf(openLists, depth * 2);
+        }
+        listStart[listCount] = size;
+        openLists[depth++] = listCount++;
+        return this;
+    }
+
+    /**
+     * Ends the most recently started list.
+     *
+     * @return this writer
+     */
+    public RlpWriter endList() {
+        if (depth == 0) {
+            throw new IllegalStateException("No list to end");
+        }
+        int list = openLists[--depth];
+        listEnd[list] = size;
+        listLastDescendant[list] = listCount - 1;
+        return this;
+    }
+
+    public RlpWriter writeBytes(byte[] value) {
+        return writeBytes(value, 0, value.length);
+    }
+
+    public RlpWriter writeBytes(byte[] value, int offset, int length) {
+        ensureCapacity(RlpEncoder.stringLength(value, offset, length));
+        size = RlpEncoder.writeString(value, offset, length, buffer, size);
+        return this;
+    }
+
+    /**
+     * Writes a positive integer as its minimal big-endian representation.
+     *
+     * @param value positive integer, with zero or negative values written as the empty string
+     * @return this writer
+     */
+    public RlpWriter writeBigInteger(BigInteger value) {
+        if (value == null || value.signum() < 1) {
+            return writeBytes(EMPTY);
+        }
+        byte[] bytes = value.toByteArray();
+        // remove leading zero
+        return bytes[0] == 0 ? writeBytes(bytes, 1, bytes.length - 1) : writeBytes(bytes);
+    }
+
+    /**
+     * Writes a positive integer as its minimal big-endian representation.
+     *
+     * @param value positive integer, with zero or negative values written as the empty string
+     * @return this writer
+     */
+    public RlpWriter writeLong(long value) {
+        if (value <= 0) {
+            return writeBytes(EMPTY);
+        }
+        int length = (Long.SIZE - Long.numberOfLeadingZeros(value) + 7) / 8;
+        byte[] bytes = new byte[length];
+        for (int i = length - 1; i >= 0; i--) {
+            bytes[i] = (byte) value;
+            value >>>= 8;
+        }
+        return writeBytes(bytes);
+    }
+
+    /**
+     * Writes the bytes of a hexadecimal string, with or without a 0x prefix.
+     *
+     * @param value hexadecimal string
+     * @return this writer
+     */
+    public RlpWriter writeHex(String value) {
+        return writeBytes(Numeric.hexStringToByteArray(value));
+    }
+
+    /**
+     * Writes a string or list value.
+     *
+     * @param value value to write
+     * @return this writer
+     */
+    public RlpWriter writeValue(RlpType value) {
+        if (value instanceof RlpString) {
+            return writeBytes(((RlpString) value).getBytes());
+        }
+        startList();
+        for (RlpType entry : ((RlpList) value).getValues()) {
+            writeValue(entry);
+        }
+        return endList();
+    }
+
+    /**
+     * Writes an existing encoding as-is, such as the result of {@link RlpEncoder#encode}.
+     *
+     * @param encoded RLP encoded value
+     * @return this writer
+     */
+    public RlpWriter writeEncoded(byte[] encoded) {
+        ensureCapacity(encoded.length);
+        System.arraycopy(encoded, 0, buffer, size, encoded.length);
+        size += encoded.length;
+        return this;
+    }
+
+    /** @return length of the encoding written so far, once all lists have been ended */
+    public int encodedLength() {
+        return encodedLength(payloadLengths());
+    }
+
+    /** @return the encoding written so far, once all lists have been ended */
+    public byte[] toByteArray() {
+        int[] payloadLengths = payloadLengths();
+        byte[] result = new byte[encodedLength(payloadLengths)];
+        writeTo(payloadLengths, result, 0);
+        return result;
+    }
+
+    /**
+     * Copies the encoding written so far into the buffer, starting at its position. The position
+     * is advanced past the encoding.
+     *
+     * @param destination buffer to write the encoding to
+     * @throws BufferOverflowException if the buffer's remaining space is insufficient
+     */
+    public void writeTo(ByteBuffer destination) {
+        int[] payloadLengths = payloadLengths();
+        int length = encodedLength(payloadLengths);
+        if (destination.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        if (destination.hasArray()) {
+            int offset = destination.arrayOffset() + destination.position();
+            writeTo(payloadLengths, destination.array(), offset);
+            destination.position(destination.position() + length);
+        } else {
+            byte[] result = new byte[length];
+            writeTo(payloadLengths, result, 0);
+            destination.put(result);
+        }
+    }
+
+    /** Discards everything written, allowing the writer and its buffers to be reused. */
+    public void reset() {
+        size = 0;
+        listCount = 0;
+        depth = 0;
+    }
+
+    private int encodedLength(int[] payloadLengths) {
+        long length = size;
+        for (int payloadLength : payloadLengths) {
+            length += RlpEncoder.headerLength(payloadLength);
+        }
+        return RlpEncoder.checkedLength(length);
+    }
+
+    private void writeTo(int[] payloadLengths, byte[] data, int position) {
+        int copied = 0;
+        for (int i = 0; i < listCount; i++) {
+            int length = listStart[i] - copied;
+            System.arraycopy(buffer, copied, data, position, length);
+            position = RlpEncoder.writeListHeader(payloadLengths[i], data, position + length);
+            copied = listStart[i];
+        }
+        System.arraycopy(buffer, copied, data, position, size - copied);
+    }
+
+    /**
+     * Computes the payload length of each list, which includes the prefixes of nested lists.
+     * Nested lists are always started after their parent, so are visited first in reverse.
+     */
+    private int[] payloadLengths() {
+        if (depth != 0) {
+            throw new IllegalStateException("Unterminated list");
+        }
+        int[] payloadLengths = new int[listCount];
+        // nestedHeaders[i] holds the total prefix length of lists i to listCount - 1
+        long[] nestedHeaders = new long[listCount + 1];
+        for (int i = listCount - 1; i >= 0; i--) {
+            long payloadLength =
+                    (long) listEnd[i]
+                            - listStart[i]
+                            + nestedHeaders[i + 1]
+                            - nestedHeaders[listLastDescendant[i] + 1];
+            payloadLengths[i] = RlpEncoder.checkedLength(payloadLength);
+            nestedHeaders[i] = nestedHeaders[i + 1] + RlpEncoder.headerLength(payloadLength);
+        }
+        return payloadLengths;
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = RlpEncoder.checkedLength((long) size + additional);
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+        }
+    }
+}
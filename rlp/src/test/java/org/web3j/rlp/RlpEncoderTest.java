@@ -13,11 +13,17 @@
 package org.web3j.rlp;
 
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class RlpEncoderTest {
 
@@ -164,4 +170,24 @@ public class RlpEncoderTest {
         System.arraycopy(encodeMe, 0, expectedEncoding, 1, encodeMe.length);
         assertArrayEquals(RlpEncoder.encode(RlpString.create(encodeMe)), (expectedEncoding));
     }
+
+    @Test
+    public void testEncodeLongLists() {
+        RlpList value = RlpWriterTest.randomList(new Random(7), 4);
+        byte[] encoded = RlpEncoder.encode(value);
+
+        assertEquals(encoded.length, RlpEncoder.encodedLength(value));
+        assertArrayEquals(
+                encoded, RlpEncoder.encode(RlpDecoder.decode(encoded).getValues().get(0)));
+
+        ByteBuffer buffer = ByteBuffer.allocate(encoded.length + 1);
+        buffer.put((byte) 1);
+        RlpEncoder.encode(value, buffer);
+        assertFalse(buffer.hasRemaining());
+        assertArrayEquals(encoded, Arrays.copyOfRange(buffer.array(), 1, buffer.capacity()));
+
+        assertThrows(
+                BufferOverflowException.class,
+                () -> RlpEncoder.encode(value, ByteBuffer.allocate(encoded.length - 1)));
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.rlp;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RlpReaderTest {
+
+    @Test
+    public void testReadStrings() {
+        // The list [ "cat", "dog" ] = [ 0xc8, 0x83, 'c', 'a', 't', 0x83, 'd', 'o', 'g' ]
+        RlpReader reader =
+                RlpReader.of(
+                        new byte[] {
+                            (byte) 0xc8, (byte) 0x83, 'c', 'a', 't', (byte) 0x83, 'd', 'o', 'g'
+                        });
+
+        assertTrue(reader.isList());
+        RlpReader items = reader.readList();
+        assertFalse(reader.hasNext());
+
+        assertEquals(2, items.remaining());
+        assertTrue(items.isString());
+        assertArrayEquals("cat".getBytes(), items.readBytes());
+        assertEquals(ByteBuffer.wrap("dog".getBytes()), items.readSlice());
+        assertFalse(items.hasNext());
+    }
+
+    @Test
+    public void testReadIntegers() {
+        byte[] encoded =
+                RlpEncoder.encode(
+                        new RlpList(
+                                RlpString.create(0),
+                                RlpString.create(127),
+                                RlpString.create(3000000000L),
+                                RlpString.create(Long.MAX_VALUE),
+                                RlpString.create(new BigInteger("ff".repeat(32), 16))));
+
+        RlpReader items = RlpReader.of(encoded).readList();
+
+        assertEquals(0, items.readInt());
+        assertEquals(127, items.readLong());
+        assertEquals(3000000000L, items.readLong());
+        assertEquals(Long.MAX_VALUE, items.duplicate().readLong());
+        assertThrows(RuntimeException.class, items::readInt);
+        assertEquals(new BigInteger("ff".repeat(32), 16), items.duplicate().readBigInteger());
+        assertThrows(RuntimeException.class, items::readLong);
+    }
+
+    @Test
+    public void testReadNestedLists() {
+        RlpList value =
+                new RlpList(
+                        RlpString.create(new byte[60]),
+                        new RlpList(),
+                        new RlpList(RlpString.create("a"), new RlpList(RlpString.create(1))));
+        byte[] encoded = RlpEncoder.encode(value);
+
+        assertArrayEquals(encoded, RlpEncoder.encode(RlpReader.of(encoded).readValue()));
+
+        RlpReader items = RlpReader.of(encoded).readList();
+        items.skip();
+        assertFalse(items.readList().hasNext());
+        assertArrayEquals(RlpEncoder.encode(value.getValues().get(2)), items.readEncoded());
+    }
+
+    @Test
+    public void testReadRegion() {
+        byte[] encoded = {0x01, (byte) 0x82, 0x12, 0x34, 0x02};
+
+        RlpReader reader = RlpReader.of(encoded, 1, 3);
+        assertEquals("0x1234", reader.readHex());
+        assertFalse(reader.hasNext());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(encoded.length);
+        direct.put(encoded).flip().position(1);
+        reader = RlpReader.of(direct);
+        reader.skip();
+        assertEquals(2, reader.readInt());
+        assertEquals(1, direct.position());
+    }
+
+    @Test
+    public void testInvalidEncoding() {
+        byte[] truncated = Arrays.copyOf(RlpEncoder.encode(RlpString.create("dog")), 3);
+
+        assertThrows(RuntimeException.class, () -> RlpReader.of(truncated).readBytes());
+        assertThrows(
+                RuntimeException.class,
+                () -> RlpReader.of(Numeric.hexStringToByteArray("0x83646f67")).readList());
+        assertThrows(RuntimeException.class, () -> RlpReader.of(new byte[0]).skip());
+    }
+}
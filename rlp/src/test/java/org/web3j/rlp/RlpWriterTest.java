@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.rlp;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RlpWriterTest {
+
+    @Test
+    public void testWrite() {
+        assertArrayEquals(
+                new byte[] {(byte) 0xc8, (byte) 0x83, 'c', 'a', 't', (byte) 0x83, 'd', 'o', 'g'},
+                new RlpWriter()
+                        .startList()
+                        .writeBytes("cat".getBytes())
+                        .writeHex("0x646f67")
+                        .endList()
+                        .toByteArray());
+
+        // [ [], [[]], [ [], [[]] ] ]
+        assertArrayEquals(
+                RlpEncoder.encode(
+                        new RlpList(
+                                new RlpList(),
+                                new RlpList(new RlpList()),
+                                new RlpList(new RlpList(), new RlpList(new RlpList())))),
+                new RlpWriter()
+                        .startList()
+                        .startList()
+                        .endList()
+                        .startList()
+                        .startList()
+                        .endList()
+                        .endList()
+                        .startList()
+                        .startList()
+                        .endList()
+                        .startList()
+                        .startList()
+                        .endList()
+                        .endList()
+                        .endList()
+                        .endList()
+                        .toByteArray());
+    }
+
+    @Test
+    public void testWriteIntegers() {
+        long[] values = {0, 0x0f, 0x80, 0x0400, 3000000000L, Long.MAX_VALUE};
+        for (long value : values) {
+            RlpString expected = RlpString.create(value);
+            assertArrayEquals(
+                    RlpEncoder.encode(expected), new RlpWriter().writeLong(value).toByteArray());
+            assertArrayEquals(
+                    RlpEncoder.encode(expected),
+                    new RlpWriter().writeBigInteger(BigInteger.valueOf(value)).toByteArray());
+        }
+    }
+
+    @Test
+    public void testWriteMatchesEncoder() {
+        Random random = new Random(42);
+        RlpList value = randomList(random, 4);
+        byte[] expected = RlpEncoder.encode(value);
+
+        RlpWriter writer = new RlpWriter(16);
+        writer.writeValue(value);
+        assertEquals(expected.length, writer.encodedLength());
+        assertArrayEquals(expected, writer.toByteArray());
+
+        ByteBuffer buffer = ByteBuffer.allocate(expected.length + 2);
+        buffer.position(2);
+        writer.writeTo(buffer);
+        assertEquals(buffer.capacity(), buffer.position());
+        buffer.position(2);
+        assertEquals(ByteBuffer.wrap(expected), buffer);
+
+        writer.reset();
+        assertArrayEquals(
+                RlpEncoder.encode(RlpString.create("dog")),
+                writer.writeEncoded(RlpEncoder.encode(RlpString.create("dog"))).toByteArray());
+    }
+
+    @Test
+    public void testUnterminatedList() {
+        RlpWriter writer = new RlpWriter().startList();
+        assertThrows(IllegalStateException.class, writer::toByteArray);
+        assertThrows(IllegalStateException.class, () -> new RlpWriter().endList());
+    }
+
+    static RlpList randomList(Random random, int depth) {
+        List<RlpType> values = new ArrayList<>();
+        int count = random.nextInt(depth == 4 ? 40 : 8);
+        for (int i = 0; i < count; i++) {
+            if (depth > 0 && random.nextInt(4) == 0) {
+                values.add(randomList(random, depth - 1));
+            } else {
+                byte[] bytes = new byte[random.nextInt(3) == 0 ? random.nextInt(300) : 1];
+                random.nextBytes(bytes);
+                values.add(RlpString.create(bytes));
+            }
+        }
+        return new RlpList(values);
+    }
+}
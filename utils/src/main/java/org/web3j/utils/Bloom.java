@@ -26,6 +26,7 @@ import org.web3j.crypto.Hash;
 public class Bloom {
     // implemented as Ethereum yellow paper, section 4.3.1
     private static final int BYTES_LENGTH = 256;
+
     private final byte[] bytes = new byte[BYTES_LENGTH];
 
     /**
@@ -72,6 +73,59 @@ public class Bloom {
         return true;
     }
 
+    /**
+     * test precomputed bits against bloom filter bytes, without copying them.
+     *
+     * @param bloomBytes the filter bytes.
+     * @param bits bits of the item to be tested
+     * @return true if the item may be present in the filter, otherwise false
+     * @throws IllegalArgumentException if bloomBytes length is not 256, or it is null.
+     */
+    public static boolean test(byte[] bloomBytes, Bits bits) {
+        if (bloomBytes == null || bloomBytes.length != BYTES_LENGTH) {
+            throw new IllegalArgumentException("bytes must be 256 in length");
+        }
+        return bits.isSetIn(bloomBytes);
+    }
+
+    /**
+     * compute the bits an item (topic) sets in a filter, so that it can be tested against many
+     * filters without hashing it each time.
+     *
+     * @param item the item hex string.
+     * @return bits of the item
+     * @throws IllegalArgumentException if item is null.
+     */
+    public static Bits bits(String item) {
+        if (item == null) {
+            throw new IllegalArgumentException("topic can not be null");
+        }
+        return bits(Numeric.hexStringToByteArray(item));
+    }
+
+    /**
+     * compute the bits an item (topic) sets in a filter, so that it can be tested against many
+     * filters without hashing it each time.
+     *
+     * @param item the item bytes.
+     * @return bits of the item
+     * @throws IllegalArgumentException if item is null.
+     */
+    public static Bits bits(byte[] item) {
+        if (item == null) {
+            throw new IllegalArgumentException("topic can not be null");
+        }
+        final byte[] hash = Hash.sha3(item);
+        byte v1 = (byte) (1 << (hash[1] & 0x7));
+        byte v2 = (byte) (1 << (hash[3] & 0x7));
+        byte v3 = (byte) (1 << (hash[5] & 0x7));
+        ByteBuffer byteBuffer = ByteBuffer.wrap(hash).order(ByteOrder.BIG_ENDIAN);
+        int i1 = BYTES_LENGTH - ((byteBuffer.getShort(0) & 0x7ff) >> 3) - 1;
+        int i2 = BYTES_LENGTH - ((byteBuffer.getShort(2) & 0x7ff) >> 3) - 1;
+        int i3 = BYTES_LENGTH - ((byteBuffer.getShort(4) & 0x7ff) >> 3) - 1;
+        return new Bits(new byte[] {v1, v2, v3}, new int[] {i1, i2, i3});
+    }
+
     /** creates empty filter (all bits set to zero). */
     public Bloom() {}
 
@@ -108,7 +162,7 @@ public class Bloom {
         if (topic == null) {
             throw new IllegalArgumentException("topic can not be null");
         }
-        add(Numeric.hexStringToByteArray(topic));
+        add(bits(topic));
     }
 
     /**
@@ -118,13 +172,18 @@ public class Bloom {
      * @throws IllegalArgumentException if topic is null.
      */
     public void add(byte[] topic) {
-        if (topic == null) {
-            throw new IllegalArgumentException("topic can not be null");
+        add(bits(topic));
+    }
+
+    /**
+     * add precomputed bits of an item (topic) to filter.
+     *
+     * @param bits bits of the item, as returned by {@link #bits(byte[])}
+     */
+    public void add(Bits bits) {
+        for (int i = 0; i < 3; i++) {
+            this.bytes[bits.index[i]] |= bits.value[i];
         }
-        BloomValues b = getBloomValues(topic);
-        this.bytes[b.index[0]] |= b.value[0];
-        this.bytes[b.index[1]] |= b.value[1];
-        this.bytes[b.index[2]] |= b.value[2];
     }
 
     /**
@@ -139,7 +198,7 @@ public class Bloom {
         if (topic == null) {
             throw new IllegalArgumentException("topic can not be null");
         }
-        return test(Numeric.hexStringToByteArray(topic));
+        return test(bits(topic));
     }
 
     /**
@@ -151,10 +210,18 @@ public class Bloom {
      * @throws IllegalArgumentException if topic is null.
      */
     public boolean test(byte[] topic) {
-        BloomValues b = getBloomValues(topic);
-        return b.value[0] == (b.value[0] & this.bytes[b.index[0]])
-                && b.value[1] == (b.value[1] & this.bytes[b.index[1]])
-                && b.value[2] == (b.value[2] & this.bytes[b.index[2]]);
+        return test(bits(topic));
+    }
+
+    /**
+     * test presents of an item with precomputed bits.
+     *
+     * @param bits bits of the item, as returned by {@link #bits(byte[])}
+     * @return true if the item is present (false-positive is possible), and false if it is not
+     *     present(false-negative is not possible).
+     */
+    public boolean test(Bits bits) {
+        return bits.isSetIn(this.bytes);
     }
 
     @Override
@@ -201,17 +268,20 @@ public class Bloom {
         System.arraycopy(bytes, 0, this.bytes, 0, BYTES_LENGTH);
     }
 
-    private BloomValues getBloomValues(byte[] item) {
-        final byte[] hash = Hash.sha3(item);
-        byte v1 = (byte) (1 << (hash[1] & 0x7));
-        byte v2 = (byte) (1 << (hash[3] & 0x7));
-        byte v3 = (byte) (1 << (hash[5] & 0x7));
-        ByteBuffer byteBuffer = ByteBuffer.wrap(hash).order(ByteOrder.BIG_ENDIAN);
-        int i1 = BYTES_LENGTH - ((byteBuffer.getShort(0) & 0x7ff) >> 3) - 1;
-        int i2 = BYTES_LENGTH - ((byteBuffer.getShort(2) & 0x7ff) >> 3) - 1;
-        int i3 = BYTES_LENGTH - ((byteBuffer.getShort(4) & 0x7ff) >> 3) - 1;
-        return new BloomValues(new byte[] {v1, v2, v3}, new int[] {i1, i2, i3});
-    }
+    /** The three bits an item sets in a filter, as byte masks and their indexes. */
+    public static final class Bits {
+        private final byte[] value;
+        private final int[] index;
 
-    private record BloomValues(byte[] value, int[] index) {}
+        private Bits(byte[] value, int[] index) {
+            this.value = value;
+            this.index = index;
+        }
+
+        private boolean isSetIn(byte[] bloomBytes) {
+            return value[0] == (value[0] & bloomBytes[index[0]])
+                    && value[1] == (value[1] & bloomBytes[index[1]])
+                    && value[2] == (value[2] & bloomBytes[index[2]]);
+        }
+    }
 }
@@ -2239,4 +2239,35 @@ public class BloomTest {
                 Bloom.test(ethereumSampleLogsBloom, "0x10101121", "0xffffffffffccccaa112", "0xff");
         assertFalse(result, "expected to return false (but false-positive is possible)");
     }
+
+    @Test
+    public void testPrecomputedBitsMatchTopics() {
+        byte[] bloomBytes = Numeric.hexStringToByteArray(ethereumSampleLogsBloom);
+        Bloom bloom = new Bloom(bloomBytes);
+        for (String topic : ethereumSampleLogs) {
+            Bloom.Bits bits = Bloom.bits(topic);
+            assertTrue(bloom.test(bits), "must return true");
+            assertTrue(Bloom.test(bloomBytes, bits), "must return true");
+        }
+        assertFalse(Bloom.test(bloomBytes, Bloom.bits("0xff")));
+    }
+
+    @Test
+    public void testAddedPrecomputedBitsMustReturnTrueWhenTested() {
+        Bloom bloom = new Bloom();
+        Bloom.Bits bits = Bloom.bits(Numeric.hexStringToByteArray(ethereumSampleLogs.get(0)));
+        bloom.add(bits);
+
+        Bloom expected = new Bloom();
+        expected.add(ethereumSampleLogs.get(0));
+        assertEquals(expected, bloom);
+        assertTrue(bloom.test(ethereumSampleLogs.get(0)));
+    }
+
+    @Test
+    public void testPrecomputedBitsWithNot256BytesFilterData() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> Bloom.test(new byte[] {0x1}, Bloom.bits(ethereumSampleLogs.get(0))));
+    }
 }